@@ -289,3 +289,119 @@ INSERT INTO post_category (category_id, name, color) VALUES
 (5, 'Interview', 'bg-red-500');
 
 select * from post_category;
+
+-- 챌린지 통계 요약 테이블: 통계 엔진이 주기적으로 제출수/정답수를 반영
+CREATE TABLE Challenge_Stats (
+  challenge_id INT PRIMARY KEY,                   -- 챌린지 ID
+  total_submissions BIGINT NOT NULL DEFAULT 0,    -- 제출수
+  correct_submissions BIGINT NOT NULL DEFAULT 0,  -- 정답수
+  updated_at DATETIME DEFAULT CURRENT_TIMESTAMP,  -- 마지막 반영 시간
+
+  FOREIGN KEY (challenge_id) REFERENCES Challenges(challenge_id) ON DELETE CASCADE
+);
+
+-- 챌린지 통계 기준 제출 ID: Challenge_Stats 합계는 challenge_sub_id <= last_sub_id 인 제출 전부를 뜻함
+-- 통계 엔진 시드는 요약 테이블 + challenge_sub_id > last_sub_id 인 제출만 집계 (PK 범위)
+CREATE TABLE Challenge_Stats_Watermark (
+  id TINYINT PRIMARY KEY,                         -- 항상 1 (단일 행)
+  last_sub_id INT NOT NULL,                       -- 요약에 반영된 마지막 제출 ID
+  updated_at DATETIME DEFAULT CURRENT_TIMESTAMP   -- 마지막 반영 시간
+);
+
+-- 제출 시각: 기간별(일간/주간/월간) 리더보드 집계에 사용
+ALTER TABLE Challenge_sub
+  ADD COLUMN submitted_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,   -- 제출 시각
+  ADD INDEX idx_challenge_sub_pass_submitted (pass, submitted_at);
+
+
+-- 챌린지/사용자 Elo 레이팅: 채점 1건마다 레이팅 엔진이 메모리에서 갱신하고 주기적으로 반영 (제출 이력에서 재계산하지 않음)
+CREATE TABLE Challenge_Ratings (
+  challenge_id INT PRIMARY KEY,                   -- 챌린지 ID
+  rating DOUBLE NOT NULL,                         -- 레이팅 (높을수록 어려움)
+  games INT NOT NULL DEFAULT 0,                   -- 반영된 대국 수 (제출한 사용자 수)
+  updated_at DATETIME DEFAULT CURRENT_TIMESTAMP,  -- 마지막 반영 시간
+
+  FOREIGN KEY (challenge_id) REFERENCES Challenges(challenge_id) ON DELETE CASCADE
+);
+
+CREATE TABLE User_Ratings (
+  user_id INT PRIMARY KEY,                        -- 사용자 ID
+  rating DOUBLE NOT NULL,                         -- 레이팅 (높을수록 실력이 높음)
+  games INT NOT NULL DEFAULT 0,                   -- 반영된 채점 수
+  updated_at DATETIME DEFAULT CURRENT_TIMESTAMP,  -- 마지막 반영 시간
+
+  FOREIGN KEY (user_id) REFERENCES USERS(user_id) ON DELETE CASCADE
+);
+
+-- 챌린지 카탈로그 변경 로그: 클라이언트가 캐시한 목록을 version 이후 변경분만 받아 동기화 (GET /api/challenges/changes)
+-- 쓰기 경로(등록/일괄 등록/삭제, 관리자 수동 수정)와 무관하게 같은 트랜잭션에서 기록되도록 트리거로 남김
+CREATE TABLE Challenge_Changes (
+  version BIGINT AUTO_INCREMENT PRIMARY KEY,      -- 단조 증가 변경 버전
+  entity_type VARCHAR(20) NOT NULL,               -- challenge / level / category
+  entity_id INT NOT NULL,                         -- 변경된 행의 ID
+  op VARCHAR(10) NOT NULL,                        -- insert / update / delete
+  changed_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+  INDEX idx_challenge_changes_changed_at (changed_at)
+);
+
+CREATE TRIGGER trg_challenges_insert AFTER INSERT ON Challenges FOR EACH ROW
+  INSERT INTO Challenge_Changes (entity_type, entity_id, op) VALUES ('challenge', NEW.challenge_id, 'insert');
+CREATE TRIGGER trg_challenges_update AFTER UPDATE ON Challenges FOR EACH ROW
+  INSERT INTO Challenge_Changes (entity_type, entity_id, op) VALUES ('challenge', NEW.challenge_id, 'update');
+CREATE TRIGGER trg_challenges_delete AFTER DELETE ON Challenges FOR EACH ROW
+  INSERT INTO Challenge_Changes (entity_type, entity_id, op) VALUES ('challenge', OLD.challenge_id, 'delete');
+
+CREATE TRIGGER trg_challenge_levels_insert AFTER INSERT ON Challenge_Levels FOR EACH ROW
+  INSERT INTO Challenge_Changes (entity_type, entity_id, op) VALUES ('level', NEW.level_id, 'insert');
+CREATE TRIGGER trg_challenge_levels_update AFTER UPDATE ON Challenge_Levels FOR EACH ROW
+  INSERT INTO Challenge_Changes (entity_type, entity_id, op) VALUES ('level', NEW.level_id, 'update');
+CREATE TRIGGER trg_challenge_levels_delete AFTER DELETE ON Challenge_Levels FOR EACH ROW
+  INSERT INTO Challenge_Changes (entity_type, entity_id, op) VALUES ('level', OLD.level_id, 'delete');
+
+CREATE TRIGGER trg_challenge_categorys_insert AFTER INSERT ON Challenge_Categorys FOR EACH ROW
+  INSERT INTO Challenge_Changes (entity_type, entity_id, op) VALUES ('category', NEW.category_id, 'insert');
+CREATE TRIGGER trg_challenge_categorys_update AFTER UPDATE ON Challenge_Categorys FOR EACH ROW
+  INSERT INTO Challenge_Changes (entity_type, entity_id, op) VALUES ('category', NEW.category_id, 'update');
+CREATE TRIGGER trg_challenge_categorys_delete AFTER DELETE ON Challenge_Categorys FOR EACH ROW
+  INSERT INTO Challenge_Changes (entity_type, entity_id, op) VALUES ('category', OLD.category_id, 'delete');
+
+-- 게시판 커서 페이징: (created_at, post_id) 순서로 바로 이어 읽기 위한 인덱스 (카테고리 필터용 포함)
+ALTER TABLE posts
+  ADD INDEX idx_posts_created (created_at, post_id),
+  ADD INDEX idx_posts_category_created (category_id, created_at, post_id);
+
+-- 챌린지 첫 통과 기록: (user_id, challenge_id) 기본 키로 첫 통과 경험치를 한 번만 지급 (동시 통과 제출 중복 지급 방지)
+CREATE TABLE Challenge_First_Pass (
+  user_id INT NOT NULL,                                -- 사용자 ID
+  challenge_id INT NOT NULL,                           -- 챌린지 ID
+  passed_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,  -- 첫 통과 시각
+
+  PRIMARY KEY (user_id, challenge_id),
+  FOREIGN KEY (user_id) REFERENCES USERS(user_id) ON DELETE CASCADE,
+  FOREIGN KEY (challenge_id) REFERENCES Challenges(challenge_id) ON DELETE CASCADE
+);
+
+-- 기존 통과 이력으로 채움
+INSERT IGNORE INTO Challenge_First_Pass (user_id, challenge_id, passed_at)
+SELECT user_id, challenge_id, MIN(submitted_at)
+FROM Challenge_sub
+WHERE pass = true
+GROUP BY user_id, challenge_id;
+
+-- 챌린지 첫 채점 기록: 사용자-챌린지 쌍마다 첫 결과 1건만 Elo 레이팅에 반영 (재제출이 레이팅을 반복해서 움직이지 않도록)
+CREATE TABLE Challenge_First_Attempt (
+  user_id INT NOT NULL,                                    -- 사용자 ID
+  challenge_id INT NOT NULL,                               -- 챌린지 ID
+  attempted_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,  -- 첫 채점 시각
+
+  PRIMARY KEY (user_id, challenge_id),
+  FOREIGN KEY (user_id) REFERENCES USERS(user_id) ON DELETE CASCADE,
+  FOREIGN KEY (challenge_id) REFERENCES Challenges(challenge_id) ON DELETE CASCADE
+);
+
+-- 기존 제출 이력으로 채움
+INSERT IGNORE INTO Challenge_First_Attempt (user_id, challenge_id, attempted_at)
+SELECT user_id, challenge_id, MIN(submitted_at)
+FROM Challenge_sub
+GROUP BY user_id, challenge_id;
@@ -0,0 +1,124 @@
+package com.spring.project.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.spring.project.dto.challenge.ChallengeCategoryDTO;
+import com.spring.project.dto.challenge.ChallengeLevelDTO;
+
+/**
+ * 🎯 챌린지 참조 데이터(난이도, 카테고리, 언어) 카탈로그
+ * 불변 스냅샷을 버전과 함께 보관하고, 챌린지 등록/삭제 시 새 스냅샷으로 원자적으로 교체합니다.
+ * 조회 경로에서는 DB I/O 없이 현재 스냅샷만 읽습니다.
+ */
+@Component
+public class ChallengeCatalog {
+
+    @Autowired
+    SqlSessionTemplate mybatis;
+
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    private volatile Snapshot current;
+
+    /**
+     * 현재 카탈로그 스냅샷을 반환합니다 (최초 호출 시 적재)
+     * @return 현재 스냅샷
+     */
+    public Snapshot snapshot() {
+        Snapshot snapshot = current;
+        if (snapshot == null) {
+            synchronized (this) {
+                snapshot = current;
+                if (snapshot == null) {
+                    snapshot = rebuild();
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * DB에서 참조 데이터를 다시 읽어 새 스냅샷으로 교체합니다
+     * @return 새로 교체된 스냅샷
+     */
+    public synchronized Snapshot rebuild() {
+        List<ChallengeLevelDTO> levels = mybatis.selectList("challengeRepository.findAllLevels");
+        List<ChallengeCategoryDTO> categories = mybatis.selectList("challengeRepository.findAllCategories");
+        List<String> languages = mybatis.selectList("challengeRepository.findAllLanguages");
+
+        Snapshot snapshot = new Snapshot(versionSequence.incrementAndGet(), levels, categories, languages);
+        current = snapshot;
+
+        System.out.println("📚 챌린지 카탈로그 갱신 - version: " + snapshot.getVersion()
+                + ", 난이도 " + levels.size() + "개, 카테고리 " + categories.size() + "개, 언어 " + languages.size() + "개");
+        return snapshot;
+    }
+
+    /**
+     * 카탈로그 불변 스냅샷
+     */
+    public static final class Snapshot {
+
+        private final long version;
+        private final List<ChallengeLevelDTO> levels;
+        private final List<ChallengeCategoryDTO> categories;
+        private final List<String> languages;
+        private final Map<Integer, ChallengeLevelDTO> levelById;
+        private final Map<Integer, ChallengeCategoryDTO> categoryById;
+
+        private Snapshot(long version, List<ChallengeLevelDTO> levels, List<ChallengeCategoryDTO> categories, List<String> languages) {
+            this.version = version;
+            this.levels = Collections.unmodifiableList(new ArrayList<>(levels));
+            this.categories = Collections.unmodifiableList(new ArrayList<>(categories));
+            this.languages = Collections.unmodifiableList(new ArrayList<>(languages));
+
+            Map<Integer, ChallengeLevelDTO> levelMap = new HashMap<>();
+            for (ChallengeLevelDTO level : levels) {
+                levelMap.put(level.getLevel_id(), level);
+            }
+            this.levelById = Collections.unmodifiableMap(levelMap);
+
+            Map<Integer, ChallengeCategoryDTO> categoryMap = new HashMap<>();
+            for (ChallengeCategoryDTO category : categories) {
+                categoryMap.put(category.getCategory_id(), category);
+            }
+            this.categoryById = Collections.unmodifiableMap(categoryMap);
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        /** 난이도 목록 (exp 오름차순) */
+        public List<ChallengeLevelDTO> getLevels() {
+            return levels;
+        }
+
+        /** 카테고리 목록 (category_id 오름차순) */
+        public List<ChallengeCategoryDTO> getCategories() {
+            return categories;
+        }
+
+        /** 등록된 챌린지 언어 목록 (이름순) */
+        public List<String> getLanguages() {
+            return languages;
+        }
+
+        public ChallengeLevelDTO getLevel(int levelId) {
+            return levelById.get(levelId);
+        }
+
+        public ChallengeCategoryDTO getCategory(int categoryId) {
+            return categoryById.get(categoryId);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.spring.project.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.spring.project.dto.challenge.ChallengeCategoryDTO;
+import com.spring.project.dto.challenge.ChallengeDTO;
+import com.spring.project.dto.challenge.ChallengeLevelDTO;
+
+/**
+ * 🎯 챌린지 카탈로그 변경분 피드
+ * Challenge_Changes 는 Challenges / Challenge_Levels / Challenge_Categorys 트리거가 쓰기와 같은 트랜잭션에서 채우므로
+ * 등록, 일괄 등록, 삭제, 관리자 수동 수정이 모두 단조 증가 version 으로 기록됩니다.
+ * 클라이언트가 마지막으로 받은 version 을 보내면 그 이후 변경분만 (같은 행의 여러 변경은 마지막 상태로 합쳐) 돌려줍니다.
+ * 로그가 정리되어 이어 받을 수 없는 version 이면 전체 목록을 다시 받도록 fullResync 로 알립니다.
+ *
+ * 🔥 version 은 INSERT 시점에 매겨지고 커밋 순서와 다를 수 있으므로, 아직 열린 트랜잭션이 가진 version 을
+ * 건너뛰지 않도록 "빈 번호"에서 멈춥니다. version 사이의 빈 번호는 열린 트랜잭션이거나 롤백된 기록인데,
+ * 빈 번호 다음 기록이 maxTransactionSeconds 보다 오래되면 롤백으로 보고 넘어갑니다.
+ * ⚠️ 따라서 그보다 오래 열려 있다가 커밋된 트랜잭션의 변경은 피드에서 빠집니다 (전체 목록 재조회 시에만 반영).
+ *    카탈로그 쓰기 트랜잭션보다 넉넉하게 challenge.changes.max-transaction-seconds 로 설정합니다.
+ */
+@Component
+public class ChallengeChangeFeed {
+
+    /** 한 번에 읽는 최대 변경 기록 수 (남으면 hasMore) */
+    private static final int MAX_CHANGES_PER_SYNC = 1000;
+
+    /** 변경 로그 보관 기간 */
+    private static final int RETENTION_DAYS = 30;
+
+    /** 카탈로그 쓰기 트랜잭션이 열려 있을 수 있는 최대 시간 (빈 version 을 롤백으로 볼 때까지 기다리는 시간) */
+    @Value("${challenge.changes.max-transaction-seconds:300}")
+    int maxTransactionSeconds;
+
+    @Autowired
+    SqlSessionTemplate mybatis;
+
+    @Autowired
+    ChallengeCatalog challengeCatalog;
+
+    /** 카탈로그 스냅샷에 반영된 마지막 난이도/카테고리 변경 version */
+    private volatile long catalogSyncedVersion = 0;
+
+    /**
+     * since 이후의 변경분을 반환합니다
+     * @param since 클라이언트가 마지막으로 받은 version (없으면 0)
+     */
+    public ChangeSet changesSince(long since) {
+        Map<String, Object> bounds = mybatis.selectOne("challengeRepository.getChallengeChangeBounds");
+        long minVersion = longValue(bounds, "min_version");
+        long stableVersion = stableVersion();
+
+        // 캐시가 없거나, 정리된 구간 이전이거나, 로그가 초기화되어 현재보다 앞선 version 이면 전체 재동기화
+        if (since <= 0 || since < minVersion - 1 || since > stableVersion) {
+            return ChangeSet.fullResync(stableVersion);
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("since", since);
+        params.put("upToVersion", stableVersion);
+        params.put("limit", MAX_CHANGES_PER_SYNC);
+        List<Map<String, Object>> rows = mybatis.selectList("challengeRepository.getChallengeChanges", params);
+
+        // 같은 행의 변경은 마지막 기록만 의미가 있음 (insert → delete 는 delete, insert → update 는 최신 행)
+        Map<Integer, String> challengeOps = new LinkedHashMap<>();
+        long version = since;
+        long lastCatalogChange = 0;
+        for (Map<String, Object> row : rows) {
+            version = longValue(row, "version");
+            String entityType = (String) row.get("entity_type");
+            if ("challenge".equals(entityType)) {
+                challengeOps.put(((Number) row.get("entity_id")).intValue(), (String) row.get("op"));
+            } else {
+                lastCatalogChange = version;
+            }
+        }
+
+        List<Integer> upsertIds = new ArrayList<>();
+        List<Integer> deletedIds = new ArrayList<>();
+        for (Map.Entry<Integer, String> op : challengeOps.entrySet()) {
+            if ("delete".equals(op.getValue())) {
+                deletedIds.add(op.getKey());
+            } else {
+                upsertIds.add(op.getKey());
+            }
+        }
+        List<ChallengeDTO> challenges = new ArrayList<>();
+        if (!upsertIds.isEmpty()) {
+            challenges = mybatis.selectList("challengeRepository.findChallengeSummariesByIds", upsertIds);
+            if (challenges.size() < upsertIds.size()) {
+                // 로그를 읽은 뒤 삭제된 행은 삭제로 전달 (다음 동기화에서 delete 기록을 다시 받아도 무해)
+                Set<Integer> found = new HashSet<>();
+                for (ChallengeDTO challenge : challenges) {
+                    found.add(challenge.getChallenge_id());
+                }
+                for (Integer id : upsertIds) {
+                    if (!found.contains(id)) {
+                        deletedIds.add(id);
+                    }
+                }
+            }
+        }
+
+        // 난이도/카테고리가 바뀌었으면 (관리자 수동 수정) 카탈로그를 다시 읽고 목록 전체를 함께 보냄 (몇 행 수준)
+        ChallengeCatalog.Snapshot catalog = challengeCatalog.snapshot();
+        if (lastCatalogChange > catalogSyncedVersion) {
+            synchronized (this) {
+                if (lastCatalogChange > catalogSyncedVersion) {
+                    catalog = challengeCatalog.rebuild();
+                    catalogSyncedVersion = lastCatalogChange;
+                }
+            }
+        }
+
+        return new ChangeSet(version, false, rows.size() >= MAX_CHANGES_PER_SYNC, challenges, deletedIds,
+                lastCatalogChange > 0 ? catalog.getLevels() : null,
+                lastCatalogChange > 0 ? catalog.getCategories() : null,
+                !challengeOps.isEmpty() ? catalog.getLanguages() : null);
+    }
+
+    /**
+     * 매일 새벽 보관 기간이 지난 변경 로그를 정리합니다
+     * 정리된 구간 이전 version 을 가진 클라이언트는 fullResync 를 받습니다.
+     */
+    @Scheduled(cron = "0 0 5 * * *")
+    public void prune() {
+        try {
+            long stableVersion = stableVersion();
+            if (stableVersion <= 0) {
+                return;
+            }
+            Map<String, Object> params = new HashMap<>();
+            params.put("retentionDays", RETENTION_DAYS);
+            params.put("keepFromVersion", stableVersion);
+            int removed = mybatis.delete("challengeRepository.pruneChallengeChanges", params);
+            System.out.println("📊 챌린지 변경 로그 정리: " + removed + "건 삭제");
+        } catch (Exception e) {
+            System.err.println("⚠️ 챌린지 변경 로그 정리 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 그 이하의 version 이 모두 커밋(또는 롤백 확정)된 가장 큰 version
+     * 가장 최근의 정착된 기록부터 version 순으로 읽다가, 다음 기록이 아직 정착되지 않은 빈 번호에서 멈춥니다.
+     */
+    long stableVersion() {
+        List<Map<String, Object>> rows = mybatis.selectList("challengeRepository.getRecentChallengeChangeVersions", maxTransactionSeconds);
+        long stable = 0;
+        for (Map<String, Object> row : rows) {
+            long version = longValue(row, "version");
+            Object settledValue = row.get("settled");
+            boolean settled = Boolean.TRUE.equals(settledValue)
+                    || (settledValue instanceof Number && ((Number) settledValue).intValue() != 0);
+            if (stable > 0 && version > stable + 1 && !settled) {
+                break; // stable+1 ~ version-1 을 가진 트랜잭션이 아직 열려 있을 수 있음
+            }
+            stable = version;
+        }
+        return stable;
+    }
+
+    private static long longValue(Map<String, Object> row, String column) {
+        Object value = row != null ? row.get(column) : null;
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+
+    /**
+     * since 이후 변경분 (다음 동기화에는 getVersion() 을 since 로 사용)
+     */
+    public static final class ChangeSet {
+
+        private final long version;
+        private final boolean fullResync;
+        private final boolean hasMore;
+        private final List<ChallengeDTO> challenges;
+        private final List<Integer> deletedChallengeIds;
+        private final List<ChallengeLevelDTO> levels;
+        private final List<ChallengeCategoryDTO> categories;
+        private final List<String> languages;
+
+        private ChangeSet(long version, boolean fullResync, boolean hasMore, List<ChallengeDTO> challenges,
+                          List<Integer> deletedChallengeIds, List<ChallengeLevelDTO> levels,
+                          List<ChallengeCategoryDTO> categories, List<String> languages) {
+            this.version = version;
+            this.fullResync = fullResync;
+            this.hasMore = hasMore;
+            this.challenges = challenges;
+            this.deletedChallengeIds = deletedChallengeIds;
+            this.levels = levels;
+            this.categories = categories;
+            this.languages = languages;
+        }
+
+        private static ChangeSet fullResync(long version) {
+            return new ChangeSet(version, true, false, new ArrayList<>(), new ArrayList<>(), null, null, null);
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        /** true면 변경분으로 이어 받을 수 없으므로 전체 목록을 다시 받고 getVersion() 부터 동기화 */
+        public boolean isFullResync() {
+            return fullResync;
+        }
+
+        /** true면 남은 변경분이 있으므로 getVersion() 으로 바로 다시 요청 */
+        public boolean isHasMore() {
+            return hasMore;
+        }
+
+        /** 추가/수정된 챌린지 요약 (hint, correct 제외) */
+        public List<ChallengeDTO> getChallenges() {
+            return challenges;
+        }
+
+        public List<Integer> getDeletedChallengeIds() {
+            return deletedChallengeIds;
+        }
+
+        /** 난이도가 바뀐 경우에만 전체 목록, 아니면 null */
+        public List<ChallengeLevelDTO> getLevels() {
+            return levels;
+        }
+
+        /** 카테고리가 바뀐 경우에만 전체 목록, 아니면 null */
+        public List<ChallengeCategoryDTO> getCategories() {
+            return categories;
+        }
+
+        /** 챌린지가 바뀐 경우에만 언어 목록 전체, 아니면 null */
+        public List<String> getLanguages() {
+            return languages;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.spring.project.cache;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.spring.project.dto.challenge.ChallengeDTO;
+
+/**
+ * 🎯 챌린지별 완료자 수 인메모리 인덱스
+ * 최초 조회 시 Challenge_sub 를 GROUP BY 한 번으로 적재하고,
+ * 이후에는 제출/삭제 이벤트로 카운트를 갱신하여 챌린지당 O(1)로 응답합니다.
+ */
+@Component
+public class ChallengeCompletionIndex {
+
+    @Autowired
+    SqlSessionTemplate mybatis;
+
+    private final Map<Integer, AtomicInteger> completedCounts = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded = false;
+
+    /**
+     * 특정 챌린지의 완료자 수를 반환합니다
+     * @param challengeId 챌린지 ID
+     * @return 완료자 수 (기록이 없으면 0)
+     */
+    public int getCompletedCount(int challengeId) {
+        ensureLoaded();
+        AtomicInteger count = completedCounts.get(challengeId);
+        return count != null ? count.get() : 0;
+    }
+
+    /**
+     * 챌린지 목록에 대한 완료자 수 맵을 구성합니다
+     * @param challengeList 챌린지 목록
+     * @return challenge_id → 완료자 수
+     */
+    public Map<Integer, Integer> getCompletedCountMap(List<ChallengeDTO> challengeList) {
+        ensureLoaded();
+        Map<Integer, Integer> completedCountMap = new HashMap<>();
+        for (ChallengeDTO challenge : challengeList) {
+            completedCountMap.put(challenge.getChallenge_id(), getCompletedCount(challenge.getChallenge_id()));
+        }
+        return completedCountMap;
+    }
+
+    /**
+     * 🔥 새 제출이 기록되었을 때 완료자 수를 1 증가시킵니다
+     * @param challengeId 챌린지 ID
+     */
+    public void recordSubmission(int challengeId) {
+        ensureLoaded();
+        completedCounts.computeIfAbsent(challengeId, id -> new AtomicInteger()).incrementAndGet();
+    }
+
+    /**
+     * 삭제된 챌린지의 카운트를 제거합니다
+     * @param challengeId 챌린지 ID
+     */
+    public void removeChallenge(int challengeId) {
+        completedCounts.remove(challengeId);
+    }
+
+    /**
+     * DB 기준으로 인덱스를 다시 적재합니다 (GROUP BY 1회)
+     */
+    public synchronized void reload() {
+        List<Map<String, Object>> rows = mybatis.selectList("challengeRepository.getCompletedCountGroupByChallenge");
+
+        Map<Integer, AtomicInteger> fresh = new HashMap<>();
+        for (Map<String, Object> row : rows) {
+            Number challengeId = (Number) row.get("challenge_id");
+            Number completedCount = (Number) row.get("completed_count");
+            if (challengeId != null) {
+                fresh.put(challengeId.intValue(), new AtomicInteger(completedCount != null ? completedCount.intValue() : 0));
+            }
+        }
+
+        completedCounts.clear();
+        completedCounts.putAll(fresh);
+        loaded = true;
+
+        System.out.println("📊 완료자 수 인덱스 적재 완료: " + fresh.size() + "개 챌린지");
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+    }
+}
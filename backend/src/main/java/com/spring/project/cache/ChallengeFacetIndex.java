@@ -0,0 +1,354 @@
+package com.spring.project.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.spring.project.dto.challenge.ChallengeDTO;
+
+/**
+ * 🎯 챌린지 목록 패싯(난이도/카테고리/언어) 비트맵 인덱스
+ * 챌린지마다 challenge_id 오름차순의 조밀한 순번(ordinal)을 부여하고, 패싯 값마다 해당 순번 비트맵을 유지합니다.
+ * 필터 조합은 비트맵 AND 로, 패싯별 개수는 "나머지 필터를 적용한 비트맵 AND 패싯 값 비트맵"의 비트 수로 계산하므로
+ * 목록 페이지와 패싯 개수 모두 DB 조회 없이 응답합니다.
+ * 삭제된 챌린지는 live 비트만 끄고 순번은 재사용하지 않으며, 다시 적재할 때 순번을 압축합니다.
+ */
+@Component
+public class ChallengeFacetIndex {
+
+    @Autowired
+    SqlSessionTemplate mybatis;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 순번 → challenge_id (오름차순, 삭제된 순번도 자리 유지) */
+    private int[] challengeIds = new int[0];
+
+    /** 순번 → 목록 표시용 챌린지 (삭제되면 null) */
+    private ChallengeDTO[] challenges = new ChallengeDTO[0];
+
+    private int ordinalCount = 0;
+    private final Map<Integer, Integer> ordinalById = new HashMap<>();
+
+    private final BitSet live = new BitSet();
+    private final Map<Integer, BitSet> byLevel = new TreeMap<>();
+    private final Map<Integer, BitSet> byCategory = new TreeMap<>();
+    private final Map<String, BitSet> byLanguage = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    private volatile boolean loaded = false;
+
+    /**
+     * 필터에 맞는 챌린지 한 페이지와 패싯별 개수를 조회합니다
+     * @param levelId 난이도 필터 (null = 전체)
+     * @param categoryId 카테고리 필터 (null = 전체)
+     * @param language 언어 필터 (null = 전체, 대소문자 무시)
+     * @param cursor 이전 페이지의 마지막 challenge_id (null = 첫 페이지)
+     * @param limit 페이지 크기
+     * @return 페이지, 전체 일치 수, 패싯별 개수
+     */
+    public Result query(Integer levelId, Integer categoryId, String language, Integer cursor, int limit) {
+        return query(levelId, categoryId, language, null, cursor, limit);
+    }
+
+    /**
+     * 특정 챌린지들을 제외하고 조회합니다 (예: 사용자가 이미 해결한 챌린지)
+     * 제외 집합은 패싯 개수에도 반영됩니다.
+     * @param excludedChallengeIds 제외할 challenge_id 비트맵 (null = 제외 없음)
+     */
+    public Result query(Integer levelId, Integer categoryId, String language, BitSet excludedChallengeIds, Integer cursor, int limit) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            BitSet base = (BitSet) live.clone();
+            if (excludedChallengeIds != null) {
+                for (int id = excludedChallengeIds.nextSetBit(0); id >= 0; id = excludedChallengeIds.nextSetBit(id + 1)) {
+                    Integer ordinal = ordinalById.get(id);
+                    if (ordinal != null) {
+                        base.clear(ordinal);
+                    }
+                }
+            }
+
+            BitSet levelFilter = levelId == null ? null : facet(byLevel, levelId);
+            BitSet categoryFilter = categoryId == null ? null : facet(byCategory, categoryId);
+            BitSet languageFilter = language == null ? null : facet(byLanguage, language);
+
+            // 🔥 패싯 개수: 각 패싯은 자기 자신을 제외한 나머지 필터만 적용한 집합 기준
+            Map<String, Object> facetCounts = new LinkedHashMap<>();
+            facetCounts.put("levels", countByValue(byLevel, intersect(base, categoryFilter, languageFilter)));
+            facetCounts.put("categories", countByValue(byCategory, intersect(base, levelFilter, languageFilter)));
+            facetCounts.put("languages", countByValue(byLanguage, intersect(base, levelFilter, categoryFilter)));
+
+            BitSet matched = intersect(base, levelFilter, categoryFilter, languageFilter);
+
+            // challenge_id 내림차순 = 순번 내림차순으로 커서 이전부터 limit 개
+            List<ChallengeDTO> page = new ArrayList<>(Math.min(limit, 64));
+            int from = cursor == null ? ordinalCount - 1 : ordinalBefore(cursor);
+            int ordinal = from < 0 ? -1 : matched.previousSetBit(from);
+            while (ordinal >= 0 && page.size() < limit) {
+                page.add(challenges[ordinal]);
+                ordinal = ordinal == 0 ? -1 : matched.previousSetBit(ordinal - 1);
+            }
+            boolean hasMore = ordinal >= 0;
+            Integer nextCursor = hasMore ? page.get(page.size() - 1).getChallenge_id() : null;
+
+            return new Result(page, matched.cardinality(), hasMore, nextCursor, facetCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 난이도 × 카테고리 비트맵 교집합에서 제외 집합에 없는 챌린지를 최신순으로 최대 max 개 모읍니다
+     * 해당 조합의 비트만 훑으므로 전체 목록을 읽지 않습니다.
+     * @param excludedChallengeIds 제외할 challenge_id 비트맵 (null = 제외 없음)
+     */
+    public List<ChallengeDTO> collect(int levelId, int categoryId, BitSet excludedChallengeIds, int max) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            List<ChallengeDTO> collected = new ArrayList<>();
+            BitSet levelBits = byLevel.get(levelId);
+            BitSet categoryBits = byCategory.get(categoryId);
+            if (levelBits == null || categoryBits == null || max <= 0) {
+                return collected;
+            }
+            BitSet matched = intersect(levelBits, categoryBits);
+            for (int ordinal = matched.length() - 1; ordinal >= 0 && collected.size() < max; ordinal = matched.previousSetBit(ordinal - 1)) {
+                if (excludedChallengeIds == null || !excludedChallengeIds.get(challengeIds[ordinal])) {
+                    collected.add(challenges[ordinal]);
+                }
+                if (ordinal == 0) {
+                    break;
+                }
+            }
+            return collected;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 인덱스에 있는 챌린지 요약 (없거나 삭제되었으면 null) */
+    public ChallengeDTO getChallenge(int challengeId) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinalById.get(challengeId);
+            return ordinal != null ? challenges[ordinal] : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 🔥 등록된 챌린지를 인덱스에 추가합니다 (challenge_id 는 기존 최대값보다 커야 순번 순서가 유지됨)
+     */
+    public void addChallenge(ChallengeDTO challenge) {
+        if (!loaded) {
+            return; // 첫 조회 때 DB에서 전체를 적재하면서 포함됨
+        }
+        lock.writeLock().lock();
+        try {
+            if (ordinalById.containsKey(challenge.getChallenge_id())
+                    || ordinalCount > 0 && challengeIds[ordinalCount - 1] > challenge.getChallenge_id()) {
+                loaded = false; // 순번 순서가 깨지는 경우 다음 조회 때 다시 적재
+                return;
+            }
+            addLocked(challenge);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제된 챌린지를 인덱스에서 제외합니다 (순번 자리는 다음 적재 때 정리)
+     */
+    public void removeChallenge(int challengeId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalById.remove(challengeId);
+            if (ordinal == null) {
+                return;
+            }
+            ChallengeDTO removed = challenges[ordinal];
+            challenges[ordinal] = null;
+            live.clear(ordinal);
+            clearBit(byLevel, removed.getLevel_id(), ordinal);
+            clearBit(byCategory, removed.getCategory_id(), ordinal);
+            if (removed.getLanguage() != null) {
+                clearBit(byLanguage, removed.getLanguage(), ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * DB 기준으로 인덱스를 다시 구성합니다 (Challenges 전체 조회 1회, 순번 압축)
+     */
+    public synchronized void reload() {
+        List<ChallengeDTO> rows = mybatis.selectList("challengeRepository.findChallengeSummaries");
+
+        lock.writeLock().lock();
+        try {
+            challengeIds = new int[Math.max(16, rows.size())];
+            challenges = new ChallengeDTO[challengeIds.length];
+            ordinalCount = 0;
+            ordinalById.clear();
+            live.clear();
+            byLevel.clear();
+            byCategory.clear();
+            byLanguage.clear();
+            for (ChallengeDTO row : rows) {
+                addLocked(row);
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        System.out.println("📊 챌린지 패싯 인덱스 적재 완료: " + rows.size() + "개 챌린지, 난이도 " + byLevel.size()
+                + "개, 카테고리 " + byCategory.size() + "개, 언어 " + byLanguage.size() + "개");
+    }
+
+    private void addLocked(ChallengeDTO challenge) {
+        if (ordinalCount == challengeIds.length) {
+            int capacity = Math.max(16, ordinalCount * 2);
+            challengeIds = Arrays.copyOf(challengeIds, capacity);
+            challenges = Arrays.copyOf(challenges, capacity);
+        }
+        int ordinal = ordinalCount++;
+        ChallengeDTO summary = summaryOf(challenge);
+        challengeIds[ordinal] = summary.getChallenge_id();
+        challenges[ordinal] = summary;
+        ordinalById.put(summary.getChallenge_id(), ordinal);
+
+        live.set(ordinal);
+        byLevel.computeIfAbsent(summary.getLevel_id(), key -> new BitSet()).set(ordinal);
+        byCategory.computeIfAbsent(summary.getCategory_id(), key -> new BitSet()).set(ordinal);
+        if (summary.getLanguage() != null && !summary.getLanguage().trim().isEmpty()) {
+            byLanguage.computeIfAbsent(summary.getLanguage(), key -> new BitSet()).set(ordinal);
+        }
+    }
+
+    /** 목록에 필요한 컬럼만 복사 (hint, correct 제외) */
+    private static ChallengeDTO summaryOf(ChallengeDTO challenge) {
+        ChallengeDTO summary = new ChallengeDTO();
+        summary.setChallenge_id(challenge.getChallenge_id());
+        summary.setChallenge_title(challenge.getChallenge_title());
+        summary.setLevel_id(challenge.getLevel_id());
+        summary.setCategory_id(challenge.getCategory_id());
+        summary.setLanguage(challenge.getLanguage());
+        summary.setContent(challenge.getContent());
+        return summary;
+    }
+
+    /** challenge_id 가 cursor 보다 작은 마지막 순번 (없으면 -1) */
+    private int ordinalBefore(int cursor) {
+        int index = Arrays.binarySearch(challengeIds, 0, ordinalCount, cursor);
+        return index >= 0 ? index - 1 : -index - 2;
+    }
+
+    /** 패싯 값의 비트맵 (값이 없으면 빈 비트맵 → 결과 없음) */
+    private static <K> BitSet facet(Map<K, BitSet> facets, K value) {
+        BitSet bits = facets.get(value);
+        return bits != null ? bits : new BitSet();
+    }
+
+    /** 기준 비트맵과 주어진 필터들의 AND (null 필터는 건너뜀) */
+    private static BitSet intersect(BitSet base, BitSet... filters) {
+        BitSet result = (BitSet) base.clone();
+        for (BitSet filter : filters) {
+            if (filter != null) {
+                result.and(filter);
+            }
+        }
+        return result;
+    }
+
+    /** 기준 집합 안에서 패싯 값별 챌린지 수 (0개인 값도 포함) */
+    private static <K> Map<K, Integer> countByValue(Map<K, BitSet> facets, BitSet base) {
+        Map<K, Integer> counts = new LinkedHashMap<>();
+        BitSet scratch = new BitSet();
+        for (Map.Entry<K, BitSet> entry : facets.entrySet()) {
+            scratch.clear();
+            scratch.or(entry.getValue());
+            scratch.and(base);
+            counts.put(entry.getKey(), scratch.cardinality());
+        }
+        return counts;
+    }
+
+    private static <K> void clearBit(Map<K, BitSet> facets, K value, int ordinal) {
+        BitSet bits = facets.get(value);
+        if (bits != null) {
+            bits.clear(ordinal);
+            if (bits.isEmpty()) {
+                facets.remove(value);
+            }
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    /**
+     * 패싯 조회 결과
+     */
+    public static final class Result {
+
+        private final List<ChallengeDTO> challenges;
+        private final int totalCount;
+        private final boolean hasMore;
+        private final Integer nextCursor;
+        private final Map<String, Object> facetCounts;
+
+        private Result(List<ChallengeDTO> challenges, int totalCount, boolean hasMore, Integer nextCursor, Map<String, Object> facetCounts) {
+            this.challenges = challenges;
+            this.totalCount = totalCount;
+            this.hasMore = hasMore;
+            this.nextCursor = nextCursor;
+            this.facetCounts = facetCounts;
+        }
+
+        /** 현재 페이지의 챌린지 (challenge_id 내림차순) */
+        public List<ChallengeDTO> getChallenges() {
+            return challenges;
+        }
+
+        /** 필터에 일치하는 전체 챌린지 수 */
+        public int getTotalCount() {
+            return totalCount;
+        }
+
+        public boolean isHasMore() {
+            return hasMore;
+        }
+
+        public Integer getNextCursor() {
+            return nextCursor;
+        }
+
+        /** levels(level_id → 개수), categories(category_id → 개수), languages(언어 → 개수) */
+        public Map<String, Object> getFacetCounts() {
+            return facetCounts;
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.spring.project.cache;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.spring.project.dto.challenge.ChallengeDTO;
+import com.spring.project.dto.challenge.ChallengeLevelDTO;
+import com.spring.project.dto.challenge.ChallengeLevelSuggestionDTO;
+
+/**
+ * 🎯 Elo 방식 챌린지 난이도 보정 엔진
+ * 사용자-챌린지 쌍의 첫 채점 결과를 "사용자 vs 챌린지" 대국으로 보고, 통과하면 사용자 승리로 두 레이팅을 상수 시간에 갱신합니다.
+ * (같은 쌍의 재제출은 ChallengeRepository 가 Challenge_First_Attempt 로 걸러 이 엔진에 넘기지 않음)
+ * 레이팅은 Challenge_Ratings / User_Ratings 요약 테이블에서 한 번 적재하고 변경분만 주기적으로 반영하므로
+ * 제출 이력 전체를 다시 계산하지 않습니다.
+ * 하루 한 번 레이팅 순으로 챌린지를 다시 나눠(현재 난이도별 챌린지 수 비율 유지) 관리자 검토용 추천 난이도를 만듭니다.
+ */
+@Component
+public class ChallengeRatingEngine implements DisposableBean {
+
+    /** 신규 사용자 / 난이도 중간 챌린지의 시작 레이팅 */
+    private static final double BASE_RATING = 1500.0;
+
+    /** 수기 난이도 한 단계당 챌린지 시작 레이팅 차이 */
+    private static final double LEVEL_RATING_STEP = 200.0;
+
+    /** 갱신 폭 (배치 초기에는 크게, 이후 작게) */
+    private static final double USER_K = 32.0;
+    private static final double CHALLENGE_K = 16.0;
+    private static final int PROVISIONAL_GAMES = 20;
+
+    /** 추천 난이도를 계산할 최소 대국 수 (쌍마다 1건이므로 = 제출한 사용자 수) */
+    private static final int MIN_GAMES_FOR_SUGGESTION = 10;
+
+    @Autowired
+    SqlSessionTemplate mybatis;
+
+    @Autowired
+    ChallengeCatalog challengeCatalog;
+
+    @Autowired
+    ChallengeFacetIndex facetIndex;
+
+    private final Map<Integer, Rating> challengeRatings = new ConcurrentHashMap<>();
+    private final Map<Integer, Rating> userRatings = new ConcurrentHashMap<>();
+
+    /** 마지막 flush 이후 변경된 ID */
+    private final Set<Integer> dirtyChallengeIds = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> dirtyUserIds = ConcurrentHashMap.newKeySet();
+
+    /** 마지막으로 계산된 추천 난이도 (현재 난이도와 다른 챌린지만) */
+    private volatile List<ChallengeLevelSuggestionDTO> suggestions;
+    private volatile LocalDateTime suggestionsGeneratedAt;
+
+    private volatile boolean loaded = false;
+
+    /** 추천 난이도 계산끼리만 직렬화 (채점 경로의 엔진 잠금과 분리) */
+    private final Object suggestionLock = new Object();
+
+    /**
+     * 🔥 사용자-챌린지 쌍의 첫 채점 결과 1건을 레이팅에 반영합니다 (O(1))
+     * @param userId 사용자 ID
+     * @param challengeId 챌린지 ID
+     * @param pass 통과 여부 (통과 = 사용자 승리)
+     */
+    public void recordResult(int userId, int challengeId, boolean pass) {
+        ensureLoaded();
+        Rating challenge = challengeRatings.computeIfAbsent(challengeId, id -> new Rating(initialChallengeRating(id)));
+        Rating user = userRatings.computeIfAbsent(userId, id -> new Rating(BASE_RATING));
+
+        synchronized (this) {
+            double expected = 1.0 / (1.0 + Math.pow(10.0, (challenge.rating - user.rating) / 400.0));
+            double delta = (pass ? 1.0 : 0.0) - expected;
+            user.rating += kFactor(USER_K, user.games) * delta;
+            challenge.rating -= kFactor(CHALLENGE_K, challenge.games) * delta;
+            user.games++;
+            challenge.games++;
+        }
+        dirtyUserIds.add(userId);
+        dirtyChallengeIds.add(challengeId);
+    }
+
+    /** 챌린지 레이팅 (기록이 없으면 수기 난이도 기준 시작값) */
+    public double getChallengeRating(int challengeId) {
+        ensureLoaded();
+        Rating rating = challengeRatings.get(challengeId);
+        return rating != null ? rating.rating : initialChallengeRating(challengeId);
+    }
+
+    /** 사용자 레이팅 (기록이 없으면 BASE_RATING) */
+    public double getUserRating(int userId) {
+        ensureLoaded();
+        Rating rating = userRatings.get(userId);
+        return rating != null ? rating.rating : BASE_RATING;
+    }
+
+    /**
+     * 삭제된 챌린지의 레이팅을 제거합니다 (DB 행은 ON DELETE CASCADE)
+     */
+    public void removeChallenge(int challengeId) {
+        challengeRatings.remove(challengeId);
+        dirtyChallengeIds.remove(challengeId);
+    }
+
+    /**
+     * 마지막으로 계산된 추천 난이도 목록 (아직 계산 전이면 지금 계산)
+     */
+    public List<ChallengeLevelSuggestionDTO> getSuggestions() {
+        List<ChallengeLevelSuggestionDTO> current = suggestions;
+        return current != null ? current : recomputeSuggestions();
+    }
+
+    public LocalDateTime getSuggestionsGeneratedAt() {
+        return suggestionsGeneratedAt;
+    }
+
+    /**
+     * 매일 새벽 추천 난이도를 다시 계산합니다
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void rebucketChallenges() {
+        recomputeSuggestions();
+    }
+
+    /**
+     * 📊 레이팅 순으로 챌린지를 다시 나눠 추천 난이도를 계산합니다
+     * 채점 수가 MIN_GAMES_FOR_SUGGESTION 이상인 챌린지를 레이팅 오름차순으로 정렬한 뒤,
+     * 현재 난이도별 챌린지 수만큼 쉬운 난이도부터 차례로 배정합니다.
+     * 🔥 엔진 잠금(recordResult 와 공유)은 레이팅 값을 복사하는 동안만 잡고, 정렬/배정은 잠금 밖에서 합니다.
+     */
+    public List<ChallengeLevelSuggestionDTO> recomputeSuggestions() {
+        ensureLoaded();
+        synchronized (suggestionLock) {
+            Map<Integer, Rating> ratingSnapshot = new HashMap<>();
+            synchronized (this) {
+                for (Map.Entry<Integer, Rating> entry : challengeRatings.entrySet()) {
+                    Rating rating = entry.getValue();
+                    if (rating.games >= MIN_GAMES_FOR_SUGGESTION) {
+                        Rating copy = new Rating(rating.rating);
+                        copy.games = rating.games;
+                        ratingSnapshot.put(entry.getKey(), copy);
+                    }
+                }
+            }
+
+            List<ChallengeLevelDTO> levels = challengeCatalog.snapshot().getLevels();
+            Map<Integer, Integer> levelIndexById = new HashMap<>();
+            for (int i = 0; i < levels.size(); i++) {
+                levelIndexById.put(levels.get(i).getLevel_id(), i);
+            }
+
+            List<ChallengeLevelSuggestionDTO> rated = new ArrayList<>();
+            int[] countByLevel = new int[levels.size()];
+            for (Map.Entry<Integer, Rating> entry : ratingSnapshot.entrySet()) {
+                ChallengeDTO challenge = facetIndex.getChallenge(entry.getKey());
+                Integer levelIndex = challenge != null ? levelIndexById.get(challenge.getLevel_id()) : null;
+                if (levelIndex == null) {
+                    continue;
+                }
+                Rating rating = entry.getValue();
+                ChallengeLevelSuggestionDTO suggestion = new ChallengeLevelSuggestionDTO();
+                suggestion.setChallenge_id(challenge.getChallenge_id());
+                suggestion.setChallenge_title(challenge.getChallenge_title());
+                suggestion.setCurrent_level_id(challenge.getLevel_id());
+                suggestion.setRating(Math.round(rating.rating * 10) / 10.0);
+                suggestion.setGames(rating.games);
+                rated.add(suggestion);
+                countByLevel[levelIndex]++;
+            }
+
+            rated.sort((a, b) -> Double.compare(a.getRating(), b.getRating()));
+            List<ChallengeLevelSuggestionDTO> changed = new ArrayList<>();
+            int position = 0;
+            for (int levelIndex = 0; levelIndex < levels.size(); levelIndex++) {
+                for (int i = 0; i < countByLevel[levelIndex]; i++, position++) {
+                    ChallengeLevelSuggestionDTO suggestion = rated.get(position);
+                    suggestion.setSuggested_level_id(levels.get(levelIndex).getLevel_id());
+                    if (suggestion.getSuggested_level_id() != suggestion.getCurrent_level_id()) {
+                        changed.add(suggestion);
+                    }
+                }
+            }
+
+            suggestions = Collections.unmodifiableList(changed);
+            suggestionsGeneratedAt = LocalDateTime.now();
+            System.out.println("📊 챌린지 추천 난이도 계산 완료: 대상 " + rated.size() + "개 중 변경 제안 " + changed.size() + "개");
+            return suggestions;
+        }
+    }
+
+    /**
+     * 변경된 레이팅을 요약 테이블에 일괄 반영합니다
+     */
+    @Scheduled(fixedDelay = 30000)
+    public void flush() {
+        if (!loaded) {
+            return;
+        }
+        flush(dirtyChallengeIds, challengeRatings, "challengeRepository.upsertChallengeRatings");
+        flush(dirtyUserIds, userRatings, "challengeRepository.upsertUserRatings");
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private void flush(Set<Integer> dirtyIds, Map<Integer, Rating> ratings, String statement) {
+        if (dirtyIds.isEmpty()) {
+            return;
+        }
+        List<Map<String, Object>> rows = new ArrayList<>();
+        Iterator<Integer> iterator = dirtyIds.iterator();
+        while (iterator.hasNext()) {
+            Integer id = iterator.next();
+            iterator.remove();
+            Rating rating = ratings.get(id);
+            if (rating == null) {
+                continue;
+            }
+            Map<String, Object> row = new HashMap<>();
+            row.put("id", id);
+            synchronized (this) {
+                row.put("rating", rating.rating);
+                row.put("games", rating.games);
+            }
+            rows.add(row);
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            mybatis.insert(statement, rows);
+            System.out.println("📊 레이팅 요약 테이블 반영 (" + statement + "): " + rows.size() + "건");
+        } catch (Exception e) {
+            System.err.println("⚠️ 레이팅 flush 실패: " + e.getMessage());
+            for (Map<String, Object> row : rows) {
+                dirtyIds.add((Integer) row.get("id")); // 다음 주기에 재시도
+            }
+        }
+    }
+
+    /** 수기 난이도 순위를 중앙 기준 ±LEVEL_RATING_STEP 단위로 환산 */
+    private double initialChallengeRating(int challengeId) {
+        ChallengeDTO challenge = facetIndex.getChallenge(challengeId);
+        List<ChallengeLevelDTO> levels = challengeCatalog.snapshot().getLevels();
+        if (challenge != null) {
+            for (int i = 0; i < levels.size(); i++) {
+                if (levels.get(i).getLevel_id() == challenge.getLevel_id()) {
+                    return BASE_RATING + (i - (levels.size() - 1) / 2.0) * LEVEL_RATING_STEP;
+                }
+            }
+        }
+        return BASE_RATING;
+    }
+
+    /** 채점 수가 적은 동안은 K 를 두 배로 두어 빠르게 수렴 */
+    private static double kFactor(double k, int games) {
+        return games < PROVISIONAL_GAMES ? k * 2 : k;
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    load();
+                }
+            }
+        }
+    }
+
+    private void load() {
+        load(mybatis.selectList("challengeRepository.getChallengeRatings"), "challenge_id", challengeRatings);
+        load(mybatis.selectList("challengeRepository.getUserRatings"), "user_id", userRatings);
+        loaded = true;
+        System.out.println("📊 레이팅 엔진 적재 완료: 챌린지 " + challengeRatings.size() + "개, 사용자 " + userRatings.size() + "명");
+    }
+
+    private static void load(List<Map<String, Object>> rows, String idColumn, Map<Integer, Rating> ratings) {
+        for (Map<String, Object> row : rows) {
+            Number id = (Number) row.get(idColumn);
+            Number rating = (Number) row.get("rating");
+            Number games = (Number) row.get("games");
+            if (id == null || rating == null) {
+                continue;
+            }
+            Rating loadedRating = new Rating(rating.doubleValue());
+            loadedRating.games = games != null ? games.intValue() : 0;
+            ratings.put(id.intValue(), loadedRating);
+        }
+    }
+
+    /**
+     * 레이팅과 반영된 채점 수 (엔진 잠금 안에서만 수정, 추천 계산용 복사본은 잠금 밖에서 읽음)
+     */
+    private static final class Rating {
+        double rating;
+        int games;
+
+        Rating(double rating) {
+            this.rating = rating;
+        }
+    }
+}
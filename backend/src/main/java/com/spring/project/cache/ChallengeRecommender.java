@@ -0,0 +1,231 @@
+package com.spring.project.cache;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.spring.project.dto.challenge.ChallengeCategoryDTO;
+import com.spring.project.dto.challenge.ChallengeDTO;
+import com.spring.project.dto.challenge.ChallengeLevelDTO;
+import com.spring.project.dto.challenge.ChallengeRecommendationDTO;
+import com.spring.project.dto.user.UserGradeDTO;
+
+/**
+ * 🎯 "다음 챌린지" 추천 엔진
+ * 사용자 등급으로 목표 난이도를 정하고, 사용자의 제출 이력에서 카테고리/언어별 약점을 계산한 뒤
+ * 목표 난이도(와 인접 난이도) × 카테고리 비트맵에서 아직 해결하지 않은 챌린지만 후보로 모아 점수를 매깁니다.
+ * 후보 수는 (난이도 3개 × 카테고리 수 × CANDIDATES_PER_BUCKET) 이하로 제한되므로 전체 목록을 훑지 않고,
+ * 필요한 데이터는 모두 인메모리 인덱스(패싯, 해결 집합, 통계, 리더보드)에서 읽습니다.
+ */
+@Component
+public class ChallengeRecommender {
+
+    /** 난이도 × 카테고리 조합마다 모으는 최대 후보 수 */
+    private static final int CANDIDATES_PER_BUCKET = 20;
+
+    /** 점수 가중치 (난이도 적합도, 카테고리 약점, 언어 약점, 전체 정답률) */
+    private static final double LEVEL_WEIGHT = 0.4;
+    private static final double CATEGORY_WEIGHT = 0.25;
+    private static final double LANGUAGE_WEIGHT = 0.15;
+    private static final double PASS_RATE_WEIGHT = 0.2;
+
+    /** 목표 난이도 대비 적합도 (한 단계 위는 도전, 한 단계 아래는 복습) */
+    private static final double TARGET_LEVEL_FIT = 1.0;
+    private static final double HARDER_LEVEL_FIT = 0.6;
+    private static final double EASIER_LEVEL_FIT = 0.4;
+
+    @Autowired
+    SqlSessionTemplate mybatis;
+
+    @Autowired
+    ChallengeCatalog challengeCatalog;
+
+    @Autowired
+    ChallengeFacetIndex facetIndex;
+
+    @Autowired
+    UserSolvedSetCache userSolvedSets;
+
+    @Autowired
+    ChallengeStatisticsEngine statisticsEngine;
+
+    @Autowired
+    ExperienceLeaderboard experienceLeaderboard;
+
+    /** 등급 기준표 (최소 경험치 오름차순, 최초 사용 시 1회 적재) */
+    private volatile List<UserGradeDTO> grades;
+
+    /**
+     * 사용자에게 추천할 미해결 챌린지를 점수 순으로 반환합니다
+     * @param userId 사용자 ID
+     * @param limit 최대 개수
+     */
+    public Recommendation recommend(int userId, int limit) {
+        ChallengeCatalog.Snapshot catalog = challengeCatalog.snapshot();
+        List<ChallengeLevelDTO> levels = catalog.getLevels();
+        List<ChallengeCategoryDTO> categories = catalog.getCategories();
+        if (levels.isEmpty() || limit <= 0) {
+            return new Recommendation(null, new ArrayList<>());
+        }
+
+        // 1. 등급 → 목표 난이도 (등급 순위를 난이도 순위에 비례 배치)
+        int targetIndex = targetLevelIndex(experienceLeaderboard.getRank(userId).getExperience_points(), levels.size());
+
+        // 2. 제출 이력 → 카테고리/언어별 약점 (해결한 챌린지 수 / 시도한 챌린지 수의 보정값)
+        UserSolvedSetCache.Snapshot solvedSet = userSolvedSets.getSnapshot(userId);
+        Map<Integer, int[]> categoryRecord = new HashMap<>();   // [시도, 해결]
+        Map<String, int[]> languageRecord = new HashMap<>();
+        BitSet attempted = solvedSet.attemptedIds();
+        for (int id = attempted.nextSetBit(0); id >= 0; id = attempted.nextSetBit(id + 1)) {
+            ChallengeDTO challenge = facetIndex.getChallenge(id);
+            if (challenge == null) {
+                continue;
+            }
+            int solved = solvedSet.isSolved(id) ? 1 : 0;
+            int[] byCategory = categoryRecord.computeIfAbsent(challenge.getCategory_id(), key -> new int[2]);
+            byCategory[0]++;
+            byCategory[1] += solved;
+            if (challenge.getLanguage() != null) {
+                int[] byLanguage = languageRecord.computeIfAbsent(challenge.getLanguage().toLowerCase(), key -> new int[2]);
+                byLanguage[0]++;
+                byLanguage[1] += solved;
+            }
+        }
+
+        // 3. 목표/인접 난이도 × 카테고리 비트맵에서 미해결 후보 수집 후 점수 계산
+        BitSet solvedIds = solvedSet.solvedIds();
+        List<ChallengeRecommendationDTO> scored = new ArrayList<>();
+        for (int offset : new int[] {0, 1, -1}) {
+            int levelIndex = targetIndex + offset;
+            if (levelIndex < 0 || levelIndex >= levels.size()) {
+                continue;
+            }
+            double levelFit = offset == 0 ? TARGET_LEVEL_FIT : offset > 0 ? HARDER_LEVEL_FIT : EASIER_LEVEL_FIT;
+            for (ChallengeCategoryDTO category : categories) {
+                double categoryWeakness = weakness(categoryRecord.get(category.getCategory_id()));
+                List<ChallengeDTO> candidates = facetIndex.collect(levels.get(levelIndex).getLevel_id(), category.getCategory_id(),
+                        solvedIds, CANDIDATES_PER_BUCKET);
+                for (ChallengeDTO candidate : candidates) {
+                    String language = candidate.getLanguage() != null ? candidate.getLanguage().toLowerCase() : null;
+                    double languageWeakness = weakness(language != null ? languageRecord.get(language) : null);
+                    double passRate = statisticsEngine.getPassRate(candidate.getChallenge_id());
+
+                    double score = LEVEL_WEIGHT * levelFit
+                            + CATEGORY_WEIGHT * categoryWeakness
+                            + LANGUAGE_WEIGHT * languageWeakness
+                            + PASS_RATE_WEIGHT * passRate;
+                    scored.add(toRecommendation(candidate, score,
+                            reasonOf(offset, category, categoryWeakness, candidate.getLanguage(), languageWeakness, passRate)));
+                }
+            }
+        }
+
+        scored.sort((a, b) -> {
+            int byScore = Double.compare(b.getScore(), a.getScore());
+            return byScore != 0 ? byScore : Integer.compare(b.getChallenge_id(), a.getChallenge_id());
+        });
+        List<ChallengeRecommendationDTO> top = scored.size() > limit ? new ArrayList<>(scored.subList(0, limit)) : scored;
+        return new Recommendation(levels.get(targetIndex), top);
+    }
+
+    /**
+     * 경험치가 속한 등급의 순위를 난이도 순위로 비례 변환합니다
+     * 예) 등급 5개, 난이도 3개: Bronze → 0, Silver/Gold → 1, Diamond/Master → 2
+     */
+    private int targetLevelIndex(int experience, int levelCount) {
+        List<UserGradeDTO> gradeList = grades();
+        int gradeIndex = 0;
+        for (int i = 0; i < gradeList.size(); i++) {
+            Integer minExperience = gradeList.get(i).getMin_experience();
+            if (minExperience != null && experience >= minExperience) {
+                gradeIndex = i;
+            }
+        }
+        if (gradeList.size() <= 1) {
+            return 0;
+        }
+        return (int) Math.round(gradeIndex * (levelCount - 1) / (double) (gradeList.size() - 1));
+    }
+
+    /** 약점 = 1 - (해결+1)/(시도+2), 시도 기록이 없으면 0.5 */
+    private static double weakness(int[] record) {
+        if (record == null) {
+            return 0.5;
+        }
+        return 1.0 - (record[1] + 1.0) / (record[0] + 2.0);
+    }
+
+    /** 점수에 가장 크게 기여한 이유 한 가지 */
+    private static String reasonOf(int levelOffset, ChallengeCategoryDTO category, double categoryWeakness,
+                                   String language, double languageWeakness, double passRate) {
+        if (categoryWeakness > 0.5 && categoryWeakness >= languageWeakness) {
+            return "보완이 필요한 카테고리: " + category.getCategory_name();
+        }
+        if (languageWeakness > 0.5) {
+            return "보완이 필요한 언어: " + language;
+        }
+        if (levelOffset > 0) {
+            return "한 단계 위 난이도 도전";
+        }
+        if (passRate >= 0.7) {
+            return "정답률이 높은 챌린지";
+        }
+        return levelOffset == 0 ? "현재 등급에 맞는 난이도" : "기초 다지기";
+    }
+
+    private static ChallengeRecommendationDTO toRecommendation(ChallengeDTO challenge, double score, String reason) {
+        ChallengeRecommendationDTO recommendation = new ChallengeRecommendationDTO();
+        recommendation.setChallenge_id(challenge.getChallenge_id());
+        recommendation.setChallenge_title(challenge.getChallenge_title());
+        recommendation.setLevel_id(challenge.getLevel_id());
+        recommendation.setCategory_id(challenge.getCategory_id());
+        recommendation.setLanguage(challenge.getLanguage());
+        recommendation.setScore(Math.round(score * 1000) / 1000.0);
+        recommendation.setReason(reason);
+        return recommendation;
+    }
+
+    private List<UserGradeDTO> grades() {
+        List<UserGradeDTO> gradeList = grades;
+        if (gradeList == null) {
+            synchronized (this) {
+                gradeList = grades;
+                if (gradeList == null) {
+                    gradeList = mybatis.selectList("userRepository.getAllGrades");
+                    grades = gradeList;
+                    System.out.println("📊 사용자 등급 기준표 적재 완료: " + gradeList.size() + "개 등급");
+                }
+            }
+        }
+        return gradeList;
+    }
+
+    /**
+     * 추천 결과 (목표 난이도 + 추천 목록)
+     */
+    public static final class Recommendation {
+
+        private final ChallengeLevelDTO targetLevel;
+        private final List<ChallengeRecommendationDTO> challenges;
+
+        private Recommendation(ChallengeLevelDTO targetLevel, List<ChallengeRecommendationDTO> challenges) {
+            this.targetLevel = targetLevel;
+            this.challenges = challenges;
+        }
+
+        /** 사용자 등급에서 정한 목표 난이도 (난이도가 없으면 null) */
+        public ChallengeLevelDTO getTargetLevel() {
+            return targetLevel;
+        }
+
+        public List<ChallengeRecommendationDTO> getChallenges() {
+            return challenges;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.spring.project.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.spring.project.dto.challenge.ChallengeDTO;
+import com.spring.project.dto.challenge.ChallengeSearchResultDTO;
+
+/**
+ * 🎯 챌린지 전문 검색 역색인
+ * challenge_title 과 content 를 KoreanNgramTokenizer 로 잘라 용어 → (챌린지, 제목/본문 빈도) 역색인을 메모리에 유지합니다.
+ * 애플리케이션 시작 시 한 번 구성하고, 챌린지 등록/삭제 시 해당 챌린지만 추가/제거합니다.
+ * 검색은 검색어 용어의 posting 만 훑어 점수를 매기므로 전체 목록을 읽지 않습니다.
+ */
+@Component
+public class ChallengeSearchIndex implements InitializingBean {
+
+    /** 제목에 나온 용어의 가중치 (본문 대비) */
+    private static final double TITLE_WEIGHT = 3.0;
+
+    /** 용어 빈도 포화 상수 (빈도가 커져도 점수가 무한히 커지지 않도록) */
+    private static final double TF_SATURATION = 1.2;
+
+    /** 점수 내림차순, 같은 점수면 최신(challenge_id 큰) 챌린지 우선 */
+    private static final Comparator<ScoredChallenge> RESULT_ORDER = (a, b) -> {
+        int byScore = Double.compare(b.score, a.score);
+        return byScore != 0 ? byScore : Integer.compare(b.challengeId, a.challengeId);
+    };
+
+    @Autowired
+    SqlSessionTemplate mybatis;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 용어 → (challenge_id → [제목 빈도, 본문 빈도]) */
+    private final Map<String, Map<Integer, int[]>> postings = new HashMap<>();
+
+    /** challenge_id → 검색 결과에 표시할 요약과 색인된 용어 목록 */
+    private final Map<Integer, IndexedChallenge> documents = new HashMap<>();
+
+    private volatile boolean loaded = false;
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // DB 가 아직 준비되지 않았으면 첫 검색 때 다시 시도
+            System.err.println("⚠️ 챌린지 검색 색인 초기 구성 실패 (첫 검색 시 재시도): " + e.getMessage());
+        }
+    }
+
+    /**
+     * 검색어와 관련된 챌린지를 점수 순으로 반환합니다
+     * 점수 = Σ idf(용어) × 포화된 빈도(제목 가중) × 검색어 용어 일치 비율
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     */
+    public List<ChallengeSearchResultDTO> search(String query, int limit) {
+        ensureLoaded();
+        Map<String, Integer> queryTerms = new LinkedHashMap<>();
+        for (String term : KoreanNgramTokenizer.queryTerms(query)) {
+            queryTerms.merge(term, 1, Integer::sum);
+        }
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            Map<Integer, double[]> scores = new HashMap<>(); // [점수, 일치한 용어 수]
+            for (Map.Entry<String, Integer> queryTerm : queryTerms.entrySet()) {
+                Map<Integer, int[]> termPostings = postings.get(queryTerm.getKey());
+                if (termPostings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+                for (Map.Entry<Integer, int[]> posting : termPostings.entrySet()) {
+                    int[] frequency = posting.getValue();
+                    double weighted = TITLE_WEIGHT * frequency[0] + frequency[1];
+                    double[] score = scores.computeIfAbsent(posting.getKey(), id -> new double[2]);
+                    score[0] += queryTerm.getValue() * idf * weighted / (weighted + TF_SATURATION);
+                    score[1] += queryTerm.getValue();
+                }
+            }
+
+            int queryTermCount = 0;
+            for (int count : queryTerms.values()) {
+                queryTermCount += count;
+            }
+            // 크기 limit 의 최소 힙으로 상위 결과만 남긴 뒤 DTO 로 변환
+            PriorityQueue<ScoredChallenge> heap = new PriorityQueue<>(limit + 1, RESULT_ORDER.reversed());
+            for (Map.Entry<Integer, double[]> entry : scores.entrySet()) {
+                double coverage = entry.getValue()[1] / queryTermCount;
+                heap.offer(new ScoredChallenge(entry.getKey(), entry.getValue()[0] * coverage * coverage));
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+            List<ScoredChallenge> top = new ArrayList<>(heap);
+            top.sort(RESULT_ORDER);
+            List<ChallengeSearchResultDTO> results = new ArrayList<>(top.size());
+            for (ScoredChallenge scored : top) {
+                results.add(documents.get(scored.challengeId).toResult(scored.score));
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 🔥 등록된 챌린지를 색인에 추가합니다 (같은 ID가 있으면 교체)
+     */
+    public void addChallenge(ChallengeDTO challenge) {
+        if (!loaded) {
+            return; // 첫 검색 때 DB에서 전체를 적재하면서 포함됨
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(challenge.getChallenge_id());
+            addLocked(challenge);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제된 챌린지를 색인에서 제거합니다
+     */
+    public void removeChallenge(int challengeId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(challengeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * DB 기준으로 색인을 다시 구성합니다 (Challenges 전체 조회 1회)
+     */
+    public synchronized void reload() {
+        long start = System.currentTimeMillis();
+        List<ChallengeDTO> challenges = mybatis.selectList("challengeRepository.findChallengeSummaries");
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            for (ChallengeDTO challenge : challenges) {
+                addLocked(challenge);
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        System.out.println("🔍 챌린지 검색 색인 구성 완료: " + challenges.size() + "개 챌린지, "
+                + postings.size() + "개 용어 (" + (System.currentTimeMillis() - start) + "ms)");
+    }
+
+    private void addLocked(ChallengeDTO challenge) {
+        Map<String, int[]> frequencies = new HashMap<>();
+        for (String term : KoreanNgramTokenizer.indexTerms(challenge.getChallenge_title())) {
+            frequencies.computeIfAbsent(term, t -> new int[2])[0]++;
+        }
+        for (String term : KoreanNgramTokenizer.indexTerms(challenge.getContent())) {
+            frequencies.computeIfAbsent(term, t -> new int[2])[1]++;
+        }
+        for (Map.Entry<String, int[]> frequency : frequencies.entrySet()) {
+            postings.computeIfAbsent(frequency.getKey(), t -> new HashMap<>()).put(challenge.getChallenge_id(), frequency.getValue());
+        }
+        documents.put(challenge.getChallenge_id(), new IndexedChallenge(challenge, frequencies.keySet().toArray(new String[0])));
+    }
+
+    private void removeLocked(int challengeId) {
+        IndexedChallenge removed = documents.remove(challengeId);
+        if (removed == null) {
+            return;
+        }
+        for (String term : removed.terms) {
+            Map<Integer, int[]> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(challengeId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    /**
+     * 색인된 챌린지 1개 (결과 표시용 요약 + 제거 시 사용할 용어 목록)
+     */
+    private static final class IndexedChallenge {
+
+        private final int challengeId;
+        private final String title;
+        private final int levelId;
+        private final int categoryId;
+        private final String language;
+        private final String[] terms;
+
+        IndexedChallenge(ChallengeDTO challenge, String[] terms) {
+            this.challengeId = challenge.getChallenge_id();
+            this.title = challenge.getChallenge_title();
+            this.levelId = challenge.getLevel_id();
+            this.categoryId = challenge.getCategory_id();
+            this.language = challenge.getLanguage();
+            this.terms = terms;
+        }
+
+        ChallengeSearchResultDTO toResult(double score) {
+            ChallengeSearchResultDTO result = new ChallengeSearchResultDTO();
+            result.setChallenge_id(challengeId);
+            result.setChallenge_title(title);
+            result.setLevel_id(levelId);
+            result.setCategory_id(categoryId);
+            result.setLanguage(language);
+            result.setScore(Math.round(score * 1000) / 1000.0);
+            return result;
+        }
+    }
+
+    /**
+     * 상위 결과 선별용 (challenge_id, 최종 점수)
+     */
+    private static final class ScoredChallenge {
+
+        private final int challengeId;
+        private final double score;
+
+        ScoredChallenge(int challengeId, double score) {
+            this.challengeId = challengeId;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.spring.project.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 🎯 챌린지별 제출 통계 엔진
+ * 제출수/정답수를 챌린지별 LongAdder 셀에 누적하여 상세 조회 시 상수 시간으로 통계를 계산합니다.
+ * 변경분은 주기적으로 Challenge_Stats 요약 테이블에 기록하고, 최초 사용 시 이 요약 테이블에서 시드한 뒤
+ * 기준 제출 ID(Challenge_Stats_Watermark) 이후의 Challenge_sub 만 집계해 더합니다 (제출 이력 전체를 다시 집계하지 않음).
+ * 기준 제출 ID가 없으면 (최초 배포) Challenge_sub 전체를 한 번 집계하고 다음 flush 에서 요약 테이블을 채웁니다.
+ *
+ * 🔥 요약 합계는 항상 "기준 ID 이하인 제출 전부, 그리고 그 외에는 없음" 을 뜻합니다.
+ * 제출은 커밋 순서와 ID 순서가 다를 수 있으므로 (먼저 INSERT 한 트랜잭션이 나중에 커밋), 채점 트랜잭션은 INSERT 전에
+ * beginSubmission() 으로 자신을 등록하고, flush 는 아직 끝나지 않은 제출보다 작은 ID 까지만 기준을 올립니다.
+ * 기준보다 큰 ID 로 이미 반영된 제출은 요약 합계에서 빼고 기록하므로, 재시작 시 따라잡기 집계와 겹치지 않습니다.
+ */
+@Component
+public class ChallengeStatisticsEngine implements DisposableBean {
+
+    @Autowired
+    SqlSessionTemplate mybatis;
+
+    /** 요약 합계와 기준 제출 ID를 한 트랜잭션으로 기록 */
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    private final Map<Integer, Counters> countersByChallenge = new ConcurrentHashMap<>();
+
+    /** 마지막 flush 이후 변경된 챌린지 ID */
+    private final Set<Integer> dirtyChallengeIds = ConcurrentHashMap.newKeySet();
+
+    /** 진행 중인 제출 (등록 번호 → 등록 시점까지 반영된 최대 제출 ID, 이 제출의 ID 는 그보다 큼) */
+    private final Map<Long, Long> inFlightCeilings = new ConcurrentHashMap<>();
+    private final AtomicLong submissionTokenSequence = new AtomicLong();
+
+    /** 반영됐지만 요약 테이블 기준 ID 보다 큰 제출 (제출 ID → 챌린지/정답 여부) */
+    private final NavigableMap<Long, PendingSubmission> pendingAboveWatermark = new ConcurrentSkipListMap<>();
+
+    /** 메모리에 반영된 최대 제출 ID */
+    private final AtomicLong maxRecordedSubmissionId = new AtomicLong();
+
+    /** 제출 등록/반영(읽기 잠금, 동시 진행)과 flush 의 기준 ID 계산(쓰기 잠금)을 분리 */
+    private final ReadWriteLock watermarkLock = new ReentrantReadWriteLock();
+
+    /** 요약 테이블에 기록된 기준 제출 ID */
+    private long persistedWatermark = 0;
+
+    private volatile boolean seeded = false;
+
+    /**
+     * 특정 챌린지의 통계를 조회합니다 (제출수, 정답수, 정답률)
+     * @param challengeId 챌린지 ID
+     * @return totalSubmissions, correctSubmissions, accuracyRate 를 담은 맵
+     */
+    public Map<String, Object> getStatistics(int challengeId) {
+        ensureSeeded();
+        Counters counters = countersByChallenge.get(challengeId);
+        long total = counters != null ? counters.submissions.sum() : 0;
+        long correct = counters != null ? counters.correct.sum() : 0;
+
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("totalSubmissions", total);
+        statistics.put("correctSubmissions", correct);
+        statistics.put("accuracyRate", total > 0 ? Math.round(correct * 1000.0 / total) / 10.0 : 0.0);
+        return statistics;
+    }
+
+    /**
+     * 챌린지의 전체 사용자 정답률 (제출이 적은 챌린지가 0% / 100%로 치우치지 않도록 (정답+1)/(제출+2)로 보정)
+     * @param challengeId 챌린지 ID
+     * @return 0~1 사이의 보정된 정답률 (제출이 없으면 0.5)
+     */
+    public double getPassRate(int challengeId) {
+        ensureSeeded();
+        Counters counters = countersByChallenge.get(challengeId);
+        long total = counters != null ? counters.submissions.sum() : 0;
+        long correct = counters != null ? counters.correct.sum() : 0;
+        return (correct + 1.0) / (total + 2.0);
+    }
+
+    /**
+     * 채점 결과를 Challenge_sub 에 INSERT 하기 전에 호출합니다
+     * 커밋 후 recordSubmission, 롤백되면 abortSubmission 으로 반드시 해제해야 합니다 (해제 전까지 기준 ID 가 멈춤).
+     * @return 등록 번호
+     */
+    public long beginSubmission() {
+        ensureSeeded();
+        watermarkLock.readLock().lock();
+        try {
+            long token = submissionTokenSequence.incrementAndGet();
+            inFlightCeilings.put(token, maxRecordedSubmissionId.get());
+            return token;
+        } finally {
+            watermarkLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 롤백된 제출의 등록을 해제합니다
+     * @param token beginSubmission 의 등록 번호
+     */
+    public void abortSubmission(long token) {
+        inFlightCeilings.remove(token);
+    }
+
+    /**
+     * 🔥 커밋된 제출 1건을 통계에 반영합니다
+     * @param challengeId 챌린지 ID
+     * @param submissionId 저장된 challenge_sub_id
+     * @param pass 정답 여부
+     * @param token beginSubmission 의 등록 번호
+     */
+    public void recordSubmission(int challengeId, long submissionId, boolean pass, long token) {
+        ensureSeeded();
+        watermarkLock.readLock().lock();
+        try {
+            Counters counters = countersByChallenge.computeIfAbsent(challengeId, id -> new Counters());
+            counters.submissions.increment();
+            if (pass) {
+                counters.correct.increment();
+            }
+            pendingAboveWatermark.put(submissionId, new PendingSubmission(challengeId, pass));
+            maxRecordedSubmissionId.accumulateAndGet(submissionId, Math::max);
+            inFlightCeilings.remove(token);
+            dirtyChallengeIds.add(challengeId);
+        } finally {
+            watermarkLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제된 챌린지의 통계를 제거합니다
+     * @param challengeId 챌린지 ID
+     */
+    public void removeChallenge(int challengeId) {
+        countersByChallenge.remove(challengeId);
+        dirtyChallengeIds.remove(challengeId);
+        pendingAboveWatermark.values().removeIf(pending -> pending.challengeId == challengeId);
+    }
+
+    /**
+     * 변경된 챌린지 통계를 Challenge_Stats 요약 테이블에 일괄 반영합니다
+     * 기준 ID 는 진행 중인 제출이 있으면 그중 가장 낮은 등록 시점의 최대 제출 ID, 없으면 반영된 최대 제출 ID 입니다.
+     * 기준보다 큰 ID 의 제출은 합계에서 빼고 기록하고, 해당 챌린지는 다음 flush 에 다시 포함합니다.
+     */
+    @Scheduled(fixedDelay = 30000)
+    public synchronized void flush() {
+        if (!seeded || dirtyChallengeIds.isEmpty()) {
+            return;
+        }
+
+        long ceiling;
+        List<Map<String, Object>> rows = new ArrayList<>();
+        watermarkLock.writeLock().lock();
+        try {
+            ceiling = maxRecordedSubmissionId.get();
+            for (long inFlightCeiling : inFlightCeilings.values()) {
+                ceiling = Math.min(ceiling, inFlightCeiling);
+            }
+            pendingAboveWatermark.headMap(ceiling, true).clear();
+
+            Map<Integer, long[]> aboveWatermark = new HashMap<>();
+            for (PendingSubmission pending : pendingAboveWatermark.values()) {
+                long[] excluded = aboveWatermark.computeIfAbsent(pending.challengeId, id -> new long[2]);
+                excluded[0]++;
+                if (pending.pass) {
+                    excluded[1]++;
+                }
+            }
+
+            Iterator<Integer> iterator = dirtyChallengeIds.iterator();
+            while (iterator.hasNext()) {
+                Integer challengeId = iterator.next();
+                Counters counters = countersByChallenge.get(challengeId);
+                long[] excluded = aboveWatermark.getOrDefault(challengeId, new long[2]);
+                if (excluded[0] == 0) {
+                    iterator.remove(); // 기준 이후 제출이 남은 챌린지는 다음 flush 에도 포함
+                }
+                if (counters == null) {
+                    continue;
+                }
+                Map<String, Object> row = new HashMap<>();
+                row.put("challengeId", challengeId);
+                row.put("totalSubmissions", counters.submissions.sum() - excluded[0]);
+                row.put("correctSubmissions", counters.correct.sum() - excluded[1]);
+                rows.add(row);
+            }
+        } finally {
+            watermarkLock.writeLock().unlock();
+        }
+        long watermark = ceiling;
+        if (rows.isEmpty() && watermark == persistedWatermark) {
+            return;
+        }
+
+        try {
+            transactionTemplate.execute(status -> {
+                if (!rows.isEmpty()) {
+                    mybatis.insert("challengeRepository.upsertChallengeStats", rows);
+                }
+                mybatis.insert("challengeRepository.upsertChallengeStatsWatermark", watermark);
+                return null;
+            });
+            persistedWatermark = watermark;
+            System.out.println("📊 챌린지 통계 요약 테이블 반영: " + rows.size() + "건 (기준 제출 ID: " + watermark + ")");
+        } catch (Exception e) {
+            System.err.println("⚠️ 챌린지 통계 flush 실패: " + e.getMessage());
+            for (Map<String, Object> row : rows) {
+                dirtyChallengeIds.add((Integer) row.get("challengeId")); // 다음 주기에 재시도
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private void ensureSeeded() {
+        if (!seeded) {
+            synchronized (this) {
+                if (!seeded) {
+                    seed();
+                }
+            }
+        }
+    }
+
+    private void seed() {
+        // 기준 제출 ID가 없으면 (최초 배포 또는 이전 형식의 요약) 요약을 쓰지 않고 이력 전체를 집계
+        Number watermark = mybatis.selectOne("challengeRepository.getChallengeStatsWatermark");
+        int summaryCount = 0;
+        if (watermark != null) {
+            List<Map<String, Object>> summaryRows = mybatis.selectList("challengeRepository.getChallengeStatsSummary");
+            for (Map<String, Object> row : summaryRows) {
+                addSeedRow(row);
+            }
+            summaryCount = summaryRows.size();
+        }
+
+        // 기준 ID 이후 제출분만 PK 범위로 집계
+        long afterSubmissionId = watermark != null ? watermark.longValue() : 0;
+        Map<String, Object> params = new HashMap<>();
+        params.put("afterSubId", afterSubmissionId);
+        List<Map<String, Object>> catchUpRows = mybatis.selectList("challengeRepository.getChallengeStatisticsGroupByChallenge", params);
+        long maxSubmissionId = afterSubmissionId;
+        for (Map<String, Object> row : catchUpRows) {
+            Integer challengeId = addSeedRow(row);
+            if (challengeId != null) {
+                dirtyChallengeIds.add(challengeId); // 요약 테이블도 따라잡도록 다음 flush 에 포함
+            }
+            Number rowMax = (Number) row.get("max_sub_id");
+            if (rowMax != null) {
+                maxSubmissionId = Math.max(maxSubmissionId, rowMax.longValue());
+            }
+        }
+        persistedWatermark = afterSubmissionId;
+        maxRecordedSubmissionId.set(maxSubmissionId);
+        seeded = true;
+        System.out.println("📊 챌린지 통계 엔진 시드 완료: 요약 " + summaryCount + "개 챌린지 + 이후 제출 "
+                + catchUpRows.size() + "개 챌린지 (기준 제출 ID: " + watermark + " → " + maxSubmissionId + ")");
+    }
+
+    private Integer addSeedRow(Map<String, Object> row) {
+        Number challengeId = (Number) row.get("challenge_id");
+        Number total = (Number) row.get("total_submissions");
+        Number correct = (Number) row.get("correct_submissions");
+        if (challengeId == null) {
+            return null;
+        }
+        Counters counters = countersByChallenge.computeIfAbsent(challengeId.intValue(), id -> new Counters());
+        counters.submissions.add(total != null ? total.longValue() : 0);
+        counters.correct.add(correct != null ? correct.longValue() : 0);
+        return challengeId.intValue();
+    }
+
+    /**
+     * 챌린지 하나의 누적 카운터
+     */
+    private static final class Counters {
+        final LongAdder submissions = new LongAdder();
+        final LongAdder correct = new LongAdder();
+    }
+
+    /**
+     * 요약 테이블 기준 ID 보다 큰 반영 제출
+     */
+    private static final class PendingSubmission {
+        final int challengeId;
+        final boolean pass;
+
+        PendingSubmission(int challengeId, boolean pass) {
+            this.challengeId = challengeId;
+            this.pass = pass;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.spring.project.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.spring.project.dto.user.LeaderboardEntryDTO;
+import com.spring.project.dto.user.UserDTO;
+
+/**
+ * 🎯 경험치 리더보드 인메모리 인덱스
+ * 최초 조회 시 USERS 를 한 번 읽어 (경험치 내림차순, user_id 오름차순) 스킵 리스트를 구성하고,
+ * 이후에는 경험치 지급 이벤트로 해당 사용자만 O(log n)에 재배치합니다.
+ * 페이지 조회와 내 순위 조회는 MySQL 없이 인덱스만으로 응답합니다.
+ */
+@Component
+public class ExperienceLeaderboard {
+
+    private static final Comparator<Standing> RANKING_ORDER = (a, b) -> {
+        if (a.experience != b.experience) {
+            return Integer.compare(b.experience, a.experience);
+        }
+        return Integer.compare(a.userId, b.userId);
+    };
+
+    @Autowired
+    SqlSessionTemplate mybatis;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RankedSkipList<Standing> ranking = new RankedSkipList<>(RANKING_ORDER);
+    private final Map<Integer, Standing> standings = new HashMap<>();
+
+    private volatile boolean loaded = false;
+
+    /**
+     * 순위 구간을 조회합니다
+     * @param offset 시작 위치 (0부터)
+     * @param limit 최대 개수
+     * @return 순위 순서의 항목 목록
+     */
+    public List<LeaderboardEntryDTO> getPage(int offset, int limit) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            List<Standing> page = ranking.range(offset, limit);
+            List<LeaderboardEntryDTO> entries = new ArrayList<>(page.size());
+            int rank = offset + 1;
+            for (Standing standing : page) {
+                entries.add(standing.toEntry(rank++));
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자의 순위를 조회합니다
+     * 아직 경험치를 얻지 못해 인덱스에 없는 신규 사용자는 경험치 0 기준 순위를 반환합니다.
+     */
+    public LeaderboardEntryDTO getRank(int userId) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Standing standing = standings.get(userId);
+            if (standing == null) {
+                standing = new Standing(userId, null, 0);
+            }
+            return standing.toEntry(ranking.countBefore(standing) + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 리더보드에 적재된 닉네임 (없으면 null) */
+    public String getNickname(int userId) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Standing standing = standings.get(userId);
+            return standing != null ? standing.nickname : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 순위에 오른 전체 사용자 수 */
+    public int getSize() {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return ranking.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 🔥 경험치가 지급되었을 때 사용자의 위치를 갱신합니다 (USERS 갱신 후 호출)
+     * @param userId 사용자 ID
+     * @param exp 지급된 경험치
+     */
+    public void addExperience(int userId, int exp) {
+        if (!loaded) {
+            ensureLoaded(); // 적재 시점의 USERS 에 이번 지급이 이미 반영되어 있음
+            return;
+        }
+
+        boolean indexed;
+        lock.readLock().lock();
+        try {
+            indexed = standings.containsKey(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+        // 처음 경험치를 얻은 사용자는 이번 지급이 반영된 행을 읽어 추가
+        UserDTO user = indexed ? null : mybatis.selectOne("userRepository.getLeaderboardUser", userId);
+
+        lock.writeLock().lock();
+        try {
+            Standing previous = standings.get(userId);
+            Standing next;
+            if (user != null) {
+                int experience = previous != null ? Math.max(previous.experience, user.getExperience_points()) : user.getExperience_points();
+                next = new Standing(userId, user.getNickname(), experience);
+            } else if (previous != null) {
+                next = new Standing(userId, previous.nickname, previous.experience + exp);
+            } else {
+                return;
+            }
+            if (previous != null) {
+                ranking.remove(previous);
+            }
+            standings.put(userId, next);
+            ranking.insert(next);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 닉네임이 바뀌었을 때 표시 이름을 갱신합니다 (순위는 변하지 않음)
+     */
+    public void updateNickname(int userId, String nickname) {
+        lock.writeLock().lock();
+        try {
+            Standing previous = standings.get(userId);
+            if (previous != null) {
+                ranking.remove(previous);
+                Standing renamed = new Standing(userId, nickname, previous.experience);
+                standings.put(userId, renamed);
+                ranking.insert(renamed);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * DB 기준으로 리더보드를 다시 구성합니다 (USERS 전체 조회 1회)
+     */
+    public synchronized void reload() {
+        List<UserDTO> users = mybatis.selectList("userRepository.getLeaderboardUsers");
+
+        lock.writeLock().lock();
+        try {
+            ranking.clear();
+            standings.clear();
+            for (UserDTO user : users) {
+                Standing standing = new Standing(user.getUser_id(), user.getNickname(), user.getExperience_points());
+                standings.put(standing.userId, standing);
+                ranking.insert(standing);
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        System.out.println("📊 경험치 리더보드 적재 완료: " + users.size() + "명");
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    /**
+     * 리더보드 항목 (불변, 경험치가 바뀌면 새 객체로 교체)
+     */
+    private static final class Standing {
+
+        private final int userId;
+        private final String nickname;
+        private final int experience;
+
+        Standing(int userId, String nickname, int experience) {
+            this.userId = userId;
+            this.nickname = nickname;
+            this.experience = experience;
+        }
+
+        LeaderboardEntryDTO toEntry(int rank) {
+            return new LeaderboardEntryDTO(rank, userId, nickname, experience);
+        }
+    }
+}
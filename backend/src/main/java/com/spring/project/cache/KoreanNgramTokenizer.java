@@ -0,0 +1,105 @@
+package com.spring.project.cache;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한국어 검색용 토크나이저
+ * 한글(및 한자/가나) 구간은 음절 bigram 으로, 그 밖의 공백 없는 구간(영문/숫자/기호)은 소문자 문자 trigram 으로 자릅니다.
+ * 한국어는 조사가 붙어 띄어쓰기 단위가 검색어와 어긋나므로("배열을" vs "배열") 형태소 분석 대신 bigram 으로 맞추고,
+ * 영문도 단어 단위로 자르면 부분 검색("spring" → "SpringBoot", "useEff")이 되지 않으므로 trigram 으로 맞춥니다.
+ * 기호도 구간에 포함하므로 "c++", "c#", "++" 같은 검색어도 용어가 됩니다.
+ */
+public final class KoreanNgramTokenizer {
+
+    /** 영문/숫자/기호 구간의 n-gram 길이 */
+    private static final int LATIN_GRAM = 3;
+
+    private KoreanNgramTokenizer() {}
+
+    /**
+     * 색인용 토큰: 한글 구간의 bigram 과 unigram(한 글자 검색어용), 그 밖의 구간의 1~3글자 n-gram(짧은 검색어용)
+     */
+    public static List<String> indexTerms(String text) {
+        return tokenize(text, true);
+    }
+
+    /**
+     * 검색어 토큰: 한글 구간이 두 글자 이상이면 bigram 만, 한 글자면 unigram,
+     * 그 밖의 구간은 세 글자 이상이면 trigram 만, 더 짧으면 구간 그대로
+     */
+    public static List<String> queryTerms(String text) {
+        return tokenize(text, false);
+    }
+
+    private static List<String> tokenize(String text, boolean forIndex) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            char c = normalized.charAt(i);
+            if (isCjk(c)) {
+                int start = i;
+                while (i < length && isCjk(normalized.charAt(i))) {
+                    i++;
+                }
+                addCjkTerms(normalized, start, i, forIndex, terms);
+            } else if (!Character.isWhitespace(c) && !Character.isSpaceChar(c)) {
+                int start = i;
+                while (i < length && !isCjk(normalized.charAt(i))
+                        && !Character.isWhitespace(normalized.charAt(i)) && !Character.isSpaceChar(normalized.charAt(i))) {
+                    i++;
+                }
+                addLatinTerms(normalized, start, i, forIndex, terms);
+            } else {
+                i++;
+            }
+        }
+        return terms;
+    }
+
+    private static void addCjkTerms(String text, int start, int end, boolean forIndex, List<String> terms) {
+        int runLength = end - start;
+        if (forIndex || runLength == 1) {
+            for (int i = start; i < end; i++) {
+                terms.add(text.substring(i, i + 1));
+            }
+        }
+        for (int i = start; i + 1 < end; i++) {
+            terms.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static void addLatinTerms(String text, int start, int end, boolean forIndex, List<String> terms) {
+        int runLength = end - start;
+        if (!forIndex) {
+            if (runLength <= LATIN_GRAM) {
+                terms.add(text.substring(start, end));
+            } else {
+                for (int i = start; i + LATIN_GRAM <= end; i++) {
+                    terms.add(text.substring(i, i + LATIN_GRAM));
+                }
+            }
+            return;
+        }
+        for (int gram = 1; gram <= LATIN_GRAM; gram++) {
+            for (int i = start; i + gram <= end; i++) {
+                terms.add(text.substring(i, i + gram));
+            }
+        }
+    }
+
+    private static boolean isCjk(char c) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,163 @@
+package com.spring.project.cache;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntSupplier;
+
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🎯 카테고리별 게시글 수 카운터
+ * 시작 시 posts 를 카테고리별 GROUP BY 한 번으로 세어 두고, 게시글 작성/카테고리 변경/삭제 때 해당 카테고리만 증감합니다.
+ * 게시판 목록의 전체 개수(필터 없음, 카테고리만)는 COUNT(*) 없이 이 카운터에서 바로 읽습니다.
+ * 카테고리 삭제(ON DELETE CASCADE) 같은 DB 직접 변경은 반영되지 않으므로 매일 새벽 한 번 다시 셉니다.
+ * ⚠️ 게시글 쓰기는 guardWrite 로 감싸 DB 반영과 증감이 다시 세기 사이에 끼지 않게 합니다
+ *    (다시 센 결과에 포함된 쓰기의 증감이 이전 카운터에 적용되어 사라지거나, 두 번 세어지지 않도록).
+ */
+@Component
+public class PostCountCache implements InitializingBean {
+
+    @Autowired
+    SqlSessionTemplate mybatis;
+
+    /** category_id → 게시글 수 (카테고리 없는 게시글은 0) */
+    private final Map<Integer, Integer> countsByCategory = new HashMap<>();
+
+    private int total = 0;
+
+    private volatile boolean loaded = false;
+
+    /** 게시글 쓰기(읽기 잠금, 동시 진행)와 다시 세기(쓰기 잠금)를 분리 */
+    private final ReadWriteLock reloadLock = new ReentrantReadWriteLock();
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // DB 가 아직 준비되지 않았으면 첫 조회 때 다시 시도
+            System.err.println("⚠️ 게시글 수 카운터 초기 구성 실패 (첫 조회 시 재시도): " + e.getMessage());
+        }
+    }
+
+    /**
+     * 게시글 수를 반환합니다
+     * @param categoryId 카테고리 (null이면 전체)
+     */
+    public int count(Integer categoryId) {
+        ensureLoaded();
+        synchronized (this) {
+            if (categoryId == null) {
+                return total;
+            }
+            return countsByCategory.getOrDefault(categoryId, 0);
+        }
+    }
+
+    /**
+     * 게시글 쓰기(DB 반영 + 아래 증감 호출)를 다시 세기와 겹치지 않게 실행합니다
+     * @param write DB 에 쓰고 반영된 만큼 postInserted/postMoved/postDeleted 를 호출하는 작업
+     * @return write 의 결과
+     */
+    public int guardWrite(IntSupplier write) {
+        reloadLock.readLock().lock();
+        try {
+            return write.getAsInt();
+        } finally {
+            reloadLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 🔥 게시글이 작성되었을 때
+     */
+    public synchronized void postInserted(int categoryId) {
+        if (!loaded) {
+            return; // 적재하면서 포함됨
+        }
+        countsByCategory.merge(categoryId, 1, Integer::sum);
+        total++;
+    }
+
+    /**
+     * 게시글의 카테고리가 바뀌었을 때
+     */
+    public synchronized void postMoved(int fromCategoryId, int toCategoryId) {
+        if (!loaded || fromCategoryId == toCategoryId) {
+            return;
+        }
+        countsByCategory.merge(fromCategoryId, -1, Integer::sum);
+        countsByCategory.merge(toCategoryId, 1, Integer::sum);
+    }
+
+    /**
+     * 게시글이 삭제되었을 때
+     */
+    public synchronized void postDeleted(int categoryId) {
+        if (!loaded) {
+            return;
+        }
+        countsByCategory.merge(categoryId, -1, Integer::sum);
+        total--;
+    }
+
+    /**
+     * DB 기준으로 다시 셉니다 (posts 카테고리별 GROUP BY 1회)
+     */
+    @Scheduled(cron = "0 15 4 * * *")
+    public void reload() {
+        reloadLock.writeLock().lock();
+        try {
+            load();
+        } finally {
+            reloadLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 진행 중인 게시글 쓰기가 없을 때 (쓰기 잠금 안에서) 세고 교체합니다
+     */
+    private void load() {
+        List<Map<String, Object>> rows = mybatis.selectList("postRepository.countPostsByCategory");
+
+        Map<Integer, Integer> counted = new HashMap<>();
+        int countedTotal = 0;
+        for (Map<String, Object> row : rows) {
+            Number categoryId = (Number) row.get("category_id");
+            Number postCount = (Number) row.get("post_count");
+            if (categoryId == null || postCount == null) {
+                continue;
+            }
+            counted.put(categoryId.intValue(), postCount.intValue());
+            countedTotal += postCount.intValue();
+        }
+
+        synchronized (this) {
+            countsByCategory.clear();
+            countsByCategory.putAll(counted);
+            total = countedTotal;
+            loaded = true;
+        }
+        System.out.println("📊 게시글 수 카운터 구성 완료: 전체 " + countedTotal + "개, 카테고리 " + counted.size() + "개");
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            reloadLock.writeLock().lock();
+            try {
+                if (!loaded) {
+                    load();
+                }
+            } finally {
+                reloadLock.writeLock().unlock();
+            }
+        }
+    }
+}
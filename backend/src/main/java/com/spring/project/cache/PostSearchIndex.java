@@ -0,0 +1,359 @@
+package com.spring.project.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.spring.project.dto.post.PostsDTO;
+
+/**
+ * 🎯 게시글 전문 검색 역색인 (BM25)
+ * title 과 content 를 KoreanNgramTokenizer 로 잘라 용어 → (게시글, 제목/본문 빈도) 역색인을 메모리에 유지합니다.
+ * 애플리케이션 시작 시 한 번 구성하고, 게시글 작성/수정/삭제 시 해당 게시글만 교체/제거합니다.
+ * 검색어를 자른 n-gram 을 모두 포함한 게시글만 결과로 보고 정확한 전체 개수와 함께
+ * BM25 점수 상위 구간만 돌려주므로, 목록/개수 조회가 posts 전체를 훑지 않습니다.
+ * LIKE '%검색어%' 에 걸리는 게시글은 모두 결과에 포함되지만, n-gram 의 순서/인접 여부와 제목/본문 구분은 보지 않으므로
+ * 결과가 LIKE 보다 조금 넓을 수 있습니다 (예: "spring boot" 는 두 단어가 떨어져 있어도 일치, 점수로 아래에 정렬).
+ */
+@Component
+public class PostSearchIndex implements InitializingBean {
+
+    /** BM25 빈도 포화 상수 */
+    private static final double K1 = 1.2;
+
+    /** BM25 문서 길이 정규화 강도 */
+    private static final double B = 0.75;
+
+    /** 제목에 나온 용어의 가중치 (본문 대비, 빈도와 문서 길이 모두에 적용) */
+    private static final int TITLE_WEIGHT = 3;
+
+    /** 점수 내림차순, 같은 점수면 최신(post_id 큰) 게시글 우선 */
+    private static final Comparator<ScoredPost> RESULT_ORDER = (a, b) -> {
+        int byScore = Double.compare(b.score, a.score);
+        return byScore != 0 ? byScore : Integer.compare(b.postId, a.postId);
+    };
+
+    @Autowired
+    SqlSessionTemplate mybatis;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 용어 → (post_id → [제목 빈도, 본문 빈도]) */
+    private final Map<String, Map<Integer, int[]>> postings = new HashMap<>();
+
+    /** post_id → 카테고리, 가중 문서 길이, 색인된 용어 목록 */
+    private final Map<Integer, IndexedPost> documents = new HashMap<>();
+
+    /** 가중 문서 길이 합 (평균 문서 길이 계산용) */
+    private long totalLength = 0;
+
+    private volatile boolean loaded = false;
+
+    /** 다시 구성하는 동안(조회 시작 ~ 교체) 들어온 작성/수정/삭제, 교체 뒤 순서대로 다시 적용 (구성 중이 아니면 null) */
+    private List<PendingChange> changesDuringReload = null;
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // DB 가 아직 준비되지 않았으면 첫 검색 때 다시 시도
+            System.err.println("⚠️ 게시글 검색 색인 초기 구성 실패 (첫 검색 시 재시도): " + e.getMessage());
+        }
+    }
+
+    /**
+     * 검색어의 모든 n-gram 을 포함한 게시글을 BM25 점수 순으로 offset 부터 limit 개 반환합니다
+     * @param query 검색어
+     * @param categoryId 카테고리 필터 (null이면 전체)
+     * @param offset 건너뛸 결과 수
+     * @param limit 최대 결과 수
+     */
+    public SearchResult search(String query, Integer categoryId, int offset, int limit) {
+        ensureLoaded();
+        offset = Math.max(offset, 0);
+        limit = Math.max(limit, 0);
+        Map<String, Integer> queryTerms = new LinkedHashMap<>();
+        for (String term : KoreanNgramTokenizer.queryTerms(query)) {
+            queryTerms.merge(term, 1, Integer::sum);
+        }
+        if (queryTerms.isEmpty()) {
+            return new SearchResult(new ArrayList<>(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            // 가장 짧은 posting 을 기준으로 후보를 잡고 나머지 용어를 모두 포함하는지 확인
+            List<Map<Integer, int[]>> termPostings = new ArrayList<>(queryTerms.size());
+            Map<Integer, int[]> shortest = null;
+            for (String term : queryTerms.keySet()) {
+                Map<Integer, int[]> found = postings.get(term);
+                if (found == null) {
+                    return new SearchResult(new ArrayList<>(), 0);
+                }
+                termPostings.add(found);
+                if (shortest == null || found.size() < shortest.size()) {
+                    shortest = found;
+                }
+            }
+
+            int documentCount = documents.size();
+            double averageLength = documentCount > 0 ? (double) totalLength / documentCount : 1.0;
+            double[] idf = new double[termPostings.size()];
+            int[] queryCounts = new int[termPostings.size()];
+            int index = 0;
+            for (Map.Entry<String, Integer> queryTerm : queryTerms.entrySet()) {
+                int df = termPostings.get(index).size();
+                idf[index] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+                queryCounts[index] = queryTerm.getValue();
+                index++;
+            }
+
+            int totalCount = 0;
+            int keep = (int) Math.min((long) offset + limit, shortest.size());
+            PriorityQueue<ScoredPost> heap = new PriorityQueue<>(keep + 1, RESULT_ORDER.reversed());
+            candidates:
+            for (Integer postId : shortest.keySet()) {
+                IndexedPost document = documents.get(postId);
+                if (categoryId != null && document.categoryId != categoryId) {
+                    continue;
+                }
+                double lengthNorm = K1 * (1 - B + B * document.length / averageLength);
+                double score = 0;
+                for (int i = 0; i < termPostings.size(); i++) {
+                    int[] frequency = termPostings.get(i).get(postId);
+                    if (frequency == null) {
+                        continue candidates;
+                    }
+                    double tf = TITLE_WEIGHT * frequency[0] + frequency[1];
+                    score += queryCounts[i] * idf[i] * tf * (K1 + 1) / (tf + lengthNorm);
+                }
+                totalCount++;
+                if (keep > 0) {
+                    heap.offer(new ScoredPost(postId, score));
+                    if (heap.size() > keep) {
+                        heap.poll();
+                    }
+                }
+            }
+
+            List<ScoredPost> top = new ArrayList<>(heap);
+            top.sort(RESULT_ORDER);
+            List<Integer> postIds = new ArrayList<>();
+            for (int i = offset; i < top.size(); i++) {
+                postIds.add(top.get(i).postId);
+            }
+            return new SearchResult(postIds, totalCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 🔥 작성/수정된 게시글을 색인에 반영합니다 (같은 ID가 있으면 교체)
+     */
+    public void addPost(PostsDTO post) {
+        lock.writeLock().lock();
+        try {
+            if (changesDuringReload != null) {
+                changesDuringReload.add(new PendingChange(post.getPost_id(), post));
+            }
+            if (!loaded) {
+                return; // 첫 검색 때 DB에서 전체를 적재하면서 포함됨 (구성 중이면 교체 뒤 다시 적용)
+            }
+            removeLocked(post.getPost_id());
+            addLocked(post);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제된 게시글을 색인에서 제거합니다
+     */
+    public void removePost(int postId) {
+        lock.writeLock().lock();
+        try {
+            if (changesDuringReload != null) {
+                changesDuringReload.add(new PendingChange(postId, null));
+            }
+            removeLocked(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * DB 기준으로 색인을 다시 구성합니다 (posts 전체 조회 1회)
+     * 조회는 잠금 밖에서 하므로, 조회를 시작한 뒤 들어온 변경은 기록해 두었다가 교체 뒤 다시 적용합니다
+     * (조회 결과에 이미 포함된 변경을 다시 적용해도 같은 ID 교체/제거라 결과는 같음).
+     */
+    public synchronized void reload() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            changesDuringReload = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<PostsDTO> posts;
+        try {
+            posts = mybatis.selectList("postRepository.findPostsForIndex");
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringReload = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+            for (PostsDTO post : posts) {
+                addLocked(post);
+            }
+            replayed = changesDuringReload.size();
+            for (PendingChange change : changesDuringReload) {
+                removeLocked(change.postId);
+                if (change.post != null) {
+                    addLocked(change.post);
+                }
+            }
+            changesDuringReload = null;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        System.out.println("🔍 게시글 검색 색인 구성 완료: " + posts.size() + "개 게시글, "
+                + postings.size() + "개 용어, 구성 중 변경 " + replayed + "건 (" + (System.currentTimeMillis() - start) + "ms)");
+    }
+
+    private void addLocked(PostsDTO post) {
+        Map<String, int[]> frequencies = new HashMap<>();
+        List<String> titleTerms = KoreanNgramTokenizer.indexTerms(post.getTitle());
+        List<String> contentTerms = KoreanNgramTokenizer.indexTerms(post.getContent());
+        for (String term : titleTerms) {
+            frequencies.computeIfAbsent(term, t -> new int[2])[0]++;
+        }
+        for (String term : contentTerms) {
+            frequencies.computeIfAbsent(term, t -> new int[2])[1]++;
+        }
+        for (Map.Entry<String, int[]> frequency : frequencies.entrySet()) {
+            postings.computeIfAbsent(frequency.getKey(), t -> new HashMap<>()).put(post.getPost_id(), frequency.getValue());
+        }
+        int length = TITLE_WEIGHT * titleTerms.size() + contentTerms.size();
+        documents.put(post.getPost_id(), new IndexedPost(post.getCategory_id(), length, frequencies.keySet().toArray(new String[0])));
+        totalLength += length;
+    }
+
+    private void removeLocked(int postId) {
+        IndexedPost removed = documents.remove(postId);
+        if (removed == null) {
+            return;
+        }
+        totalLength -= removed.length;
+        for (String term : removed.terms) {
+            Map<Integer, int[]> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(postId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    /**
+     * 검색 결과 (요청 구간의 post_id 를 점수 순으로 + 조건에 맞는 전체 개수)
+     */
+    public static final class SearchResult {
+
+        private final List<Integer> postIds;
+        private final int totalCount;
+
+        private SearchResult(List<Integer> postIds, int totalCount) {
+            this.postIds = postIds;
+            this.totalCount = totalCount;
+        }
+
+        public List<Integer> getPostIds() {
+            return postIds;
+        }
+
+        public int getTotalCount() {
+            return totalCount;
+        }
+    }
+
+    /**
+     * 색인된 게시글 1개 (카테고리 필터, BM25 길이 정규화, 제거 시 사용할 용어 목록)
+     */
+    private static final class IndexedPost {
+
+        private final int categoryId;
+        private final int length;
+        private final String[] terms;
+
+        IndexedPost(int categoryId, int length, String[] terms) {
+            this.categoryId = categoryId;
+            this.length = length;
+            this.terms = terms;
+        }
+    }
+
+    /**
+     * 다시 구성하는 동안 들어온 변경 1건 (post 가 null 이면 삭제)
+     */
+    private static final class PendingChange {
+
+        private final int postId;
+        private final PostsDTO post;
+
+        PendingChange(int postId, PostsDTO post) {
+            this.postId = postId;
+            this.post = post;
+        }
+    }
+
+    /**
+     * 상위 결과 선별용 (post_id, BM25 점수)
+     */
+    private static final class ScoredPost {
+
+        private final int postId;
+        private final double score;
+
+        ScoredPost(int postId, double score) {
+            this.postId = postId;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.spring.project.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.spring.project.dto.post.PostsDTO;
+
+/**
+ * 🎯 게시글 조회수 write-behind 카운터
+ * 조회 1건마다 posts 행을 UPDATE 하던 대신, 게시글별 LongAdder(스레드별로 나뉜 셀에 누적) 에 더해 두고
+ * 5초마다 쌓인 증가분을 UPDATE ... CASE 한 번으로 반영합니다 (인기 게시글의 행 잠금 경합 제거).
+ * 같은 게시글을 같은 세션/IP 가 DEDUP_WINDOW_MILLIS 안에 다시 열면 세지 않습니다.
+ * 목록/상세 조회 시 아직 반영되지 않은 증가분을 더해 보여 주므로 조회수는 즉시 갱신된 것처럼 보입니다.
+ */
+@Component
+public class PostViewCounter implements DisposableBean {
+
+    /** 같은 조회자의 재조회를 세지 않는 시간 */
+    private static final long DEDUP_WINDOW_MILLIS = 10 * 60 * 1000L;
+
+    /** 중복 확인용으로 기억하는 최대 (게시글, 조회자) 수 (넘으면 중복 확인 없이 셈) */
+    private static final int MAX_DEDUP_ENTRIES = 200_000;
+
+    /** UPDATE ... CASE 한 번에 넣는 최대 게시글 수 */
+    private static final int MAX_POSTS_PER_UPDATE = 500;
+
+    /** 이 시간 동안 증가분이 없던 카운터는 메모리에서 제거 (제거와 겹친 조회는 evictIdle 이 되살림) */
+    private static final long IDLE_EVICT_MILLIS = 10 * 60 * 1000L;
+
+    @Autowired
+    SqlSessionTemplate mybatis;
+
+    private final Map<Integer, ViewCount> counts = new ConcurrentHashMap<>();
+
+    /** 지난 flush 에서 제거한 카운터 (늦게 더해진 조회를 한 주기 뒤에 한 번 더 확인, flush 잠금 안에서만 사용) */
+    private final Map<Integer, ViewCount> evicted = new HashMap<>();
+
+    /** "post_id:조회자" → 마지막으로 센 시각 */
+    private final Map<String, Long> lastCounted = new ConcurrentHashMap<>();
+
+    /**
+     * 🔥 조회 1건을 기록합니다 (같은 조회자의 DEDUP_WINDOW_MILLIS 내 재조회는 무시)
+     * @param postId 게시글 ID
+     * @param viewerKey 세션 ID 또는 IP (null이면 중복 확인 없이 셈)
+     * @return 조회수에 반영되었는지 여부
+     */
+    public boolean recordView(int postId, String viewerKey) {
+        if (viewerKey != null && !firstViewInWindow(postId + ":" + viewerKey)) {
+            return false;
+        }
+        counts.computeIfAbsent(postId, id -> new ViewCount()).views.increment();
+        return true;
+    }
+
+    /** 아직 DB에 반영되지 않은 조회수 증가분 */
+    public long getPendingViews(int postId) {
+        ViewCount count = counts.get(postId);
+        return count != null ? count.pending() : 0;
+    }
+
+    /**
+     * 조회한 게시글의 views 에 반영 대기 중인 증가분을 더합니다
+     */
+    public void applyPendingViews(List<PostsDTO> posts) {
+        if (posts == null || counts.isEmpty()) {
+            return;
+        }
+        for (PostsDTO post : posts) {
+            applyPendingViews(post);
+        }
+    }
+
+    public void applyPendingViews(PostsDTO post) {
+        if (post == null) {
+            return;
+        }
+        long pending = getPendingViews(post.getPost_id());
+        if (pending > 0) {
+            post.setViews((int) (post.getViews() + pending));
+        }
+    }
+
+    /**
+     * 삭제된 게시글의 카운터를 버립니다
+     */
+    public void removePost(int postId) {
+        counts.remove(postId);
+    }
+
+    /**
+     * 쌓인 조회수 증가분을 UPDATE ... CASE 로 일괄 반영하고, 기한이 지난 중복 확인 기록을 정리합니다
+     */
+    @Scheduled(fixedDelay = 5000)
+    public synchronized void flush() {
+        long now = System.currentTimeMillis();
+        if (!evicted.isEmpty()) {
+            evicted.forEach(this::transferLateViews); // 지난 주기에 제거한 카운터에 늦게 더해진 조회
+            evicted.clear();
+        }
+        List<Map<String, Object>> rows = new ArrayList<>();
+        List<ViewCount> flushed = new ArrayList<>();
+        Iterator<Map.Entry<Integer, ViewCount>> iterator = counts.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, ViewCount> entry = iterator.next();
+            ViewCount count = entry.getValue();
+            long total = count.views.sum();
+            long delta = total - count.flushed;
+            if (delta <= 0) {
+                if (now - count.lastActiveAt >= IDLE_EVICT_MILLIS) {
+                    evictIdle(entry.getKey(), count);
+                }
+                continue;
+            }
+            count.lastActiveAt = now;
+            count.flushing = total;
+            Map<String, Object> row = new HashMap<>();
+            row.put("postId", entry.getKey());
+            row.put("delta", delta);
+            rows.add(row);
+            flushed.add(count);
+        }
+
+        for (int from = 0; from < rows.size(); from += MAX_POSTS_PER_UPDATE) {
+            int to = Math.min(from + MAX_POSTS_PER_UPDATE, rows.size());
+            try {
+                mybatis.update("postRepository.addPostViews", new ArrayList<>(rows.subList(from, to)));
+                for (ViewCount count : flushed.subList(from, to)) {
+                    count.flushed = count.flushing; // 실패한 묶음은 flushed 를 그대로 두어 다음 주기에 재시도
+                }
+            } catch (Exception e) {
+                System.err.println("⚠️ 조회수 flush 실패 (다음 주기에 재시도): " + e.getMessage());
+            }
+        }
+        if (!rows.isEmpty()) {
+            System.out.println("📊 게시글 조회수 반영: " + rows.size() + "개 게시글");
+        }
+
+        long expiredBefore = now - DEDUP_WINDOW_MILLIS;
+        lastCounted.values().removeIf(countedAt -> countedAt < expiredBefore);
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    /**
+     * 증가분 없는 카운터를 제거합니다
+     * 확인한 그 카운터일 때만 제거하고(remove(key, value)), 제거 직후 다시 합계를 확인해 그사이 들어온 조회를 되살립니다.
+     * 제거 직전에 카운터를 잡아 둔 조회 스레드가 재확인 뒤에 더하는 경우도 있으므로, 제거한 카운터는 한 주기 더 보관했다가
+     * 다음 flush 에서 늦게 들어온 증가분을 살아 있는 카운터로 옮깁니다 (transferLateViews).
+     */
+    private void evictIdle(int postId, ViewCount count) {
+        if (!counts.remove(postId, count)) {
+            return;
+        }
+        evicted.put(postId, count);
+        transferLateViews(postId, count);
+    }
+
+    /** 제거된 카운터에 flushed 이후 더해진 증가분을 현재 카운터로 옮김 (flush 잠금 안에서만 호출) */
+    private void transferLateViews(int postId, ViewCount count) {
+        long late = count.views.sum() - count.flushed;
+        if (late > 0) {
+            count.flushed += late;
+            counts.computeIfAbsent(postId, id -> new ViewCount()).views.add(late);
+        }
+    }
+
+    private boolean firstViewInWindow(String key) {
+        long now = System.currentTimeMillis();
+        if (lastCounted.size() >= MAX_DEDUP_ENTRIES && !lastCounted.containsKey(key)) {
+            return true;
+        }
+        boolean[] counted = {false};
+        lastCounted.compute(key, (k, countedAt) -> {
+            if (countedAt == null || now - countedAt >= DEDUP_WINDOW_MILLIS) {
+                counted[0] = true;
+                return now;
+            }
+            return countedAt;
+        });
+        return counted[0];
+    }
+
+    /**
+     * 게시글 1개의 누적 조회수와 DB에 반영된 지점 (flushed, flushing, lastActiveAt 은 flush 잠금 안에서만 수정)
+     */
+    private static final class ViewCount {
+        final LongAdder views = new LongAdder();
+        volatile long flushed;
+        long flushing;
+        long lastActiveAt = System.currentTimeMillis();
+
+        long pending() {
+            return views.sum() - flushed;
+        }
+    }
+}
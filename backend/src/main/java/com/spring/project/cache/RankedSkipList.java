@@ -0,0 +1,185 @@
+package com.spring.project.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 순위 조회가 가능한 스킵 리스트 (스레드 안전하지 않음, 호출하는 쪽에서 잠금)
+ * 각 링크에 건너뛰는 노드 수(span)를 기록하여 삽입/삭제/순위 조회/위치 조회를 모두 O(log n)에 처리합니다.
+ */
+final class RankedSkipList<K> {
+
+    private static final int MAX_LEVEL = 32;
+
+    /** 다음 레벨로 올라갈 확률 (1/4) */
+    private static final int LEVEL_UP_ONE_IN = 4;
+
+    private final Comparator<? super K> comparator;
+    private final Node<K> head = new Node<>(null, MAX_LEVEL);
+    private int level = 1;
+    private int size = 0;
+
+    RankedSkipList(Comparator<? super K> comparator) {
+        this.comparator = comparator;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 키를 삽입합니다
+     * @return 이미 같은 키가 있으면 false
+     */
+    @SuppressWarnings("unchecked")
+    boolean insert(K key) {
+        Node<K>[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node<K> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && comparator.compare(x.next[i].key, key) < 0) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        if (x.next[0] != null && comparator.compare(x.next[0].key, key) == 0) {
+            return false;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = nodeLevel;
+        }
+
+        Node<K> node = new Node<>(key, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * 키를 삭제합니다
+     * @return 키가 없었으면 false
+     */
+    @SuppressWarnings("unchecked")
+    boolean remove(K key) {
+        Node<K>[] update = new Node[MAX_LEVEL];
+        Node<K> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && comparator.compare(x.next[i].key, key) < 0) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        x = x.next[0];
+        if (x == null || comparator.compare(x.key, key) != 0) {
+            return false;
+        }
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == x) {
+                update[i].span[i] += x.span[i] - 1;
+                update[i].next[i] = x.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * 키보다 앞에 있는 원소 수 (키가 없어도 들어갈 위치 기준으로 계산)
+     */
+    int countBefore(K key) {
+        int rank = 0;
+        Node<K> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && comparator.compare(x.next[i].key, key) < 0) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * offset 위치(0부터)부터 최대 limit 개의 키를 순서대로 반환합니다
+     */
+    List<K> range(int offset, int limit) {
+        List<K> keys = new ArrayList<>(Math.max(0, Math.min(limit, size - offset)));
+        if (offset < 0 || offset >= size || limit <= 0) {
+            return keys;
+        }
+
+        int target = offset + 1;
+        int traversed = 0;
+        Node<K> x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= target) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if (traversed == target) {
+                break;
+            }
+        }
+        while (x != null && keys.size() < limit) {
+            keys.add(x.key);
+            x = x.next[0];
+        }
+        return keys;
+    }
+
+    void clear() {
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            head.next[i] = null;
+            head.span[i] = 0;
+        }
+        level = 1;
+        size = 0;
+    }
+
+    private static int randomLevel() {
+        int nodeLevel = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (nodeLevel < MAX_LEVEL && random.nextInt(LEVEL_UP_ONE_IN) == 0) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+
+    private static final class Node<K> {
+
+        private final K key;
+        private final Node<K>[] next;
+        private final int[] span;
+
+        @SuppressWarnings("unchecked")
+        Node(K key, int level) {
+            this.key = key;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.spring.project.cache;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.spring.project.dto.user.LeaderboardEntryDTO;
+
+/**
+ * 🎯 기간별(일간/주간/월간) 경험치 리더보드
+ * 사용자마다 최근 30일의 일별 획득 경험치를 링 버퍼에 보관하고, 기간별 합계를 증분으로 유지합니다.
+ * 통과 제출이 기록되면 오늘 칸과 합계만 갱신하고, 날짜가 바뀌면 스케줄러가 기간 밖으로 밀려난 칸을 합계에서 빼며 창을 전진시킵니다.
+ * 상위 K명은 크기 K의 힙으로 뽑아 다음 변경 전까지 재사용하므로, 제출 이력을 다시 집계하지 않습니다.
+ */
+@Component
+public class RollingLeaderboard {
+
+    /** 링 버퍼 길이 (가장 긴 기간) */
+    private static final int BUCKET_DAYS = 30;
+
+    /** 기간별 리더보드가 보관하는 최대 순위 */
+    public static final int MAX_TOP = 100;
+
+    /**
+     * 리더보드 기간
+     */
+    public enum Window {
+        DAILY(1), WEEKLY(7), MONTHLY(30);
+
+        private final int days;
+
+        Window(int days) {
+            this.days = days;
+        }
+
+        public int getDays() {
+            return days;
+        }
+
+        /** "daily" / "weekly" / "monthly" (대소문자 무시, 없으면 null) */
+        public static Window from(String name) {
+            for (Window window : values()) {
+                if (window.name().equalsIgnoreCase(name)) {
+                    return window;
+                }
+            }
+            return null;
+        }
+    }
+
+    @Autowired
+    SqlSessionTemplate mybatis;
+
+    @Autowired
+    ExperienceLeaderboard experienceLeaderboard;
+
+    private final Map<Integer, Activity> activities = new HashMap<>();
+    private long currentDay;
+    private long version = 0;
+
+    /** 기간별 상위 K명 스냅샷 (version 이 바뀌면 다시 계산) */
+    private final List<TopEntry>[] topSnapshots = newSnapshotArray();
+    private final long[] snapshotVersions = new long[Window.values().length];
+
+    private volatile boolean loaded = false;
+
+    /**
+     * 기간별 상위 순위를 조회합니다
+     * @param window 기간
+     * @param limit 최대 개수 (MAX_TOP 이하)
+     */
+    public List<LeaderboardEntryDTO> getTop(Window window, int limit) {
+        ensureLoaded();
+        List<TopEntry> top;
+        synchronized (this) {
+            rollForward(today());
+            int w = window.ordinal();
+            if (topSnapshots[w] == null || snapshotVersions[w] != version) {
+                topSnapshots[w] = selectTop(w);
+                snapshotVersions[w] = version;
+            }
+            top = topSnapshots[w];
+        }
+
+        List<LeaderboardEntryDTO> entries = new ArrayList<>(Math.min(limit, top.size()));
+        for (int i = 0; i < top.size() && i < limit; i++) {
+            TopEntry entry = top.get(i);
+            entries.add(new LeaderboardEntryDTO(i + 1, entry.userId, experienceLeaderboard.getNickname(entry.userId), entry.exp));
+        }
+        return entries;
+    }
+
+    /**
+     * 🔥 통과 제출이 기록되었을 때 오늘 칸과 기간별 합계를 갱신합니다
+     * @param userId 사용자 ID
+     * @param exp 지급된 경험치 (이미 통과한 챌린지면 0)
+     */
+    public void recordPass(int userId, int exp) {
+        if (!loaded) {
+            ensureLoaded(); // 적재 쿼리에 이번 제출이 이미 포함됨
+            return;
+        }
+        if (exp <= 0) {
+            return;
+        }
+        synchronized (this) {
+            long today = today();
+            rollForward(today);
+            activities.computeIfAbsent(userId, Activity::new).add(today, today, exp);
+            version++;
+        }
+    }
+
+    /**
+     * 자정마다 창을 하루 전진시킵니다 (조회/기록 시에도 날짜가 바뀌었으면 먼저 전진)
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void rollWindows() {
+        if (!loaded) {
+            return;
+        }
+        synchronized (this) {
+            rollForward(today());
+        }
+        System.out.println("📊 기간별 리더보드 창 전진 완료: 활동 사용자 " + activities.size() + "명");
+    }
+
+    /**
+     * 최근 30일의 통과 제출을 사용자×일 단위로 한 번 집계하여 다시 구성합니다
+     */
+    public synchronized void reload() {
+        List<Map<String, Object>> rows = mybatis.selectList("challengeRepository.getRecentPassedExpByUserAndDay", BUCKET_DAYS);
+
+        long today = today();
+        activities.clear();
+        currentDay = today;
+        for (Map<String, Object> row : rows) {
+            Number userId = (Number) row.get("user_id");
+            Number daysAgo = (Number) row.get("days_ago");
+            Number exp = (Number) row.get("exp");
+            if (userId == null || daysAgo == null || exp == null || exp.intValue() <= 0
+                    || daysAgo.intValue() < 0 || daysAgo.intValue() >= BUCKET_DAYS) {
+                continue;
+            }
+            activities.computeIfAbsent(userId.intValue(), Activity::new).add(today - daysAgo.longValue(), today, exp.intValue());
+        }
+        version++;
+        loaded = true;
+
+        System.out.println("📊 기간별 리더보드 적재 완료: 활동 사용자 " + activities.size() + "명");
+    }
+
+    /**
+     * 오늘 날짜까지 하루씩 창을 전진시킵니다
+     * 하루 전진할 때마다 각 기간의 가장 오래된 칸을 합계에서 빼고, 30일 전 칸은 비웁니다.
+     */
+    private void rollForward(long today) {
+        if (today <= currentDay) {
+            return;
+        }
+        if (today - currentDay >= BUCKET_DAYS) {
+            activities.clear();
+        } else {
+            for (long day = currentDay + 1; day <= today; day++) {
+                Iterator<Activity> iterator = activities.values().iterator();
+                while (iterator.hasNext()) {
+                    Activity activity = iterator.next();
+                    activity.expire(day);
+                    if (activity.isEmpty()) {
+                        iterator.remove();
+                    }
+                }
+            }
+        }
+        currentDay = today;
+        version++;
+    }
+
+    /** 크기 MAX_TOP 의 최소 힙으로 기간 합계 상위 사용자를 뽑습니다 */
+    private List<TopEntry> selectTop(int w) {
+        Comparator<Activity> ranking = (a, b) -> {
+            if (a.windowExp[w] != b.windowExp[w]) {
+                return Integer.compare(b.windowExp[w], a.windowExp[w]);
+            }
+            return Integer.compare(a.userId, b.userId);
+        };
+        PriorityQueue<Activity> heap = new PriorityQueue<>(MAX_TOP + 1, ranking.reversed());
+        for (Activity activity : activities.values()) {
+            if (activity.windowExp[w] <= 0) {
+                continue;
+            }
+            heap.offer(activity);
+            if (heap.size() > MAX_TOP) {
+                heap.poll(); // 현재 상위 K명 중 가장 낮은 사용자 제거
+            }
+        }
+        List<Activity> sorted = new ArrayList<>(heap);
+        sorted.sort(ranking);
+        List<TopEntry> top = new ArrayList<>(sorted.size());
+        for (Activity activity : sorted) {
+            top.add(new TopEntry(activity.userId, activity.windowExp[w]));
+        }
+        return Collections.unmodifiableList(top);
+    }
+
+    private static long today() {
+        return LocalDate.now().toEpochDay();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<TopEntry>[] newSnapshotArray() {
+        return new List[Window.values().length];
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    /**
+     * 사용자 1명의 최근 30일 일별 경험치 링 버퍼와 기간별 합계
+     */
+    private static final class Activity {
+
+        private final int userId;
+        private final int[] dailyExp = new int[BUCKET_DAYS];
+        private final int[] windowExp = new int[Window.values().length];
+
+        Activity(int userId) {
+            this.userId = userId;
+        }
+
+        /** day 날짜 칸에 경험치를 더하고, day 를 포함하는 기간의 합계에 반영합니다 (today 기준 30일 이내) */
+        void add(long day, long today, int exp) {
+            dailyExp[slot(day)] += exp;
+            for (Window window : Window.values()) {
+                if (today - day < window.days) {
+                    windowExp[window.ordinal()] += exp;
+                }
+            }
+        }
+
+        /** newDay 가 오늘이 될 때 각 기간에서 빠지는 칸을 합계에서 뺍니다 */
+        void expire(long newDay) {
+            for (Window window : Window.values()) {
+                windowExp[window.ordinal()] -= dailyExp[slot(newDay - window.days)];
+            }
+            dailyExp[slot(newDay)] = 0; // newDay - 30 과 같은 칸
+        }
+
+        boolean isEmpty() {
+            return windowExp[Window.MONTHLY.ordinal()] <= 0;
+        }
+
+        private static int slot(long day) {
+            return (int) Math.floorMod(day, (long) BUCKET_DAYS);
+        }
+    }
+
+    /**
+     * 상위 순위 스냅샷 항목 (계산 시점의 합계를 복사해 둠)
+     */
+    private static final class TopEntry {
+
+        private final int userId;
+        private final int exp;
+
+        TopEntry(int userId, int exp) {
+            this.userId = userId;
+            this.exp = exp;
+        }
+    }
+}
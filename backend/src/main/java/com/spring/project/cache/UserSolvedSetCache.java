@@ -0,0 +1,175 @@
+package com.spring.project.cache;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🎯 사용자별 해결/시도 챌린지 비트맵 캐시
+ * 사용자마다 challenge_id 를 비트 위치로 하는 해결(solved)/시도(attempted) 비트맵 두 개를 보관합니다.
+ * 처음 조회될 때 Challenge_sub 를 사용자 기준 GROUP BY 한 번으로 적재하고, 이후에는 제출 이벤트로 비트만 켭니다.
+ * 두 집합은 제출이 쌓일수록 커지기만 하므로(챌린지 삭제 제외) 적재 중에 들어온 제출도 OR 로 합쳐 유실되지 않습니다.
+ * 최근에 조회된 MAX_CACHED_USERS 명까지만 보관합니다 (LRU).
+ */
+@Component
+public class UserSolvedSetCache {
+
+    /** 캐시에 보관하는 최대 사용자 수 */
+    private static final int MAX_CACHED_USERS = 10_000;
+
+    @Autowired
+    SqlSessionTemplate mybatis;
+
+    private final Map<Integer, SolvedSet> entries = new LinkedHashMap<Integer, SolvedSet>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, SolvedSet> eldest) {
+            return size() > MAX_CACHED_USERS;
+        }
+    };
+
+    /**
+     * 사용자의 해결/시도 집합 스냅샷을 반환합니다 (캐시에 없으면 DB에서 적재)
+     * @param userId 사용자 ID
+     */
+    public Snapshot getSnapshot(int userId) {
+        SolvedSet solvedSet = entryFor(userId);
+        if (!solvedSet.isComplete()) {
+            List<Map<String, Object>> rows = mybatis.selectList("challengeRepository.getUserChallengeStatus", userId);
+            solvedSet.merge(rows);
+        }
+        return solvedSet.snapshot();
+    }
+
+    /**
+     * 🔥 제출이 기록되었을 때 사용자의 비트맵을 갱신합니다 (Challenge_sub INSERT 후 호출)
+     * 아직 적재되지 않은 사용자는 미완성 항목에 기록해 두었다가 적재 결과와 합칩니다.
+     */
+    public void recordSubmission(int userId, int challengeId, boolean pass) {
+        entryFor(userId).record(challengeId, pass);
+    }
+
+    /**
+     * 삭제된 챌린지의 비트를 캐시된 모든 사용자에서 끕니다
+     */
+    public void removeChallenge(int challengeId) {
+        SolvedSet[] cached;
+        synchronized (entries) {
+            cached = entries.values().toArray(new SolvedSet[0]);
+        }
+        for (SolvedSet solvedSet : cached) {
+            solvedSet.clear(challengeId);
+        }
+    }
+
+    /** 캐시된 사용자 수 */
+    public int getCachedUserCount() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private SolvedSet entryFor(int userId) {
+        synchronized (entries) {
+            return entries.computeIfAbsent(userId, id -> new SolvedSet());
+        }
+    }
+
+    /**
+     * 사용자 1명의 해결/시도 비트맵 (challenge_id → 비트)
+     */
+    private static final class SolvedSet {
+
+        private final BitSet solved = new BitSet();
+        private final BitSet attempted = new BitSet();
+        private boolean complete = false;
+
+        synchronized boolean isComplete() {
+            return complete;
+        }
+
+        synchronized void record(int challengeId, boolean pass) {
+            attempted.set(challengeId);
+            if (pass) {
+                solved.set(challengeId);
+            }
+        }
+
+        synchronized void merge(List<Map<String, Object>> rows) {
+            for (Map<String, Object> row : rows) {
+                Number challengeId = (Number) row.get("challenge_id");
+                Object passed = row.get("passed");
+                if (challengeId == null) {
+                    continue;
+                }
+                attempted.set(challengeId.intValue());
+                if (passed instanceof Number && ((Number) passed).intValue() > 0 || Boolean.TRUE.equals(passed)) {
+                    solved.set(challengeId.intValue());
+                }
+            }
+            complete = true;
+        }
+
+        synchronized void clear(int challengeId) {
+            solved.clear(challengeId);
+            attempted.clear(challengeId);
+        }
+
+        synchronized Snapshot snapshot() {
+            return new Snapshot((BitSet) solved.clone(), (BitSet) attempted.clone());
+        }
+    }
+
+    /**
+     * 조회 시점의 해결/시도 집합 (불변 사본)
+     */
+    public static final class Snapshot {
+
+        private final BitSet solved;
+        private final BitSet attempted;
+
+        private Snapshot(BitSet solved, BitSet attempted) {
+            this.solved = solved;
+            this.attempted = attempted;
+        }
+
+        public boolean isSolved(int challengeId) {
+            return solved.get(challengeId);
+        }
+
+        /** 제출했지만 아직 통과하지 못한 챌린지인지 */
+        public boolean isAttempted(int challengeId) {
+            return attempted.get(challengeId) && !solved.get(challengeId);
+        }
+
+        /** "solved" / "attempted" / 제출 기록 없으면 null */
+        public String statusOf(int challengeId) {
+            if (solved.get(challengeId)) {
+                return "solved";
+            }
+            return attempted.get(challengeId) ? "attempted" : null;
+        }
+
+        public int getSolvedCount() {
+            return solved.cardinality();
+        }
+
+        public int getAttemptedCount() {
+            return attempted.cardinality();
+        }
+
+        /** 해결한 challenge_id 비트맵 (사본, 수정해도 캐시에 영향 없음) */
+        public BitSet solvedIds() {
+            return (BitSet) solved.clone();
+        }
+
+        /** 제출한 적 있는 challenge_id 비트맵 (해결 포함, 사본) */
+        public BitSet attemptedIds() {
+            return (BitSet) attempted.clone();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.spring.project.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.spring.project.dto.user.UserSummaryDTO;
+
+/**
+ * 🎯 작성자 표시 정보(닉네임, 등급 색상/아이콘) 캐시
+ * 게시글 목록처럼 여러 사용자의 표시 정보가 필요한 곳에서 getAll 로 한 번에 조회하면,
+ * 캐시에 없는 사용자만 모아 WHERE user_id IN (...) 한 번으로 적재합니다 (게시글마다 닉네임을 조회하던 N+1 제거).
+ * 최근에 조회된 MAX_CACHED_USERS 명까지만 보관하고 (LRU), 닉네임이 바뀌면 해당 사용자를 무효화합니다.
+ */
+@Component
+public class UserSummaryCache {
+
+    /** 캐시에 보관하는 최대 사용자 수 */
+    private static final int MAX_CACHED_USERS = 10_000;
+
+    /** IN 목록 하나에 넣는 최대 ID 수 */
+    private static final int MAX_IDS_PER_QUERY = 500;
+
+    @Autowired
+    SqlSessionTemplate mybatis;
+
+    private final Map<Integer, UserSummaryDTO> entries = new LinkedHashMap<Integer, UserSummaryDTO>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, UserSummaryDTO> eldest) {
+            return size() > MAX_CACHED_USERS;
+        }
+    };
+
+    /** 무효화 횟수 (적재 도중 무효화가 있었으면 읽어 온 값을 캐시하지 않기 위해 사용) */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * 사용자 1명의 표시 정보 (없는 사용자면 null)
+     */
+    public UserSummaryDTO get(int userId) {
+        List<Integer> ids = new ArrayList<>(1);
+        ids.add(userId);
+        return getAll(ids).get(userId);
+    }
+
+    /**
+     * 🔥 여러 사용자의 표시 정보를 한 번에 조회합니다 (캐시 미스분만 DB 조회 1회)
+     * @param userIds 사용자 ID 목록 (중복 허용)
+     * @return user_id → 표시 정보 (없는 사용자는 포함되지 않음)
+     */
+    public Map<Integer, UserSummaryDTO> getAll(Collection<Integer> userIds) {
+        Map<Integer, UserSummaryDTO> result = new HashMap<>();
+        Set<Integer> misses = new LinkedHashSet<>();
+        synchronized (entries) {
+            for (Integer userId : userIds) {
+                if (userId == null) {
+                    continue;
+                }
+                UserSummaryDTO cached = entries.get(userId);
+                if (cached != null) {
+                    result.put(userId, cached);
+                } else {
+                    misses.add(userId);
+                }
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        long invalidationsBefore = invalidations.get();
+        List<Integer> missList = new ArrayList<>(misses);
+        List<UserSummaryDTO> loaded = new ArrayList<>(missList.size());
+        for (int from = 0; from < missList.size(); from += MAX_IDS_PER_QUERY) {
+            List<Integer> batch = missList.subList(from, Math.min(from + MAX_IDS_PER_QUERY, missList.size()));
+            loaded.addAll(mybatis.selectList("userRepository.findUserSummariesByIds", new ArrayList<>(batch)));
+        }
+
+        synchronized (entries) {
+            boolean cacheable = invalidations.get() == invalidationsBefore;
+            for (UserSummaryDTO summary : loaded) {
+                result.put(summary.getUser_id(), summary);
+                if (cacheable) {
+                    entries.put(summary.getUser_id(), summary);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 닉네임/등급이 바뀐 사용자를 캐시에서 제거합니다 (다음 조회 때 다시 적재)
+     */
+    public void invalidate(int userId) {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.remove(userId);
+        }
+    }
+
+    /** 캐시된 사용자 수 */
+    public int getCachedUserCount() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
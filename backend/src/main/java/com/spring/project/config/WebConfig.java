@@ -14,6 +14,7 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addMapping("/api/**")
             .allowedOrigins("http://localhost:3000")
             .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+            .exposedHeaders("Retry-After") // 채점 대기열 포화(429) 시 재시도 시간
             .allowCredentials(true);
     }
 }
\ No newline at end of file
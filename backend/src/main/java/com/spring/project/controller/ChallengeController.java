@@ -4,7 +4,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,7 +24,13 @@ import org.springframework.web.bind.annotation.RestController;
 import com.spring.project.dto.challenge.ChallengeDTO;
 import com.spring.project.dto.challenge.ChallengeLevelDTO;
 import com.spring.project.dto.challenge.ChallengeCategoryDTO;
+import com.spring.project.dto.challenge.ChallengeSubmitDTO;
+import com.spring.project.dto.challenge.ChallengeTestCaseDTO;
+import com.spring.project.dto.user.UserDTO;
+import com.spring.project.grading.GradingJob;
+import com.spring.project.grading.GradingQueueFullException;
 import com.spring.project.service.ChallengeService;
+import com.spring.project.service.GradingService;
 
 @RestController
 @RequestMapping("/api")
@@ -28,23 +40,37 @@ public class ChallengeController {
     @Autowired
     ChallengeService challengeService;
 
+    @Autowired
+    GradingService gradingService;
+
     /**
-     * 🎯 챌린지 목록 조회 (필터링 지원)
+     * 🎯 챌린지 목록 조회 (필터링 + 키셋 페이지네이션 지원)
      * difficulty, category, language 파라미터를 받아서 해당 조건에 맞는 챌린지만 반환
+     * cursor(이전 응답의 nextCursor)와 size로 다음 페이지를 조회 (둘 다 없으면 페이지 없이 전체 목록)
+     * 로그인 상태면 statusMap(challenge_id → solved/attempted)을 함께 반환하고, unsolvedOnly=true 면 해결한 챌린지를 제외
      */
     @GetMapping("/challenges")
     public Map<String, Object> getAllChallenges(
             @RequestParam(defaultValue = "all") String difficulty,
             @RequestParam(defaultValue = "all") String category,
-            @RequestParam(defaultValue = "all") String language) { // 🎯 언어 파라미터 추가
+            @RequestParam(defaultValue = "all") String language, // 🎯 언어 파라미터 추가
+            @RequestParam(required = false) Integer cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean unsolvedOnly,
+            HttpSession session) {
 
         Map<String, Object> response = new HashMap<>();
 
         try {
-            System.out.println("🎯 챌린지 데이터 조회 요청 - difficulty: " + difficulty + ", category: " + category + ", language: " + language);
+            System.out.println("🎯 챌린지 데이터 조회 요청 - difficulty: " + difficulty + ", category: " + category + ", language: " + language
+                    + ", unsolvedOnly: " + unsolvedOnly);
+
+            // 🔥 로그인 사용자는 해결/시도 상태 표시와 "미해결만" 필터 적용 (비로그인은 전체 목록)
+            UserDTO loginUser = (UserDTO) session.getAttribute("userSession");
+            Integer userId = loginUser != null ? loginUser.getUser_id() : null;
 
-            // 🎯 필터 파라미터와 함께 데이터 조회
-            Map<String, Object> challengeInfoMap = challengeService.getAllChallengesForPage(difficulty, category, language);
+            // 🎯 필터 + 페이지 파라미터와 함께 데이터 조회
+            Map<String, Object> challengeInfoMap = challengeService.getAllChallengesForPage(difficulty, category, language, cursor, size, userId, unsolvedOnly);
 
             List<ChallengeDTO> challengeList = (List<ChallengeDTO>) challengeInfoMap.get("challengeList");
             List<ChallengeLevelDTO> levelsList = (List<ChallengeLevelDTO>) challengeInfoMap.get("levelsList");
@@ -55,6 +81,15 @@ public class ChallengeController {
             response.put("levels", levelsList);
             response.put("categories", categoriesList);
             response.put("total", challengeList.size());
+            response.put("completedCountMap", challengeInfoMap.get("completedCountMap"));
+            response.put("statistics", challengeInfoMap.get("statistics"));
+            response.put("size", challengeInfoMap.get("pageSize"));
+            response.put("hasMore", challengeInfoMap.get("hasMore"));
+            response.put("nextCursor", challengeInfoMap.get("nextCursor"));
+            response.put("totalCount", challengeInfoMap.get("totalCount"));
+            response.put("facets", challengeInfoMap.get("facets"));
+            response.put("statusMap", challengeInfoMap.get("statusMap"));
+            response.put("solvedCount", challengeInfoMap.get("solvedCount"));
             response.put("message", "챌린지 목록 조회 성공");
 
             System.out.println("챌린지 전체 데이터 조회 성공: " + challengeList.size() + "개");
@@ -73,6 +108,158 @@ public class ChallengeController {
         }
     }
 
+    /**
+     * 🎯 챌린지 전문 검색
+     * 제목/본문을 한국어 n-gram 인메모리 색인으로 검색하여 관련도 순으로 반환 (DB 조회 없음)
+     */
+    @GetMapping("/challenges/search")
+    public Map<String, Object> searchChallenges(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(required = false) Integer limit) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        if (q.trim().isEmpty()) {
+            response.put("success", false);
+            response.put("message", "검색어를 입력해주세요.");
+            return response;
+        }
+
+        try {
+            Map<String, Object> searchResult = challengeService.searchChallenges(q, limit);
+
+            response.put("success", true);
+            response.putAll(searchResult);
+            response.put("message", "챌린지 검색 성공");
+
+            return response;
+
+        } catch (Exception e) {
+            System.err.println("챌린지 검색 API 오류: " + e.getMessage());
+            e.printStackTrace();
+
+            response.put("success", false);
+            response.put("message", "챌린지 검색에 실패했습니다.");
+            response.put("error", e.getMessage());
+
+            return response;
+        }
+    }
+
+    /**
+     * 🎯 다음 챌린지 추천 (로그인 필요)
+     * 아직 해결하지 않은 챌린지를 등급, 약한 카테고리/언어, 전체 정답률 기준으로 추천
+     */
+    @GetMapping("/challenges/recommended")
+    public Map<String, Object> getRecommendedChallenges(
+            @RequestParam(required = false) Integer limit,
+            HttpSession session) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        Object userSession = session.getAttribute("userSession");
+        if (userSession == null) {
+            response.put("success", false);
+            response.put("message", "로그인이 필요합니다.");
+            return response;
+        }
+        UserDTO loginUser = (UserDTO) userSession;
+
+        try {
+            Map<String, Object> recommendation = challengeService.getRecommendedChallenges(loginUser.getUser_id(), limit);
+
+            response.put("success", true);
+            response.putAll(recommendation);
+            response.put("message", "챌린지 추천 성공");
+
+            return response;
+
+        } catch (Exception e) {
+            System.err.println("챌린지 추천 API 오류: " + e.getMessage());
+            e.printStackTrace();
+
+            response.put("success", false);
+            response.put("message", "챌린지 추천에 실패했습니다.");
+            response.put("error", e.getMessage());
+
+            return response;
+        }
+    }
+
+    /**
+     * 🎯 챌린지 카탈로그 변경분 동기화
+     * 캐시한 목록의 version 을 since 로 보내면 이후 추가/수정/삭제분만 반환합니다.
+     * fullResync 가 true면 전체 목록을 다시 받고 응답의 version 부터 동기화합니다.
+     */
+    @GetMapping("/challenges/changes")
+    public Map<String, Object> getChallengeChanges(@RequestParam(defaultValue = "0") long since) {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            Map<String, Object> changeMap = challengeService.getChallengeChanges(since);
+
+            response.put("success", true);
+            response.putAll(changeMap);
+            response.put("message", "챌린지 변경분 조회 성공");
+
+            return response;
+
+        } catch (Exception e) {
+            System.err.println("챌린지 변경분 조회 API 오류: " + e.getMessage());
+            e.printStackTrace();
+
+            response.put("success", false);
+            response.put("message", "챌린지 변경분 조회에 실패했습니다.");
+            response.put("error", e.getMessage());
+
+            return response;
+        }
+    }
+
+    /**
+     * 🎯 관리자용 추천 난이도 조회
+     * 채점 결과로 갱신되는 Elo 레이팅 순으로 다시 나눈 난이도 중 현재 난이도와 다른 챌린지 목록
+     * 🔥 관리자(user_type = ADMIN) 세션만 허용 (refresh=true 는 전체 재계산을 일으킴, 비로그인 401, 그 외 403)
+     */
+    @GetMapping("/admin/challenges/level-suggestions")
+    public ResponseEntity<Map<String, Object>> getLevelSuggestions(@RequestParam(defaultValue = "false") boolean refresh,
+                                                                   HttpSession session) {
+        Map<String, Object> response = new HashMap<>();
+
+        UserDTO loginUser = (UserDTO) session.getAttribute("userSession");
+        if (loginUser == null) {
+            response.put("success", false);
+            response.put("message", "로그인이 필요합니다.");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+        if (!"ADMIN".equals(loginUser.getUser_type())) {
+            System.out.println("⚠️ 추천 난이도 조회 거부 (관리자 아님) - 사용자: " + loginUser.getUser_id());
+            response.put("success", false);
+            response.put("message", "관리자만 추천 난이도를 조회할 수 있습니다.");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+
+        try {
+            Map<String, Object> suggestionMap = challengeService.getLevelSuggestions(refresh);
+
+            response.put("success", true);
+            response.putAll(suggestionMap);
+            response.put("message", "추천 난이도 조회 성공");
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            System.err.println("추천 난이도 조회 API 오류: " + e.getMessage());
+            e.printStackTrace();
+
+            response.put("success", false);
+            response.put("message", "추천 난이도 조회에 실패했습니다.");
+            response.put("error", e.getMessage());
+
+            return ResponseEntity.ok(response);
+        }
+    }
+
     /**
      * 🎯 개별 챌린지 상세 조회
      * 챌린지 ID를 받아서 해당 챌린지의 상세 정보와 통계를 반환
@@ -116,6 +303,70 @@ public class ChallengeController {
         }
     }
 
+    /**
+     * 🎯 챌린지 코드 제출 (비동기 자동 채점)
+     * 제출 코드를 채점 대기열에 넣고 작업 ID를 즉시 반환 (202)
+     * 결과는 /api/grading/jobs/{jobId} 폴링 또는 /api/grading/jobs/{jobId}/events (SSE)로 수신
+     * 대기열이 가득 차면 429 + Retry-After 반환
+     */
+    @PostMapping("/challenges/{challengeId}/submit")
+    public ResponseEntity<Map<String, Object>> submitChallenge(@PathVariable Integer challengeId,
+                                                               @RequestBody ChallengeSubmitDTO submitDTO,
+                                                               HttpSession session) {
+        Map<String, Object> response = new HashMap<>();
+
+        Object userSession = session.getAttribute("userSession");
+        if (userSession == null) {
+            response.put("success", false);
+            response.put("message", "로그인이 필요합니다.");
+            return ResponseEntity.ok(response);
+        }
+        UserDTO loginUser = (UserDTO) userSession;
+
+        try {
+            System.out.println("🎯 챌린지 제출 요청 - ID: " + challengeId + ", userId: " + loginUser.getUser_id() + ", " + submitDTO);
+
+            GradingJob job = gradingService.submitChallenge(challengeId, loginUser.getUser_id(), submitDTO);
+
+            if (job == null) {
+                response.put("success", false);
+                response.put("message", "해당 챌린지를 찾을 수 없습니다.");
+                return ResponseEntity.ok(response);
+            }
+
+            response.put("success", true);
+            response.put("jobId", job.getJobId());
+            response.put("status", job.getStatus());
+            response.put("position", gradingService.getQueuePosition(job));
+            response.put("statusUrl", "/api/grading/jobs/" + job.getJobId());
+            response.put("eventsUrl", "/api/grading/jobs/" + job.getJobId() + "/events");
+            response.put("message", "채점 대기열에 등록되었습니다.");
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+
+        } catch (GradingQueueFullException e) {
+            System.out.println("⚠️ 채점 대기열 포화 - Retry-After: " + e.getRetryAfterSeconds() + "초");
+
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            response.put("retryAfter", e.getRetryAfterSeconds());
+
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(response);
+
+        } catch (Exception e) {
+            System.err.println("챌린지 제출 API 오류: " + e.getMessage());
+            e.printStackTrace();
+
+            response.put("success", false);
+            response.put("message", "챌린지 제출 중 오류가 발생했습니다.");
+            response.put("error", e.getMessage());
+
+            return ResponseEntity.ok(response);
+        }
+    }
+
     /**
      * 🎯 새로운 챌린지 등록
      * 챌린지 정보를 받아서 데이터베이스에 등록
@@ -153,6 +404,54 @@ public class ChallengeController {
         }
     }
 
+    /**
+     * 🎯 챌린지 일괄 등록 (관리자용)
+     * 본문은 챌린지 객체의 JSON 배열 또는 한 줄에 하나씩인 NDJSON 이며, 스트림으로 읽어 청크 단위로 등록합니다.
+     * 일부 행이 실패해도 나머지는 등록되고, 실패한 행은 errors 에 행 번호와 사유로 보고됩니다.
+     * 🔥 관리자(user_type = ADMIN) 세션만 허용하며, 본문을 읽기 전에 확인합니다 (비로그인 401, 그 외 403)
+     */
+    @PostMapping(value = "/challenge/import", consumes = {"application/json", "application/x-ndjson"})
+    public ResponseEntity<Map<String, Object>> importChallenges(HttpServletRequest request, HttpSession session) {
+        Map<String, Object> response = new HashMap<>();
+
+        UserDTO loginUser = (UserDTO) session.getAttribute("userSession");
+        if (loginUser == null) {
+            response.put("success", false);
+            response.put("message", "로그인이 필요합니다.");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+        if (!"ADMIN".equals(loginUser.getUser_type())) {
+            System.out.println("⚠️ 챌린지 일괄 등록 거부 (관리자 아님) - 사용자: " + loginUser.getUser_id());
+            response.put("success", false);
+            response.put("message", "관리자만 챌린지를 일괄 등록할 수 있습니다.");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+
+        try {
+            System.out.println("📦 챌린지 일괄 등록 요청: " + request.getContentType());
+
+            Map<String, Object> importResult = challengeService.importChallenges(request.getInputStream());
+            int inserted = (Integer) importResult.get("inserted");
+            int failed = (Integer) importResult.get("failed");
+
+            response.put("success", inserted > 0 || failed == 0);
+            response.putAll(importResult);
+            response.put("message", "챌린지 일괄 등록 완료: 등록 " + inserted + "개, 실패 " + failed + "개");
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            System.err.println("챌린지 일괄 등록 API 오류: " + e.getMessage());
+            e.printStackTrace();
+
+            response.put("success", false);
+            response.put("message", "챌린지 일괄 등록 중 오류가 발생했습니다.");
+            response.put("error", e.getMessage());
+
+            return ResponseEntity.ok(response);
+        }
+    }
+
     /**
      * 🎯 챌린지 레벨 목록 조회
      */
@@ -237,6 +536,99 @@ public class ChallengeController {
         }
     }
 
+    /**
+     * 🎯 챌린지 테스트 케이스 등록 (기존 케이스는 모두 대체)
+     * [{ "input": "...", "output": "..." }, ...] 형식의 입력/기대 출력 목록을 받아 압축 파일로 저장
+     * 🔥 채점 기준을 바꾸는 작업이므로 관리자(user_type = ADMIN) 세션만 허용 (비로그인 401, 그 외 403)
+     */
+    @PostMapping("/challenge/{challengeId}/testcases")
+    public ResponseEntity<Map<String, Object>> saveTestCases(@PathVariable Integer challengeId,
+                                                             @RequestBody List<ChallengeTestCaseDTO> testCases,
+                                                             HttpSession session) {
+        Map<String, Object> response = new HashMap<>();
+
+        UserDTO loginUser = (UserDTO) session.getAttribute("userSession");
+        if (loginUser == null) {
+            response.put("success", false);
+            response.put("message", "로그인이 필요합니다.");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+        if (!"ADMIN".equals(loginUser.getUser_type())) {
+            System.out.println("⚠️ 테스트 케이스 등록 거부 (관리자 아님) - 사용자: " + loginUser.getUser_id() + ", ID: " + challengeId);
+            response.put("success", false);
+            response.put("message", "관리자만 테스트 케이스를 등록할 수 있습니다.");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+
+        try {
+            System.out.println("🎯 테스트 케이스 등록 요청 - ID: " + challengeId + ", " + testCases.size() + "개");
+
+            if (testCases.isEmpty()) {
+                response.put("success", false);
+                response.put("message", "테스트 케이스가 1개 이상 필요합니다.");
+                return ResponseEntity.ok(response);
+            }
+
+            int saved = gradingService.saveTestCases(challengeId, testCases);
+
+            if (saved < 0) {
+                response.put("success", false);
+                response.put("message", "해당 챌린지를 찾을 수 없습니다.");
+                return ResponseEntity.ok(response);
+            }
+
+            response.put("success", true);
+            response.put("count", saved);
+            response.put("message", "테스트 케이스가 저장되었습니다.");
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            System.err.println("테스트 케이스 등록 API 오류: " + e.getMessage());
+            e.printStackTrace();
+
+            response.put("success", false);
+            response.put("message", "테스트 케이스 등록 중 오류가 발생했습니다.");
+            response.put("error", e.getMessage());
+
+            return ResponseEntity.ok(response);
+        }
+    }
+
+    /**
+     * 🎯 챌린지 테스트 케이스 요약 조회 (개수, 입력 크기, 지문)
+     */
+    @GetMapping("/challenge/{challengeId}/testcases")
+    public Map<String, Object> getTestCaseSummary(@PathVariable Integer challengeId) {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            Map<String, Object> summary = gradingService.getTestCaseSummary(challengeId);
+
+            if (summary == null) {
+                response.put("success", false);
+                response.put("message", "해당 챌린지를 찾을 수 없습니다.");
+                return response;
+            }
+
+            response.put("success", true);
+            response.put("testCases", summary);
+            response.put("message", "테스트 케이스 조회 성공");
+
+            return response;
+
+        } catch (Exception e) {
+            System.err.println("테스트 케이스 조회 API 오류: " + e.getMessage());
+            e.printStackTrace();
+
+            response.put("success", false);
+            response.put("message", "테스트 케이스 조회에 실패했습니다.");
+            response.put("error", e.getMessage());
+
+            return response;
+        }
+    }
+
     /**
      * 🎯 챌린지 삭제
      * 챌린지 ID를 받아서 해당 챌린지를 삭제
@@ -0,0 +1,143 @@
+package com.spring.project.controller;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.servlet.http.HttpSession;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.spring.project.dto.user.UserDTO;
+import com.spring.project.grading.GradingJob;
+import com.spring.project.service.GradingService;
+
+@RestController
+@RequestMapping("/api/grading")
+@CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true")
+public class GradingController {
+
+    /** SSE 연결 유지 시간 (대기 + 채점 시간보다 넉넉하게) */
+    private static final long SSE_TIMEOUT_MILLIS = 60_000L;
+
+    @Autowired
+    GradingService gradingService;
+
+    /**
+     * 🎯 채점 작업 상태 조회 (폴링)
+     * 완료되면 result 에 채점 결과 포함
+     */
+    @GetMapping("/jobs/{jobId}")
+    public Map<String, Object> getJob(@PathVariable String jobId, HttpSession session) {
+        Map<String, Object> response = new HashMap<>();
+
+        Object userSession = session.getAttribute("userSession");
+        if (userSession == null) {
+            response.put("success", false);
+            response.put("message", "로그인이 필요합니다.");
+            return response;
+        }
+
+        GradingJob job = gradingService.getJob(jobId, ((UserDTO) userSession).getUser_id());
+        if (job == null) {
+            response.put("success", false);
+            response.put("message", "채점 작업을 찾을 수 없습니다.");
+            return response;
+        }
+
+        response.put("success", true);
+        response.putAll(toJobMap(job));
+        return response;
+    }
+
+    /**
+     * 🎯 채점 결과 스트리밍 (Server-Sent Events)
+     * 연결 시 현재 상태를 "status" 이벤트로, 채점이 끝나면 "result" 이벤트를 보내고 연결을 닫음
+     */
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamJob(@PathVariable String jobId, HttpSession session) throws IOException {
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MILLIS);
+
+        Object userSession = session.getAttribute("userSession");
+        GradingJob job = userSession != null
+                ? gradingService.getJob(jobId, ((UserDTO) userSession).getUser_id())
+                : null;
+        if (job == null) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("message", userSession == null ? "로그인이 필요합니다." : "채점 작업을 찾을 수 없습니다.");
+            emitter.send(SseEmitter.event().name("error").data(error));
+            emitter.complete();
+            return emitter;
+        }
+
+        emitter.send(SseEmitter.event().name("status").data(toJobMap(job)));
+
+        Consumer<GradingJob> listener = completed -> {
+            try {
+                emitter.send(SseEmitter.event().name("result").data(toJobMap(completed)));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+            }
+        };
+        emitter.onTimeout(() -> job.removeListener(listener));
+        emitter.onCompletion(() -> job.removeListener(listener));
+        job.onComplete(listener);
+
+        return emitter;
+    }
+
+    /**
+     * 🎯 채점 대기열 지표 조회 (대기열 깊이, 대기 시간, 실행 시간)
+     * 관리자만 조회할 수 있습니다.
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<Map<String, Object>> getMetrics(HttpSession session) {
+        Map<String, Object> response = new HashMap<>();
+
+        UserDTO loginUser = (UserDTO) session.getAttribute("userSession");
+        if (loginUser == null) {
+            response.put("success", false);
+            response.put("message", "로그인이 필요합니다.");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+        if (!"ADMIN".equals(loginUser.getUser_type())) {
+            System.out.println("⚠️ 채점 대기열 지표 조회 거부 (관리자 아님) - 사용자: " + loginUser.getUser_id());
+            response.put("success", false);
+            response.put("message", "관리자만 채점 대기열 지표를 조회할 수 있습니다.");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+
+        response.put("success", true);
+        response.put("metrics", gradingService.getQueueMetrics());
+        return ResponseEntity.ok(response);
+    }
+
+    private Map<String, Object> toJobMap(GradingJob job) {
+        Map<String, Object> jobMap = new HashMap<>();
+        jobMap.put("jobId", job.getJobId());
+        jobMap.put("challengeId", job.getChallengeId());
+        jobMap.put("status", job.getStatus());
+        if (job.getStatus() == GradingJob.Status.QUEUED) {
+            jobMap.put("position", gradingService.getQueuePosition(job));
+        } else {
+            jobMap.put("waitMillis", job.getWaitMillis());
+        }
+        if (job.getStatus() == GradingJob.Status.DONE) {
+            jobMap.put("runMillis", job.getRunMillis());
+            jobMap.put("result", job.getResult());
+        }
+        return jobMap;
+    }
+}
@@ -0,0 +1,124 @@
+package com.spring.project.controller;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.http.HttpSession;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.spring.project.dto.user.LeaderboardEntryDTO;
+import com.spring.project.dto.user.UserDTO;
+import com.spring.project.service.LeaderboardService;
+
+@RestController
+@RequestMapping("/api/leaderboard")
+@CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true")
+public class LeaderboardController {
+
+    @Autowired
+    LeaderboardService leaderboardService;
+
+    /**
+     * 🎯 경험치 리더보드 조회 (offset/limit 페이지네이션)
+     */
+    @GetMapping
+    public Map<String, Object> getLeaderboard(@RequestParam(required = false) Integer offset,
+                                              @RequestParam(required = false) Integer limit) {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            response.putAll(leaderboardService.getLeaderboard(offset, limit));
+            response.put("success", true);
+            response.put("message", "리더보드 조회 성공");
+
+            return response;
+
+        } catch (Exception e) {
+            System.err.println("리더보드 조회 API 오류: " + e.getMessage());
+            e.printStackTrace();
+
+            response.put("success", false);
+            response.put("message", "리더보드 조회에 실패했습니다.");
+            response.put("error", e.getMessage());
+
+            return response;
+        }
+    }
+
+    /**
+     * 🎯 기간별 경험치 리더보드 조회 (window: daily, weekly, monthly)
+     */
+    @GetMapping("/rolling")
+    public Map<String, Object> getRollingLeaderboard(@RequestParam(defaultValue = "weekly") String window,
+                                                     @RequestParam(required = false) Integer limit) {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            Map<String, Object> leaderboard = leaderboardService.getRollingLeaderboard(window, limit);
+
+            if (leaderboard == null) {
+                response.put("success", false);
+                response.put("message", "지원하지 않는 기간입니다: " + window);
+                return response;
+            }
+
+            response.putAll(leaderboard);
+            response.put("success", true);
+            response.put("message", "기간별 리더보드 조회 성공");
+
+            return response;
+
+        } catch (Exception e) {
+            System.err.println("기간별 리더보드 조회 API 오류: " + e.getMessage());
+            e.printStackTrace();
+
+            response.put("success", false);
+            response.put("message", "기간별 리더보드 조회에 실패했습니다.");
+            response.put("error", e.getMessage());
+
+            return response;
+        }
+    }
+
+    /**
+     * 🎯 내 경험치 순위 조회
+     */
+    @GetMapping("/me")
+    public Map<String, Object> getMyRank(HttpSession session) {
+        Map<String, Object> response = new HashMap<>();
+
+        Object userSession = session.getAttribute("userSession");
+        if (userSession == null) {
+            response.put("success", false);
+            response.put("message", "로그인이 필요합니다.");
+            return response;
+        }
+        UserDTO loginUser = (UserDTO) userSession;
+
+        try {
+            LeaderboardEntryDTO myRank = leaderboardService.getMyRank(loginUser.getUser_id());
+
+            response.put("success", true);
+            response.put("rank", myRank);
+            response.put("message", "내 순위 조회 성공");
+
+            return response;
+
+        } catch (Exception e) {
+            System.err.println("내 순위 조회 API 오류: " + e.getMessage());
+            e.printStackTrace();
+
+            response.put("success", false);
+            response.put("message", "내 순위 조회에 실패했습니다.");
+            response.put("error", e.getMessage());
+
+            return response;
+        }
+    }
+}
@@ -12,6 +12,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 
 @RestController
@@ -40,13 +41,14 @@ public class PostController {
         return result;
     }
 
-    /* 조회수 */
+    /* 조회수 (같은 세션/IP 의 재조회는 일정 시간 동안 세지 않음, DB 반영은 주기적으로 일괄 처리) */
     @PostMapping("/posts/{post_id}/view")
-    public Map<String, Object> increaseView(@PathVariable int post_id) {
+    public Map<String, Object> increaseView(@PathVariable int post_id, HttpServletRequest request) {
         Map<String, Object> result = new HashMap<>();
         try {
-            postService.increaseView(post_id);
+            boolean counted = postService.increaseView(post_id, viewerKeyOf(request));
             result.put("status", "success");
+            result.put("counted", counted);
         } catch (Exception e) {
             result.put("status", "fail");
             result.put("message", e.getMessage());
@@ -54,32 +56,69 @@ public class PostController {
         return result;
     }
 
-    /* 페이징+전체 게시글 불러오기 */
+    /* 페이징+전체 게시글 불러오기
+     * 검색어가 있으면 게시글 검색 색인에서 관련도(BM25) 순으로 page 구간과 전체 개수를 가져오고,
+     * 없으면 cursor 가 있거나 첫 페이지일 때 (created_at, post_id) 커서 페이징으로 읽어 다음 페이지 토큰(nextCursor)을 함께 반환,
+     * 번호로 중간 페이지를 요청하면 기존 OFFSET 페이징 */
     @GetMapping("/posts")
     public Map<String, Object> findAllPostsWithPaging(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) Integer category,
-            @RequestParam(required = false) String keyword
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor
     ) {
-        List<PostsDTO> posts = postService.findPostsByPaging(page, size, category, keyword);
-        int totalCount = postService.getTotalPostCount(category, keyword);
+        Map<String, Object> result = new HashMap<>();
+        size = Math.max(1, Math.min(size, 100));
+
+        List<PostsDTO> posts;
+        Integer totalCount = null;
+        boolean search = keyword != null && !keyword.trim().isEmpty();
+        boolean keyset = (cursor != null && !cursor.isEmpty()) || page <= 1;
+        if (search) {
+            Map<String, Object> searchPage = postService.searchPosts(keyword, category, page, size);
+            @SuppressWarnings("unchecked")
+            List<PostsDTO> searchPosts = (List<PostsDTO>) searchPage.get("posts");
+            posts = searchPosts;
+            totalCount = (Integer) searchPage.get("totalCount");
+        } else if (keyset) {
+            Map<String, Object> cursorPage;
+            try {
+                cursorPage = postService.findPostsByCursor(cursor, size, category, null);
+            } catch (IllegalArgumentException e) {
+                result.put("status", "fail");
+                result.put("message", e.getMessage());
+                return result;
+            }
+            @SuppressWarnings("unchecked")
+            List<PostsDTO> cursorPosts = (List<PostsDTO>) cursorPage.get("posts");
+            posts = cursorPosts;
+            result.put("nextCursor", cursorPage.get("nextCursor"));
+            result.put("hasMore", cursorPage.get("hasMore"));
+        } else {
+            posts = postService.findPostsByPaging(page, size, category, null);
+        }
+
+        Map<Integer, String> nicknames = postService.findNicknamesByUserIds(authorIdsOf(posts));
 
         List<Map<String, Object>> data = new ArrayList<>();
         for (PostsDTO post : posts) {
-            String nickname = postService.findNicknameByUserId(post.getUser_id());
             Map<String, Object> map = new HashMap<>();
             map.put("post", post);
-            map.put("nickname", nickname);
+            map.put("nickname", nicknames.get(post.getUser_id()));
             data.add(map);
         }
 
-        Map<String, Object> result = new HashMap<>();
         result.put("status", "success");
         result.put("data", data);
         result.put("page", page);
         result.put("size", size);
-        result.put("totalCount", totalCount);
+        // 커서로 이어 읽는 요청은 첫 페이지에서 받은 전체 개수를 그대로 쓰므로 COUNT 생략
+        if (totalCount != null) {
+            result.put("totalCount", totalCount);
+        } else if (cursor == null || cursor.isEmpty()) {
+            result.put("totalCount", postService.getTotalPostCount(category, null));
+        }
 
         return result;
     }
@@ -151,9 +190,10 @@ public class PostController {
         List<PostsDTO> posts = postService.findByDate(dateStr);
         if (posts == null) posts = new ArrayList<>();
 
+        Map<Integer, String> nicknameById = postService.findNicknamesByUserIds(authorIdsOf(posts));
         List<String> nicknames = new ArrayList<>();
         for (PostsDTO p : posts) {
-            String nick = postService.findNicknameByUserId(p.getUser_id());
+            String nick = nicknameById.get(p.getUser_id());
             nicknames.add(nick != null ? nick : "");
         }
 
@@ -166,9 +206,25 @@ public class PostController {
         return map;
     }
 
+    /* 작성자 닉네임 일괄 조회용 user_id 목록 */
+    private static List<Integer> authorIdsOf(List<PostsDTO> posts) {
+        List<Integer> userIds = new ArrayList<>(posts.size());
+        for (PostsDTO post : posts) {
+            userIds.add(post.getUser_id());
+        }
+        return userIds;
+    }
 
-
-
-
-
+    /* 조회수 중복 확인용 조회자 키: 세션이 있으면 세션 ID, 없으면 클라이언트 IP */
+    private static String viewerKeyOf(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            return "s:" + session.getId();
+        }
+        String forwarded = request.getHeader("X-Forwarded-For");
+        if (forwarded != null && !forwarded.isEmpty()) {
+            return "ip:" + forwarded.split(",")[0].trim();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
 }
@@ -0,0 +1,46 @@
+package com.spring.project.dto.challenge;
+
+/**
+ * 챌린지 상세 조회 결과 (챌린지 + 난이도 + 카테고리를 한 번의 JOIN으로 매핑)
+ */
+public class ChallengeDetailDTO {
+
+    private ChallengeDTO challenge;
+    private ChallengeLevelDTO level;
+    private ChallengeCategoryDTO category;
+
+    public ChallengeDetailDTO() {}
+
+    public ChallengeDTO getChallenge() {
+        return challenge;
+    }
+
+    public void setChallenge(ChallengeDTO challenge) {
+        this.challenge = challenge;
+    }
+
+    public ChallengeLevelDTO getLevel() {
+        return level;
+    }
+
+    public void setLevel(ChallengeLevelDTO level) {
+        this.level = level;
+    }
+
+    public ChallengeCategoryDTO getCategory() {
+        return category;
+    }
+
+    public void setCategory(ChallengeCategoryDTO category) {
+        this.category = category;
+    }
+
+    @Override
+    public String toString() {
+        return "ChallengeDetailDTO{" +
+                "challenge=" + challenge +
+                ", level=" + level +
+                ", category=" + category +
+                '}';
+    }
+}
@@ -0,0 +1,71 @@
+package com.spring.project.dto.challenge;
+
+public class ChallengeLevelSuggestionDTO {
+
+    private int challenge_id;
+    private String challenge_title;
+    private int current_level_id;
+    private int suggested_level_id;
+    private double rating;
+    private int games;
+
+    public ChallengeLevelSuggestionDTO() {}
+
+    public int getChallenge_id() {
+        return challenge_id;
+    }
+
+    public void setChallenge_id(int challenge_id) {
+        this.challenge_id = challenge_id;
+    }
+
+    public String getChallenge_title() {
+        return challenge_title;
+    }
+
+    public void setChallenge_title(String challenge_title) {
+        this.challenge_title = challenge_title;
+    }
+
+    public int getCurrent_level_id() {
+        return current_level_id;
+    }
+
+    public void setCurrent_level_id(int current_level_id) {
+        this.current_level_id = current_level_id;
+    }
+
+    public int getSuggested_level_id() {
+        return suggested_level_id;
+    }
+
+    public void setSuggested_level_id(int suggested_level_id) {
+        this.suggested_level_id = suggested_level_id;
+    }
+
+    public double getRating() {
+        return rating;
+    }
+
+    public void setRating(double rating) {
+        this.rating = rating;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public void setGames(int games) {
+        this.games = games;
+    }
+
+    @Override
+    public String toString() {
+        return "ChallengeLevelSuggestionDTO{" +
+                "challenge_id=" + challenge_id +
+                ", current_level_id=" + current_level_id +
+                ", suggested_level_id=" + suggested_level_id +
+                ", rating=" + rating +
+                '}';
+    }
+}
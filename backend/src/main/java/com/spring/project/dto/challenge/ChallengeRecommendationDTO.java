@@ -0,0 +1,80 @@
+package com.spring.project.dto.challenge;
+
+public class ChallengeRecommendationDTO {
+
+    private int challenge_id;
+    private String challenge_title;
+    private int level_id;
+    private int category_id;
+    private String language;
+    private double score;
+    private String reason;
+
+    public ChallengeRecommendationDTO() {}
+
+    public int getChallenge_id() {
+        return challenge_id;
+    }
+
+    public void setChallenge_id(int challenge_id) {
+        this.challenge_id = challenge_id;
+    }
+
+    public String getChallenge_title() {
+        return challenge_title;
+    }
+
+    public void setChallenge_title(String challenge_title) {
+        this.challenge_title = challenge_title;
+    }
+
+    public int getLevel_id() {
+        return level_id;
+    }
+
+    public void setLevel_id(int level_id) {
+        this.level_id = level_id;
+    }
+
+    public int getCategory_id() {
+        return category_id;
+    }
+
+    public void setCategory_id(int category_id) {
+        this.category_id = category_id;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public void setLanguage(String language) {
+        this.language = language;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    @Override
+    public String toString() {
+        return "ChallengeRecommendationDTO{" +
+                "challenge_id=" + challenge_id +
+                ", challenge_title='" + challenge_title + '\'' +
+                ", score=" + score +
+                ", reason='" + reason + '\'' +
+                '}';
+    }
+}
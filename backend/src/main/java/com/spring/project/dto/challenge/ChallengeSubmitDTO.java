@@ -0,0 +1,33 @@
+package com.spring.project.dto.challenge;
+
+public class ChallengeSubmitDTO {
+
+    private String code;
+    private String language;
+
+    public ChallengeSubmitDTO() {}
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public void setLanguage(String language) {
+        this.language = language;
+    }
+
+    @Override
+    public String toString() {
+        return "ChallengeSubmitDTO{" +
+                "language='" + language + '\'' +
+                ", codeLength=" + (code != null ? code.length() : 0) +
+                '}';
+    }
+}
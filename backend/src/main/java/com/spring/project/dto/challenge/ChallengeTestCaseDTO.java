@@ -0,0 +1,33 @@
+package com.spring.project.dto.challenge;
+
+public class ChallengeTestCaseDTO {
+
+    private String input;
+    private String output;
+
+    public ChallengeTestCaseDTO() {}
+
+    public String getInput() {
+        return input;
+    }
+
+    public void setInput(String input) {
+        this.input = input;
+    }
+
+    public String getOutput() {
+        return output;
+    }
+
+    public void setOutput(String output) {
+        this.output = output;
+    }
+
+    @Override
+    public String toString() {
+        return "ChallengeTestCaseDTO{" +
+                "inputLength=" + (input != null ? input.length() : 0) +
+                ", outputLength=" + (output != null ? output.length() : 0) +
+                '}';
+    }
+}
@@ -0,0 +1,139 @@
+package com.spring.project.dto.challenge;
+
+public class GradingResultDTO {
+
+    private int challenge_id;
+    private int challenge_sub_id;
+    private String verdict;
+    private boolean pass;
+    private String message;
+    private String detail;
+    private String output;
+    private long elapsedMillis;
+    private int exp_count;
+    private boolean cached;
+    private int passedCases;
+    private int totalCases;
+    private int failedCase;
+
+    public GradingResultDTO() {}
+
+    public int getChallenge_id() {
+        return challenge_id;
+    }
+
+    public void setChallenge_id(int challenge_id) {
+        this.challenge_id = challenge_id;
+    }
+
+    public int getChallenge_sub_id() {
+        return challenge_sub_id;
+    }
+
+    public void setChallenge_sub_id(int challenge_sub_id) {
+        this.challenge_sub_id = challenge_sub_id;
+    }
+
+    public String getVerdict() {
+        return verdict;
+    }
+
+    public void setVerdict(String verdict) {
+        this.verdict = verdict;
+    }
+
+    public boolean isPass() {
+        return pass;
+    }
+
+    public void setPass(boolean pass) {
+        this.pass = pass;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public void setDetail(String detail) {
+        this.detail = detail;
+    }
+
+    public String getOutput() {
+        return output;
+    }
+
+    public void setOutput(String output) {
+        this.output = output;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public int getExp_count() {
+        return exp_count;
+    }
+
+    public void setExp_count(int exp_count) {
+        this.exp_count = exp_count;
+    }
+
+    public boolean isCached() {
+        return cached;
+    }
+
+    public void setCached(boolean cached) {
+        this.cached = cached;
+    }
+
+    public int getPassedCases() {
+        return passedCases;
+    }
+
+    public void setPassedCases(int passedCases) {
+        this.passedCases = passedCases;
+    }
+
+    public int getTotalCases() {
+        return totalCases;
+    }
+
+    public void setTotalCases(int totalCases) {
+        this.totalCases = totalCases;
+    }
+
+    /** 실패한 테스트 케이스 번호 (1부터, 모두 통과면 0) */
+    public int getFailedCase() {
+        return failedCase;
+    }
+
+    public void setFailedCase(int failedCase) {
+        this.failedCase = failedCase;
+    }
+
+    @Override
+    public String toString() {
+        return "GradingResultDTO{" +
+                "challenge_id=" + challenge_id +
+                ", challenge_sub_id=" + challenge_sub_id +
+                ", verdict='" + verdict + '\'' +
+                ", pass=" + pass +
+                ", elapsedMillis=" + elapsedMillis +
+                ", exp_count=" + exp_count +
+                ", cached=" + cached +
+                ", passedCases=" + passedCases + "/" + totalCases +
+                '}';
+    }
+}
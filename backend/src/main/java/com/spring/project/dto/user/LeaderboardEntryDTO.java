@@ -0,0 +1,60 @@
+package com.spring.project.dto.user;
+
+public class LeaderboardEntryDTO {
+
+    private int rank;
+    private int user_id;
+    private String nickname;
+    private int experience_points;
+
+    public LeaderboardEntryDTO() {}
+
+    public LeaderboardEntryDTO(int rank, int user_id, String nickname, int experience_points) {
+        this.rank = rank;
+        this.user_id = user_id;
+        this.nickname = nickname;
+        this.experience_points = experience_points;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public void setRank(int rank) {
+        this.rank = rank;
+    }
+
+    public int getUser_id() {
+        return user_id;
+    }
+
+    public void setUser_id(int user_id) {
+        this.user_id = user_id;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public void setNickname(String nickname) {
+        this.nickname = nickname;
+    }
+
+    public int getExperience_points() {
+        return experience_points;
+    }
+
+    public void setExperience_points(int experience_points) {
+        this.experience_points = experience_points;
+    }
+
+    @Override
+    public String toString() {
+        return "LeaderboardEntryDTO{" +
+                "rank=" + rank +
+                ", user_id=" + user_id +
+                ", nickname='" + nickname + '\'' +
+                ", experience_points=" + experience_points +
+                '}';
+    }
+}
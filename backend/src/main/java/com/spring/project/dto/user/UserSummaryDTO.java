@@ -0,0 +1,56 @@
+package com.spring.project.dto.user;
+
+/**
+ * 게시글/댓글 작성자 표시용 사용자 요약 (닉네임 + 등급 색상/아이콘)
+ */
+public class UserSummaryDTO {
+
+    private int user_id;
+    private String nickname;
+    private String grade_color;
+    private String grade_icon;
+
+    public UserSummaryDTO() {}
+
+    public int getUser_id() {
+        return user_id;
+    }
+
+    public void setUser_id(int user_id) {
+        this.user_id = user_id;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public void setNickname(String nickname) {
+        this.nickname = nickname;
+    }
+
+    public String getGrade_color() {
+        return grade_color;
+    }
+
+    public void setGrade_color(String grade_color) {
+        this.grade_color = grade_color;
+    }
+
+    public String getGrade_icon() {
+        return grade_icon;
+    }
+
+    public void setGrade_icon(String grade_icon) {
+        this.grade_icon = grade_icon;
+    }
+
+    @Override
+    public String toString() {
+        return "UserSummaryDTO{" +
+                "user_id=" + user_id +
+                ", nickname='" + nickname + '\'' +
+                ", grade_color='" + grade_color + '\'' +
+                ", grade_icon='" + grade_icon + '\'' +
+                '}';
+    }
+}
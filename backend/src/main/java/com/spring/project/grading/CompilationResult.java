@@ -0,0 +1,51 @@
+package com.spring.project.grading;
+
+/**
+ * 제출 코드 컴파일 결과
+ */
+public final class CompilationResult {
+
+    private final Verdict failureVerdict;
+    private final String message;
+    private final CompiledSubmission compiled;
+
+    private CompilationResult(Verdict failureVerdict, String message, CompiledSubmission compiled) {
+        this.failureVerdict = failureVerdict;
+        this.message = message;
+        this.compiled = compiled;
+    }
+
+    public static CompilationResult success(CompiledSubmission compiled) {
+        return new CompilationResult(null, null, compiled);
+    }
+
+    public static CompilationResult compileError(String diagnostics) {
+        return new CompilationResult(Verdict.COMPILE_ERROR, diagnostics, null);
+    }
+
+    public static CompilationResult rejected(String reason) {
+        return new CompilationResult(Verdict.REJECTED, reason, null);
+    }
+
+    public static CompilationResult systemError(String reason) {
+        return new CompilationResult(Verdict.SYSTEM_ERROR, reason, null);
+    }
+
+    public boolean isSuccess() {
+        return compiled != null;
+    }
+
+    /** 실패 시 판정 (성공이면 null) */
+    public Verdict getFailureVerdict() {
+        return failureVerdict;
+    }
+
+    /** 컴파일 진단 메시지 또는 거부 사유 */
+    public String getMessage() {
+        return message;
+    }
+
+    public CompiledSubmission getCompiled() {
+        return compiled;
+    }
+}
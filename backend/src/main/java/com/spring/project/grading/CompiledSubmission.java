@@ -0,0 +1,28 @@
+package com.spring.project.grading;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 메모리에서 컴파일된 제출 코드 (메인 클래스 이름 + 클래스 바이트코드)
+ */
+public final class CompiledSubmission {
+
+    private final String mainClassName;
+    private final Map<String, byte[]> classBytes;
+
+    public CompiledSubmission(String mainClassName, Map<String, byte[]> classBytes) {
+        this.mainClassName = mainClassName;
+        this.classBytes = Collections.unmodifiableMap(new HashMap<>(classBytes));
+    }
+
+    public String getMainClassName() {
+        return mainClassName;
+    }
+
+    /** 바이너리 클래스 이름 → 바이트코드 */
+    public Map<String, byte[]> getClassBytes() {
+        return classBytes;
+    }
+}
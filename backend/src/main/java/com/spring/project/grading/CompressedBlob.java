@@ -0,0 +1,100 @@
+package com.spring.project.grading;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * 매핑된 테스트 케이스 파일 안의 deflate 압축 블록 1개
+ * Inflater 가 매핑 영역(direct buffer)을 직접 읽으므로 압축 데이터는 힙으로 복사되지 않습니다.
+ */
+final class CompressedBlob {
+
+    private final ByteBuffer compressed;
+    private final int rawLength;
+
+    CompressedBlob(ByteBuffer compressed, int rawLength) {
+        this.compressed = compressed;
+        this.rawLength = rawLength;
+    }
+
+    int getRawLength() {
+        return rawLength;
+    }
+
+    int getCompressedLength() {
+        return compressed.remaining();
+    }
+
+    /** 압축을 풀며 읽는 스트림 (호출마다 독립된 위치에서 시작) */
+    InputStream open() {
+        return new InflatingInputStream(compressed.duplicate());
+    }
+
+    /** 블록 전체를 UTF-8 문자열로 풉니다 (기대 출력처럼 작은 블록용) */
+    String readText() {
+        byte[] raw = new byte[rawLength];
+        try (InputStream in = open()) {
+            int read = 0;
+            while (read < rawLength) {
+                int n = in.read(raw, read, rawLength - read);
+                if (n < 0) {
+                    throw new IOException("테스트 케이스 블록이 예상보다 짧습니다.");
+                }
+                read += n;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+
+    private static final class InflatingInputStream extends InputStream {
+
+        private final Inflater inflater = new Inflater();
+        private boolean closed = false;
+
+        InflatingInputStream(ByteBuffer compressed) {
+            inflater.setInput(compressed);
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (closed) {
+                throw new IOException("스트림이 닫혔습니다.");
+            }
+            if (length == 0) {
+                return 0;
+            }
+            try {
+                int n;
+                while ((n = inflater.inflate(buffer, offset, length)) == 0) {
+                    if (inflater.finished() || inflater.needsInput() || inflater.needsDictionary()) {
+                        return -1;
+                    }
+                }
+                return n;
+            } catch (DataFormatException e) {
+                throw new IOException("손상된 테스트 케이스 블록입니다.", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                inflater.end();
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.spring.project.grading;
+
+/**
+ * 컴파일된 제출 코드 1회 실행 결과
+ */
+public final class ExecutionResult {
+
+    private final Verdict failureVerdict;
+    private final String output;
+    private final String errorMessage;
+    private final long elapsedMillis;
+    private final boolean cancelled;
+
+    private ExecutionResult(Verdict failureVerdict, String output, String errorMessage, long elapsedMillis, boolean cancelled) {
+        this.failureVerdict = failureVerdict;
+        this.output = output;
+        this.errorMessage = errorMessage;
+        this.elapsedMillis = elapsedMillis;
+        this.cancelled = cancelled;
+    }
+
+    /** 정상 종료 */
+    public static ExecutionResult completed(String output, long elapsedMillis) {
+        return new ExecutionResult(null, output, null, elapsedMillis, false);
+    }
+
+    /** 런타임 에러, 시간/메모리/출력 제한 초과 등 비정상 종료 */
+    public static ExecutionResult failed(Verdict verdict, String output, String errorMessage, long elapsedMillis) {
+        return new ExecutionResult(verdict, output, errorMessage, elapsedMillis, false);
+    }
+
+    /** 다른 테스트 케이스가 먼저 실패하여 실행 도중 중단됨 (판정에 쓰지 않음) */
+    public static ExecutionResult cancelled(long elapsedMillis) {
+        return new ExecutionResult(Verdict.SYSTEM_ERROR, "", "실행이 중단되었습니다.", elapsedMillis, true);
+    }
+
+    public boolean isCompleted() {
+        return failureVerdict == null;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** 비정상 종료 시 판정 (정상 종료면 null) */
+    public Verdict getFailureVerdict() {
+        return failureVerdict;
+    }
+
+    /** 표준 출력 */
+    public String getOutput() {
+        return output;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
@@ -0,0 +1,366 @@
+package com.spring.project.grading;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+/**
+ * 🎯 미리 띄워 둔 워커 JVM 에서 제출 코드를 실행하는 실행기 (격리 모드)
+ * 워커 프로세스는 GradingWorkerMain 을 실행하며 표준 입출력 파이프로 작업을 주고받습니다.
+ * 워커 1개는 한 번에 작업 1개만 처리하고, 정해진 작업 수를 채우거나 제한을 넘기면 종료 후 새 워커로 교체됩니다.
+ * JVM 기동 비용은 교체 시 백그라운드에서 치르므로 제출마다 JVM 을 띄우지 않습니다.
+ */
+public class ForkedJvmSubmissionExecutor implements SubmissionExecutor {
+
+    /** 워커 기동(READY 신호)까지 기다리는 최대 시간 */
+    private static final long STARTUP_TIMEOUT_MILLIS = 15_000;
+
+    /** 워커 내부 시간 제한에 더해 부모가 기다려 주는 여유 시간 */
+    private static final long WATCHDOG_GRACE_MILLIS = 3_000;
+
+    /** 실행 중인 워커의 중단 요청/마감 시각 확인 주기 */
+    private static final long MONITOR_INTERVAL_MILLIS = 10;
+
+    /** 유휴 워커를 기다리는 최대 시간 */
+    private static final long ACQUIRE_TIMEOUT_MILLIS = 30_000;
+
+    /** 워커 기동 실패 시 재시도 간격 */
+    private static final long RESPAWN_RETRY_MILLIS = 5_000;
+
+    /** 종료 시 기동 중인 워커 정리를 기다리는 최대 시간 */
+    private static final long CLOSE_AWAIT_MILLIS = 3_000;
+
+    /** 워커 힙 = 메모리 제한 + 여유분 */
+    private static final long HEAP_HEADROOM_BYTES = 128L * 1024 * 1024;
+
+    /** -XX:+ExitOnOutOfMemoryError 로 종료된 JVM 의 종료 코드 */
+    private static final int OOM_EXIT_CODE = 3;
+
+    private final int poolSize;
+    private final int maxJobsPerWorker;
+    private final List<String> command;
+    private final BlockingQueue<WorkerProcess> idleWorkers = new LinkedBlockingQueue<>();
+    /** 종료시켰지만 아직 프로세스가 끝나지 않은 워커 (종료 시 작업 디렉터리 정리 대상) */
+    private final Set<WorkerProcess> retiredWorkers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger sequence = new AtomicInteger();
+    /** 워커 기동 전담 (기동은 수백 ms 가 걸리므로 감시 타이머와 분리) */
+    private final ExecutorService spawner;
+    /** 실행 시간 감시 및 기동 재시도 타이머 */
+    private final ScheduledExecutorService watchdog;
+    private volatile boolean closed = false;
+
+    /**
+     * @param poolSize 유지할 워커 프로세스 수
+     * @param maxJobsPerWorker 워커 1개가 처리한 뒤 교체되는 작업 수
+     * @param memoryLimitBytes 작업 1건의 메모리 제한 (워커 힙 크기 산정용)
+     */
+    public ForkedJvmSubmissionExecutor(int poolSize, int maxJobsPerWorker, long memoryLimitBytes) {
+        this.poolSize = poolSize;
+        this.maxJobsPerWorker = maxJobsPerWorker;
+        this.command = buildCommand(memoryLimitBytes);
+        this.spawner = Executors.newSingleThreadExecutor(daemonThreads("grader-spawner"));
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(daemonThreads("grader-watchdog"));
+        for (int i = 0; i < poolSize; i++) {
+            spawner.execute(this::spawnIdleWorker);
+        }
+    }
+
+    @Override
+    public ExecutionResult execute(CompiledSubmission compiled, InputStream input, GradingLimits limits, BooleanSupplier cancelled) {
+        WorkerProcess worker;
+        try {
+            worker = idleWorkers.poll(ACQUIRE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ExecutionResult.failed(Verdict.SYSTEM_ERROR, "", "채점이 중단되었습니다.", 0);
+        }
+        if (worker == null) {
+            return ExecutionResult.failed(Verdict.SYSTEM_ERROR, "", "사용 가능한 채점 워커가 없습니다.", 0);
+        }
+
+        AtomicBoolean timedOut = new AtomicBoolean(false);
+        AtomicBoolean aborted = new AtomicBoolean(false);
+        AtomicBoolean finished = new AtomicBoolean(false);
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(limits.getTimeLimitMillis() + WATCHDOG_GRACE_MILLIS);
+        ScheduledFuture<?> monitor = watchdog.scheduleAtFixedRate(() -> {
+            synchronized (finished) {
+                if (finished.get()) {
+                    return;
+                }
+                if (cancelled.getAsBoolean()) {
+                    aborted.set(true);
+                    worker.process.destroyForcibly();
+                } else if (System.nanoTime() > deadlineNanos) {
+                    timedOut.set(true);
+                    worker.process.destroyForcibly();
+                }
+            }
+        }, MONITOR_INTERVAL_MILLIS, MONITOR_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+
+        ExecutionResult result;
+        boolean reusable;
+        try {
+            WorkerProtocol.writeJob(worker.out, compiled, input, limits);
+            result = WorkerProtocol.readResult(worker.in);
+            worker.jobs++;
+            reusable = worker.jobs < maxJobsPerWorker
+                    && (result.isCompleted() || !result.getFailureVerdict().isLimitBreach());
+        } catch (IOException e) {
+            long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+            result = aborted.get()
+                    ? ExecutionResult.cancelled(elapsedMillis)
+                    : failureFromDeadWorker(worker, timedOut.get(), e, elapsedMillis);
+            reusable = false;
+        } finally {
+            monitor.cancel(false);
+            synchronized (finished) {
+                finished.set(true);
+            }
+        }
+        // 응답 직후 감시 타이머가 프로세스를 종료했을 수 있음
+        reusable = reusable && !aborted.get() && !timedOut.get();
+
+        if (reusable && !closed) {
+            idleWorkers.offer(worker);
+        } else {
+            retire(worker);
+            if (!closed) {
+                spawner.execute(this::spawnIdleWorker);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 응답 없이 끊긴 워커의 종료 원인으로 판정을 정합니다
+     */
+    private ExecutionResult failureFromDeadWorker(WorkerProcess worker, boolean timedOut, IOException cause, long elapsedMillis) {
+        if (timedOut) {
+            return ExecutionResult.failed(Verdict.TIME_LIMIT_EXCEEDED, "", null, elapsedMillis);
+        }
+        try {
+            if (worker.process.waitFor(1, TimeUnit.SECONDS) && worker.process.exitValue() == OOM_EXIT_CODE) {
+                return ExecutionResult.failed(Verdict.MEMORY_LIMIT_EXCEEDED, "", null, elapsedMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        System.err.println("⚠️ 채점 워커 비정상 종료 - " + worker.name + ": " + cause);
+        return ExecutionResult.failed(Verdict.SYSTEM_ERROR, "", "채점 워커가 비정상 종료되었습니다.", elapsedMillis);
+    }
+
+    /**
+     * 재사용하지 않을 워커를 종료합니다
+     * 작업 디렉터리는 프로세스 종료 콜백이 지우지만, 그 전에 close() 가 불리면 close() 가 기다렸다가 지웁니다.
+     */
+    private void retire(WorkerProcess worker) {
+        retiredWorkers.add(worker);
+        worker.process.onExit().thenRun(() -> retiredWorkers.remove(worker));
+        worker.destroy();
+    }
+
+    private void spawnIdleWorker() {
+        if (closed) {
+            return;
+        }
+        try {
+            WorkerProcess worker = new WorkerProcess("grading-jvm-" + sequence.incrementAndGet(), command);
+            if (closed) {
+                worker.destroyAndAwait();
+                return;
+            }
+            idleWorkers.offer(worker);
+        } catch (IOException e) {
+            System.err.println("⚠️ 채점 워커 기동 실패, " + RESPAWN_RETRY_MILLIS + "ms 후 재시도: " + e.getMessage());
+            watchdog.schedule(() -> spawner.execute(this::spawnIdleWorker), RESPAWN_RETRY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** 유휴 상태로 대기 중인 워커 수 */
+    public int getIdleWorkerCount() {
+        return idleWorkers.size();
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        spawner.shutdownNow();
+        watchdog.shutdownNow();
+        try {
+            // 기동 중이던 워커가 스스로 정리(destroyAndAwait)를 마칠 때까지 잠시 기다림
+            spawner.awaitTermination(CLOSE_AWAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        WorkerProcess worker;
+        while ((worker = idleWorkers.poll()) != null) {
+            worker.destroyAndAwait();
+        }
+        for (WorkerProcess retired : retiredWorkers) {
+            retired.destroyAndAwait();
+        }
+        retiredWorkers.clear();
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return task -> {
+            Thread thread = new Thread(task, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 워커 JVM 실행 명령: 현재 JVM 과 같은 java 실행 파일과, GradingWorkerMain 이 들어 있는 클래스패스 항목만 사용
+     */
+    private static List<String> buildCommand(long memoryLimitBytes) {
+        String javaHome = System.getProperty("java.home");
+        String java = Paths.get(javaHome, "bin", File.separatorChar == '\\' ? "java.exe" : "java").toString();
+
+        String classPath;
+        try {
+            classPath = Paths.get(GradingWorkerMain.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException | NullPointerException e) {
+            throw new IllegalStateException("채점 워커 클래스패스를 찾을 수 없습니다.", e);
+        }
+
+        long heapMegabytes = (memoryLimitBytes + HEAP_HEADROOM_BYTES) / (1024 * 1024);
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.add("-Xmx" + heapMegabytes + "m");
+        command.add("-XX:+UseSerialGC");
+        command.add("-XX:TieredStopAtLevel=1");
+        command.add("-XX:+ExitOnOutOfMemoryError");
+        command.add("-Xshare:auto");
+        command.add("-Dfile.encoding=UTF-8");
+        command.add("-cp");
+        command.add(classPath);
+        command.add(GradingWorkerMain.class.getName());
+        return command;
+    }
+
+    /**
+     * 워커 JVM 프로세스 1개와 그 파이프
+     */
+    private static final class WorkerProcess {
+
+        private final String name;
+        private final Process process;
+        private final DataOutputStream out;
+        private final DataInputStream in;
+        private final Path workDir;
+        private int jobs = 0;
+
+        WorkerProcess(String name, List<String> command) throws IOException {
+            this.name = name;
+            this.workDir = Files.createTempDirectory("grading-worker-");
+            try {
+                this.process = new ProcessBuilder(command)
+                        .directory(workDir.toFile())
+                        .redirectError(ProcessBuilder.Redirect.INHERIT)
+                        .start();
+            } catch (IOException e) {
+                deleteWorkDir(workDir);
+                throw e;
+            }
+            // 🔥 워커가 어떤 이유로 끝나든(교체, 시간 초과 강제 종료, OOM) 프로세스 종료 시점에 작업 디렉터리를 지움
+            // (deleteOnExit 는 워커를 교체할 때마다 JVM 종료 때까지 목록이 쌓이기만 함)
+            process.onExit().thenRun(() -> deleteWorkDir(workDir));
+            this.out = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()));
+            this.in = new DataInputStream(new BufferedInputStream(process.getInputStream()));
+            awaitReady();
+        }
+
+        /**
+         * 워커가 클래스 로딩을 마치고 READY 신호를 보낼 때까지 기다립니다
+         */
+        private void awaitReady() throws IOException {
+            Thread timeout = new Thread(() -> {
+                try {
+                    Thread.sleep(STARTUP_TIMEOUT_MILLIS);
+                    process.destroyForcibly();
+                } catch (InterruptedException ignored) {
+                    // 정상 기동
+                }
+            }, name + "-startup");
+            timeout.setDaemon(true);
+            timeout.start();
+            try {
+                if (in.readInt() != WorkerProtocol.READY) {
+                    destroy();
+                    throw new IOException(name + " 워커가 올바르지 않은 기동 신호를 보냈습니다.");
+                }
+            } catch (IOException e) {
+                destroy();
+                throw e;
+            } finally {
+                timeout.interrupt();
+            }
+        }
+
+        void destroy() {
+            try {
+                out.close();
+            } catch (IOException ignored) {
+                // 이미 종료된 프로세스
+            }
+            process.destroyForcibly();
+        }
+
+        /**
+         * 종료(애플리케이션 내려갈 때)용: 프로세스가 끝날 때까지 잠시 기다렸다가 작업 디렉터리를 바로 지움
+         * (onExit 콜백은 비동기라 JVM 이 먼저 끝나면 실행되지 않을 수 있음)
+         */
+        void destroyAndAwait() {
+            destroy();
+            try {
+                process.waitFor(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            deleteWorkDir(workDir);
+        }
+
+        private static void deleteWorkDir(Path workDir) {
+            if (!Files.exists(workDir)) {
+                return; // 이미 지워짐
+            }
+            try (Stream<Path> paths = Files.walk(workDir)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            } catch (IOException | UncheckedIOException e) {
+                System.err.println("⚠️ 워커 작업 디렉터리 삭제 실패: " + workDir + " (" + e.getMessage() + ")");
+            }
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.spring.project.grading;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.stereotype.Component;
+
+import com.spring.project.dto.challenge.GradingResultDTO;
+
+/**
+ * 🎯 내용 주소 기반 채점 캐시
+ * (challenge_id, 정규화된 소스 해시)를 키로 컴파일된 클래스 바이트와 최종 판정을 보관합니다.
+ * 같은 코드를 다시 제출하면 컴파일과 실행을 모두 건너뛰고, 판정이 없는 항목(시간 초과 등)은 컴파일만 건너뜁니다.
+ * 항목 수와 총 바이트 수 기준 LRU 로 제거하며, 테스트 케이스 지문이 바뀐 항목의 판정은 사용하지 않습니다.
+ */
+@Component
+public class GradingCache {
+
+    private static final int MAX_ENTRIES = 2000;
+
+    private static final long MAX_TOTAL_BYTES = 64L * 1024 * 1024;
+
+    /** 항목 1개의 고정 오버헤드 추정치 (키, 판정 객체 등) */
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes = 0;
+    private long hits = 0;
+    private long compileHits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    /**
+     * 캐시 조회 결과
+     * verdict 가 있으면 채점 전체를, compiled 만 있으면 컴파일을 건너뛸 수 있습니다.
+     */
+    public static final class Lookup {
+
+        private final CompiledSubmission compiled;
+        private final GradingResultDTO verdict;
+
+        private Lookup(CompiledSubmission compiled, GradingResultDTO verdict) {
+            this.compiled = compiled;
+            this.verdict = verdict;
+        }
+
+        public CompiledSubmission getCompiled() {
+            return compiled;
+        }
+
+        /** 캐시된 판정의 복사본 (없으면 null) */
+        public GradingResultDTO getVerdict() {
+            return verdict;
+        }
+    }
+
+    /**
+     * 캐시를 조회합니다
+     * @param challengeId 챌린지 ID
+     * @param source 제출된 소스
+     * @param testSetFingerprint 현재 챌린지 테스트 케이스의 지문 (TestCase.fingerprint)
+     * @return 조회 결과 (없으면 null)
+     */
+    public synchronized Lookup get(int challengeId, String source, String testSetFingerprint) {
+        Entry entry = entries.get(new Key(challengeId, fingerprint(normalizeSource(source))));
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        GradingResultDTO verdict = null;
+        if (entry.verdict != null && entry.testSetFingerprint.equals(testSetFingerprint)) {
+            verdict = copy(entry.verdict);
+            hits++;
+        } else if (entry.compiled != null) {
+            compileHits++;
+        } else {
+            misses++;
+            return null;
+        }
+        return new Lookup(entry.compiled, verdict);
+    }
+
+    /**
+     * 채점 결과를 저장합니다
+     * @param compiled 컴파일 결과 (컴파일 실패면 null)
+     * @param verdict 재사용할 수 있는 판정 (시간 초과처럼 부하에 따라 달라지는 판정이면 null)
+     */
+    public synchronized void put(int challengeId, String source, String testSetFingerprint,
+                                 CompiledSubmission compiled, GradingResultDTO verdict) {
+        if (compiled == null && verdict == null) {
+            return;
+        }
+        Entry entry = new Entry(challengeId, compiled, verdict != null ? copy(verdict) : null, testSetFingerprint);
+        Entry previous = entries.put(new Key(challengeId, fingerprint(normalizeSource(source))), entry);
+        if (previous != null) {
+            totalBytes -= previous.weight;
+        }
+        totalBytes += entry.weight;
+
+        Iterator<Entry> eldest = entries.values().iterator();
+        while ((entries.size() > MAX_ENTRIES || totalBytes > MAX_TOTAL_BYTES) && eldest.hasNext()) {
+            Entry evicted = eldest.next();
+            eldest.remove();
+            totalBytes -= evicted.weight;
+            evictions++;
+        }
+    }
+
+    /**
+     * 챌린지의 정답(correct)이 바뀌거나 챌린지가 삭제되었을 때 해당 챌린지의 항목을 모두 제거합니다
+     */
+    public synchronized void invalidateChallenge(int challengeId) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.challengeId == challengeId) {
+                iterator.remove();
+                totalBytes -= entry.weight;
+            }
+        }
+    }
+
+    public synchronized Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("entries", entries.size());
+        statistics.put("totalBytes", totalBytes);
+        statistics.put("hits", hits);
+        statistics.put("compileHits", compileHits);
+        statistics.put("misses", misses);
+        statistics.put("evictions", evictions);
+        return statistics;
+    }
+
+    /**
+     * 공백/주석 차이만 있는 소스가 같은 키를 갖도록 정규화합니다
+     * 문자열/문자 리터럴(텍스트 블록 포함) 내부는 그대로 두고 주석을 제거합니다.
+     * 공백은 양쪽이 모두 식별자 문자이거나 모두 연산자 문자일 때만(붙이면 토큰이 바뀌는 경우) 한 칸으로 남깁니다.
+     */
+    static String normalizeSource(String source) {
+        StringBuilder normalized = new StringBuilder(source.length());
+        int length = source.length();
+        int i = 0;
+        boolean pendingSpace = false;
+        while (i < length) {
+            char c = source.charAt(i);
+            if (c == '/' && i + 1 < length && source.charAt(i + 1) == '/') {
+                while (i < length && source.charAt(i) != '\n') {
+                    i++;
+                }
+                pendingSpace = true;
+            } else if (c == '/' && i + 1 < length && source.charAt(i + 1) == '*') {
+                int end = source.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                pendingSpace = true;
+            } else if (Character.isWhitespace(c)) {
+                i++;
+                pendingSpace = true;
+            } else {
+                if (pendingSpace && normalized.length() > 0 && needsSpace(normalized.charAt(normalized.length() - 1), c)) {
+                    normalized.append(' ');
+                }
+                pendingSpace = false;
+                int end = (c == '"' || c == '\'') ? literalEnd(source, i) : i + 1;
+                normalized.append(source, i, end);
+                i = end;
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static boolean needsSpace(char previous, char next) {
+        if (isSeparator(previous) || isSeparator(next)) {
+            return false;
+        }
+        return isWordChar(previous) == isWordChar(next);
+    }
+
+    private static boolean isSeparator(char c) {
+        return "(){}[];,".indexOf(c) >= 0;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isJavaIdentifierPart(c) || c == '.' || c == '"' || c == '\'';
+    }
+
+    /** start 위치에서 시작하는 리터럴의 끝(다음 인덱스)을 찾습니다 */
+    private static int literalEnd(String source, int start) {
+        char quote = source.charAt(start);
+        if (quote == '"' && source.startsWith("\"\"\"", start)) {
+            int end = source.indexOf("\"\"\"", start + 3);
+            while (end > 0 && source.charAt(end - 1) == '\\') {
+                end = source.indexOf("\"\"\"", end + 1);
+            }
+            return end < 0 ? source.length() : end + 3;
+        }
+        int i = start + 1;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == quote || c == '\n') {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return source.length();
+    }
+
+    private static String fingerprint(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((text != null ? text : "").getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static GradingResultDTO copy(GradingResultDTO source) {
+        GradingResultDTO copy = new GradingResultDTO();
+        copy.setVerdict(source.getVerdict());
+        copy.setPass(source.isPass());
+        copy.setMessage(source.getMessage());
+        copy.setDetail(source.getDetail());
+        copy.setOutput(source.getOutput());
+        copy.setElapsedMillis(source.getElapsedMillis());
+        copy.setPassedCases(source.getPassedCases());
+        copy.setTotalCases(source.getTotalCases());
+        copy.setFailedCase(source.getFailedCase());
+        return copy;
+    }
+
+    private static final class Key {
+
+        private final int challengeId;
+        private final String sourceHash;
+
+        Key(int challengeId, String sourceHash) {
+            this.challengeId = challengeId;
+            this.sourceHash = sourceHash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return challengeId == other.challengeId && sourceHash.equals(other.sourceHash);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(challengeId, sourceHash);
+        }
+    }
+
+    private static final class Entry {
+
+        private final int challengeId;
+        private final CompiledSubmission compiled;
+        private final GradingResultDTO verdict;
+        private final String testSetFingerprint;
+        private final long weight;
+
+        Entry(int challengeId, CompiledSubmission compiled, GradingResultDTO verdict, String testSetFingerprint) {
+            this.challengeId = challengeId;
+            this.compiled = compiled;
+            this.verdict = verdict;
+            this.testSetFingerprint = testSetFingerprint;
+            this.weight = ENTRY_OVERHEAD_BYTES + classBytes(compiled) + textBytes(verdict);
+        }
+
+        private static long classBytes(CompiledSubmission compiled) {
+            long bytes = 0;
+            if (compiled != null) {
+                for (byte[] classFile : compiled.getClassBytes().values()) {
+                    bytes += classFile.length;
+                }
+            }
+            return bytes;
+        }
+
+        private static long textBytes(GradingResultDTO verdict) {
+            if (verdict == null) {
+                return 0;
+            }
+            long chars = 0;
+            chars += verdict.getOutput() != null ? verdict.getOutput().length() : 0;
+            chars += verdict.getDetail() != null ? verdict.getDetail().length() : 0;
+            return chars * 2;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.spring.project.grading;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import com.spring.project.dto.challenge.GradingResultDTO;
+
+/**
+ * 채점 대기열에 들어간 제출 1건
+ * 작업 ID로 상태를 폴링하거나 완료 리스너(SSE)로 결과를 받을 수 있습니다.
+ */
+public final class GradingJob {
+
+    public enum Status { QUEUED, RUNNING, DONE }
+
+    /** 대기열 정렬 순서: 우선순위 값이 작을수록, 같으면 먼저 들어온 작업이 먼저 */
+    static final Comparator<GradingJob> PRIORITY_ORDER = (a, b) -> {
+        int byPriority = Integer.compare(a.priority, b.priority);
+        return byPriority != 0 ? byPriority : Long.compare(a.sequence, b.sequence);
+    };
+
+    private final String jobId;
+    private final int challengeId;
+    private final int userId;
+    private final int priority;
+    private final long sequence;
+    private final Callable<GradingResultDTO> task;
+    private final long enqueuedAtNanos = System.nanoTime();
+    private final long createdAtMillis = System.currentTimeMillis();
+    private final List<Consumer<GradingJob>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile GradingResultDTO result;
+    private volatile long startedAtNanos;
+    private volatile long waitMillis;
+    private volatile long runMillis;
+    private volatile long completedAtMillis;
+
+    GradingJob(String jobId, int challengeId, int userId, int priority, long sequence, Callable<GradingResultDTO> task) {
+        this.jobId = jobId;
+        this.challengeId = challengeId;
+        this.userId = userId;
+        this.priority = priority;
+        this.sequence = sequence;
+        this.task = task;
+    }
+
+    /**
+     * 완료 시 호출될 리스너를 등록합니다 (이미 완료된 작업이면 즉시 호출)
+     */
+    public void onComplete(Consumer<GradingJob> listener) {
+        listeners.add(listener);
+        if (status == Status.DONE && listeners.remove(listener)) {
+            listener.accept(this);
+        }
+    }
+
+    public void removeListener(Consumer<GradingJob> listener) {
+        listeners.remove(listener);
+    }
+
+    void markRunning() {
+        startedAtNanos = System.nanoTime();
+        waitMillis = (startedAtNanos - enqueuedAtNanos) / 1_000_000;
+        status = Status.RUNNING;
+    }
+
+    void complete(GradingResultDTO result) {
+        this.runMillis = (System.nanoTime() - startedAtNanos) / 1_000_000;
+        this.result = result;
+        this.completedAtMillis = System.currentTimeMillis();
+        this.status = Status.DONE;
+        for (Consumer<GradingJob> listener : listeners) {
+            if (listeners.remove(listener)) {
+                try {
+                    listener.accept(this);
+                } catch (RuntimeException e) {
+                    System.err.println("⚠️ 채점 완료 리스너 오류: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    Callable<GradingResultDTO> getTask() {
+        return task;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public int getChallengeId() {
+        return challengeId;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public GradingResultDTO getResult() {
+        return result;
+    }
+
+    public long getWaitMillis() {
+        return waitMillis;
+    }
+
+    public long getRunMillis() {
+        return runMillis;
+    }
+
+    public long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+
+    public long getCompletedAtMillis() {
+        return completedAtMillis;
+    }
+}
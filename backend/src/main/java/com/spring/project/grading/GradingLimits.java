@@ -0,0 +1,33 @@
+package com.spring.project.grading;
+
+/**
+ * 제출 1회 실행에 적용되는 제한 조건
+ */
+public final class GradingLimits {
+
+    /** 기본 제한: 2초, 256MB 힙, 64KB 출력 */
+    public static final GradingLimits DEFAULT = new GradingLimits(2000, 256L * 1024 * 1024, 64 * 1024);
+
+    private final long timeLimitMillis;
+    private final long memoryLimitBytes;
+    private final int outputLimitBytes;
+
+    public GradingLimits(long timeLimitMillis, long memoryLimitBytes, int outputLimitBytes) {
+        this.timeLimitMillis = timeLimitMillis;
+        this.memoryLimitBytes = memoryLimitBytes;
+        this.outputLimitBytes = outputLimitBytes;
+    }
+
+    public long getTimeLimitMillis() {
+        return timeLimitMillis;
+    }
+
+    /** 제출 1건이 유지할 수 있는 힙 크기 (격리 모드에서 워커 JVM 의 -Xmx 로 적용) */
+    public long getMemoryLimitBytes() {
+        return memoryLimitBytes;
+    }
+
+    public int getOutputLimitBytes() {
+        return outputLimitBytes;
+    }
+}
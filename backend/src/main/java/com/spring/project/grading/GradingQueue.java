@@ -0,0 +1,236 @@
+package com.spring.project.grading;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.spring.project.dto.challenge.GradingResultDTO;
+
+/**
+ * 🎯 비동기 채점 대기열
+ * 제출은 작업 ID를 받아 즉시 반환되고, CPU 코어 수만큼의 채점 워커가 우선순위 순서로 처리합니다.
+ * 우선순위는 같은 사용자가 이미 대기/실행 중인 작업 수이므로, 한 사용자의 연속 제출이 다른 사용자를 밀어내지 않습니다.
+ * 대기열이 가득 차거나 한 사용자의 대기/실행 중 작업이 MAX_PENDING_JOBS_PER_USER 에 도달하면
+ * GradingQueueFullException 으로 즉시 거절합니다 (요청 스레드를 붙잡지 않고, 한 사용자가 대기열 전체를 채우지 못함).
+ * 작업이 어떤 Throwable 로 끝나더라도 워커 스레드는 살아남고 작업은 반드시 완료 처리됩니다 (폴링/SSE 가 멈추지 않음).
+ */
+@Component
+public class GradingQueue implements DisposableBean {
+
+    /** 코어당 대기 가능한 제출 수 */
+    private static final int QUEUE_SLOTS_PER_WORKER = 8;
+
+    /** 한 사용자가 동시에 대기/실행할 수 있는 최대 제출 수 */
+    private static final int MAX_PENDING_JOBS_PER_USER = 3;
+
+    /** 완료된 작업 결과 보관 시간 (폴링용) */
+    private static final long COMPLETED_JOB_TTL_MILLIS = 10 * 60 * 1000L;
+
+    /** 실행 시간 통계가 없을 때 가정하는 작업 1건의 처리 시간 */
+    private static final long DEFAULT_RUN_MILLIS = 1000;
+
+    private final int workerCount = Runtime.getRuntime().availableProcessors();
+    private final int capacity = workerCount * QUEUE_SLOTS_PER_WORKER;
+
+    private final PriorityBlockingQueue<GradingJob> queue = new PriorityBlockingQueue<>(capacity, GradingJob.PRIORITY_ORDER);
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, GradingJob> jobs = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> pendingByUser = new ConcurrentHashMap<>();
+    private final List<Thread> workers = new ArrayList<>();
+
+    private final LongAdder submittedJobs = new LongAdder();
+    private final LongAdder rejectedJobs = new LongAdder();
+    private final LongAdder completedJobs = new LongAdder();
+    private final LongAdder totalWaitMillis = new LongAdder();
+    private final LongAdder totalRunMillis = new LongAdder();
+    private final LongAccumulator maxWaitMillis = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxRunMillis = new LongAccumulator(Math::max, 0);
+
+    public GradingQueue() {
+        for (int i = 1; i <= workerCount; i++) {
+            Thread worker = new Thread(this::workLoop, "grader-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * 채점 작업을 대기열에 넣습니다
+     * @param challengeId 챌린지 ID
+     * @param userId 제출한 사용자 ID
+     * @param task 채점 및 결과 기록 작업
+     * @return 대기열에 들어간 작업
+     * @throws GradingQueueFullException 대기열이 가득 찬 경우
+     */
+    public GradingJob enqueue(int challengeId, int userId, Callable<GradingResultDTO> task) {
+        int pending = pendingByUser.merge(userId, 1, Integer::sum);
+        if (pending > MAX_PENDING_JOBS_PER_USER) {
+            releaseUserSlot(userId);
+            rejectedJobs.increment();
+            long retryAfter = estimateUserRetryAfterSeconds();
+            throw new GradingQueueFullException("이미 채점 중인 제출이 " + MAX_PENDING_JOBS_PER_USER + "개 있습니다. "
+                    + retryAfter + "초 후 다시 시도해주세요.", retryAfter);
+        }
+        if (queued.incrementAndGet() > capacity) {
+            queued.decrementAndGet();
+            releaseUserSlot(userId);
+            rejectedJobs.increment();
+            throw new GradingQueueFullException(estimateRetryAfterSeconds());
+        }
+
+        int priority = pending - 1;
+        GradingJob job = new GradingJob(UUID.randomUUID().toString(), challengeId, userId, priority,
+                sequence.incrementAndGet(), task);
+        jobs.put(job.getJobId(), job);
+        submittedJobs.increment();
+        queue.offer(job);
+        return job;
+    }
+
+    /**
+     * 작업 ID로 작업을 조회합니다 (완료 후 보관 시간이 지나면 null)
+     */
+    public GradingJob getJob(String jobId) {
+        return jobId != null ? jobs.get(jobId) : null;
+    }
+
+    /**
+     * 대기 중인 작업의 대기열 내 순번(0부터)을 계산합니다
+     * @return 순번 (대기 중이 아니면 -1)
+     */
+    public int getPosition(GradingJob job) {
+        if (job.getStatus() != GradingJob.Status.QUEUED) {
+            return -1;
+        }
+        int position = 0;
+        for (GradingJob other : queue) {
+            if (other != job && GradingJob.PRIORITY_ORDER.compare(other, job) < 0) {
+                position++;
+            }
+        }
+        return position;
+    }
+
+    private void workLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            GradingJob job;
+            try {
+                job = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            queued.decrementAndGet();
+            running.incrementAndGet();
+
+            GradingResultDTO result = null;
+            try {
+                job.markRunning();
+                result = job.getTask().call();
+            } catch (Throwable t) {
+                // StackOverflowError, OutOfMemoryError, LinkageError 등 Error 도 작업 실패로 처리하고 워커는 계속 동작
+                System.err.println("⚠️ 채점 작업 오류 - jobId: " + job.getJobId() + ", " + t);
+                t.printStackTrace();
+                result = systemError(job, t);
+            } finally {
+                running.decrementAndGet();
+                releaseUserSlot(job.getUserId());
+                job.complete(result != null ? result : systemError(job, null));
+                recordTimings(job);
+            }
+        }
+    }
+
+    private void releaseUserSlot(int userId) {
+        pendingByUser.computeIfPresent(userId, (id, pending) -> pending > 1 ? pending - 1 : null);
+    }
+
+    private static GradingResultDTO systemError(GradingJob job, Throwable cause) {
+        GradingResultDTO result = new GradingResultDTO();
+        result.setChallenge_id(job.getChallengeId());
+        result.setVerdict(Verdict.SYSTEM_ERROR.name());
+        result.setMessage(Verdict.SYSTEM_ERROR.getMessage());
+        result.setDetail(cause != null ? String.valueOf(cause) : null);
+        return result;
+    }
+
+    private void recordTimings(GradingJob job) {
+        completedJobs.increment();
+        totalWaitMillis.add(job.getWaitMillis());
+        totalRunMillis.add(job.getRunMillis());
+        maxWaitMillis.accumulate(job.getWaitMillis());
+        maxRunMillis.accumulate(job.getRunMillis());
+    }
+
+    /**
+     * 현재 대기열을 모두 처리하는 데 걸릴 예상 시간(초)
+     */
+    private long estimateRetryAfterSeconds() {
+        long completed = completedJobs.sum();
+        long avgRunMillis = completed > 0 ? totalRunMillis.sum() / completed : DEFAULT_RUN_MILLIS;
+        long drainMillis = (queued.get() + 1) * Math.max(avgRunMillis, 1) / workerCount;
+        return Math.max(1, (drainMillis + 999) / 1000);
+    }
+
+    /**
+     * 사용자별 상한에 걸린 제출의 재시도 대기 시간(초): 자기 작업 하나가 끝날 때까지
+     */
+    private long estimateUserRetryAfterSeconds() {
+        long completed = completedJobs.sum();
+        long avgRunMillis = completed > 0 ? totalRunMillis.sum() / completed : DEFAULT_RUN_MILLIS;
+        return Math.max(1, (avgRunMillis + 999) / 1000);
+    }
+
+    /**
+     * 대기열 깊이, 대기 시간, 실행 시간 지표
+     */
+    public Map<String, Object> getMetrics() {
+        long completed = completedJobs.sum();
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("workers", workerCount);
+        metrics.put("queueCapacity", capacity);
+        metrics.put("maxPendingJobsPerUser", MAX_PENDING_JOBS_PER_USER);
+        metrics.put("queueDepth", queue.size());
+        metrics.put("runningJobs", running.get());
+        metrics.put("submittedJobs", submittedJobs.sum());
+        metrics.put("rejectedJobs", rejectedJobs.sum());
+        metrics.put("completedJobs", completed);
+        metrics.put("avgWaitMillis", completed > 0 ? totalWaitMillis.sum() / completed : 0);
+        metrics.put("maxWaitMillis", maxWaitMillis.get());
+        metrics.put("avgRunMillis", completed > 0 ? totalRunMillis.sum() / completed : 0);
+        metrics.put("maxRunMillis", maxRunMillis.get());
+        metrics.put("retainedJobs", jobs.size());
+        return metrics;
+    }
+
+    /**
+     * 보관 시간이 지난 완료 작업을 정리합니다
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictCompletedJobs() {
+        long threshold = System.currentTimeMillis() - COMPLETED_JOB_TTL_MILLIS;
+        jobs.values().removeIf(job -> job.getStatus() == GradingJob.Status.DONE && job.getCompletedAtMillis() < threshold);
+    }
+
+    @Override
+    public void destroy() {
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+    }
+}
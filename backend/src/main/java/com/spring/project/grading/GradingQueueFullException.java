@@ -0,0 +1,23 @@
+package com.spring.project.grading;
+
+/**
+ * 채점 대기열이 가득 찼거나, 한 사용자의 대기/실행 중 제출이 상한에 도달해 제출을 받을 수 없을 때 발생하는 예외
+ */
+public class GradingQueueFullException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public GradingQueueFullException(long retryAfterSeconds) {
+        this("채점 대기열이 가득 찼습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.", retryAfterSeconds);
+    }
+
+    public GradingQueueFullException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /** Retry-After 헤더로 내려줄 재시도 대기 시간(초) */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
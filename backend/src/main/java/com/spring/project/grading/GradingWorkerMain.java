@@ -0,0 +1,52 @@
+package com.spring.project.grading;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 🎯 격리 채점용 워커 JVM 진입점
+ * ForkedJvmSubmissionExecutor 가 미리 띄워 두는 프로세스로, 표준 입력 파이프로 채점 요청을 받아
+ * InProcessSubmissionExecutor 로 실행하고 결과를 표준 출력 파이프로 돌려줍니다.
+ * 제한을 넘긴 작업을 보고한 뒤에는 스스로 종료하여 다음 작업이 오염된 JVM 에서 실행되지 않게 합니다.
+ */
+public final class GradingWorkerMain {
+
+    private GradingWorkerMain() {}
+
+    public static void main(String[] args) throws IOException {
+        // 표준 입출력은 부모와의 통신 채널이므로, 제출 코드와 로그가 닿지 않도록 분리
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(FileDescriptor.in)));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)));
+        System.setOut(System.err);
+        System.setIn(InputStream.nullInputStream());
+
+        SubmissionExecutor executor = new InProcessSubmissionExecutor();
+        out.writeInt(WorkerProtocol.READY);
+        out.flush();
+
+        while (true) {
+            WorkerProtocol.Job job;
+            try {
+                job = WorkerProtocol.readJob(in);
+            } catch (EOFException e) {
+                return; // 부모가 파이프를 닫음
+            }
+
+            ExecutionResult result = executor.execute(job.compiled, job.input, job.limits);
+            job.input.finish(); // 읽지 않은 입력을 버려야 다음 요청을 읽을 수 있음
+            WorkerProtocol.writeResult(out, result);
+
+            if (!result.isCompleted() && result.getFailureVerdict().isLimitBreach()) {
+                System.exit(0);
+            }
+        }
+    }
+}
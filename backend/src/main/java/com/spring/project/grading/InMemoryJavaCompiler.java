@@ -0,0 +1,356 @@
+package com.spring.project.grading;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.QualifiedNameable;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.MemberReferenceTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.NewClassTree;
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.TreePathScanner;
+import com.sun.source.util.Trees;
+
+/**
+ * 🎯 제출된 Java 소스를 디스크를 거치지 않고 메모리에서 컴파일합니다
+ * javax.tools.JavaCompiler 로 파싱/분석/생성을 단계별로 수행하고,
+ * 분석 단계에서 System.exit 등 서버에 영향을 주는 API 호출과 java.lang.invoke 참조를 차단합니다.
+ * 파일 이름으로 파일을 여는 PrintWriter/PrintStream/Formatter 생성자, 그리고 채점 스레드 밖에서 제출 코드를 실행하는
+ * 병렬 스트림/Timer 도 여기서 거릅니다 (클래스 자체는 표준 출력/순차 스트림에 필요해 로더에서 막을 수 없음).
+ * (람다/문자열 연결이 링크될 때 필요한 java.lang.invoke 클래스는 SubmissionClassLoader 가 허용하므로,
+ *  이름 문자열로 메서드를 찾는 MethodHandles 조회는 소스 단계에서 막아야 합니다)
+ */
+public class InMemoryJavaCompiler {
+
+    private static final Pattern PUBLIC_CLASS_PATTERN =
+            Pattern.compile("public\\s+(?:(?:final|abstract|strictfp)\\s+)*class\\s+([A-Za-z_$][A-Za-z0-9_$]*)");
+
+    private static final Pattern PACKAGE_PATTERN = Pattern.compile("^\\s*package\\s+[\\w.]+\\s*;", Pattern.MULTILINE);
+
+    private static final String DEFAULT_MAIN_CLASS = "Main";
+
+    private static final int MAX_DIAGNOSTIC_LENGTH = 4000;
+
+    /** 제출 코드에서 호출할 수 없는 메서드 (소유 클래스 → 메서드 이름) */
+    private static final Map<String, Set<String>> FORBIDDEN_METHODS = Map.of(
+            "java.lang.System", Set.of("exit", "setIn", "setOut", "setErr", "setSecurityManager", "load", "loadLibrary",
+                    "getenv", "getProperties", "getProperty", "setProperty", "setProperties", "clearProperty", "console"),
+            "java.lang.Class", Set.of("forName", "getClassLoader", "getDeclaredMethods", "getDeclaredFields",
+                    "getDeclaredConstructors", "getMethods", "getFields", "getMethod", "getField", "getDeclaredMethod",
+                    "getDeclaredField", "getDeclaredConstructor", "getConstructor", "getModule", "getProtectionDomain"),
+            // 병렬 스트림/정렬은 ForkJoin 공용 풀 스레드에서 제출 코드를 실행하므로 시간 제한 종료와 출력 캡처를 벗어남
+            "java.util.Collection", Set.of("parallelStream"),
+            "java.util.stream.BaseStream", Set.of("parallel"),
+            "java.util.stream.IntStream", Set.of("parallel"),
+            "java.util.stream.LongStream", Set.of("parallel"),
+            "java.util.stream.DoubleStream", Set.of("parallel"),
+            "java.util.stream.StreamSupport", Set.of("stream", "intStream", "longStream", "doubleStream"),
+            "java.util.Arrays", Set.of("parallelSort", "parallelPrefix", "parallelSetAll"));
+
+    /** 제출 코드에서 참조할 수 없는 타입 (자체 스레드에서 제출 코드를 실행) */
+    private static final Set<String> FORBIDDEN_TYPES = Set.of("java.util.Timer", "java.util.TimerTask");
+
+    /** 파일 이름(String) / File 을 받는 생성자로 파일을 열 수 있는 출력 클래스 (표준 출력용 생성자는 허용) */
+    private static final Set<String> FILE_OUTPUT_TYPES = Set.of("java.io.PrintWriter", "java.io.PrintStream", "java.util.Formatter");
+
+    /** 첫 파라미터가 long(parallelismThreshold)인 메서드가 공용 풀에서 병렬 실행되는 타입 */
+    private static final String PARALLEL_BULK_TYPE = "java.util.concurrent.ConcurrentHashMap";
+
+    /** 제출 코드에서 참조할 수 없는 패키지 (타입, 메서드, 필드, import 모두) */
+    private static final Set<String> FORBIDDEN_PACKAGES = Set.of("java.lang.invoke", "java.lang.runtime", "java.lang.reflect");
+
+    private static final List<String> COMPILER_OPTIONS = Arrays.asList("-proc:none", "-g:none", "-nowarn", "-encoding", "UTF-8");
+
+    private final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+    /**
+     * 제출 소스를 컴파일합니다
+     * @param source 제출된 Java 소스
+     * @return 컴파일 결과 (성공 시 메인 클래스와 바이트코드 포함)
+     */
+    public CompilationResult compile(String source) {
+        if (compiler == null) {
+            return CompilationResult.systemError("서버에 Java 컴파일러(JDK)가 설치되어 있지 않습니다.");
+        }
+        if (source == null || source.trim().isEmpty()) {
+            return CompilationResult.compileError("제출된 코드가 없습니다.");
+        }
+        if (PACKAGE_PATTERN.matcher(source).find()) {
+            return CompilationResult.compileError("package 선언은 사용할 수 없습니다.");
+        }
+
+        String mainClassName = findMainClassName(source);
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        try (StandardJavaFileManager standardFileManager =
+                     compiler.getStandardFileManager(diagnostics, Locale.KOREAN, StandardCharsets.UTF_8);
+             MemoryFileManager fileManager = new MemoryFileManager(standardFileManager)) {
+
+            // 애플리케이션 클래스패스가 제출 코드에 노출되지 않도록 비워 둔다
+            standardFileManager.setLocation(StandardLocation.CLASS_PATH, Collections.emptyList());
+
+            JavacTask task = (JavacTask) compiler.getTask(null, fileManager, diagnostics, COMPILER_OPTIONS, null,
+                    Collections.singletonList(new SourceFile(mainClassName, source)));
+
+            Iterable<? extends CompilationUnitTree> units = task.parse();
+            task.analyze();
+            if (hasErrors(diagnostics)) {
+                return CompilationResult.compileError(formatDiagnostics(diagnostics));
+            }
+
+            String forbidden = findForbiddenCall(task, units);
+            if (forbidden != null) {
+                return CompilationResult.rejected(forbidden + " 은(는) 사용할 수 없습니다.");
+            }
+
+            task.generate();
+            if (hasErrors(diagnostics)) {
+                return CompilationResult.compileError(formatDiagnostics(diagnostics));
+            }
+
+            Map<String, byte[]> classBytes = fileManager.getClassBytes();
+            if (!classBytes.containsKey(mainClassName)) {
+                return CompilationResult.compileError(mainClassName + " 클래스를 찾을 수 없습니다.");
+            }
+            return CompilationResult.success(new CompiledSubmission(mainClassName, classBytes));
+
+        } catch (IOException | IllegalStateException e) {
+            return CompilationResult.systemError("컴파일 중 오류: " + e.getMessage());
+        }
+    }
+
+    private String findMainClassName(String source) {
+        Matcher matcher = PUBLIC_CLASS_PATTERN.matcher(source);
+        return matcher.find() ? matcher.group(1) : DEFAULT_MAIN_CLASS;
+    }
+
+    private boolean hasErrors(DiagnosticCollector<JavaFileObject> diagnostics) {
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String formatDiagnostics(DiagnosticCollector<JavaFileObject> diagnostics) {
+        StringBuilder sb = new StringBuilder();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() != Diagnostic.Kind.ERROR) {
+                continue;
+            }
+            sb.append("Line ").append(diagnostic.getLineNumber()).append(": ")
+              .append(diagnostic.getMessage(Locale.KOREAN)).append('\n');
+            if (sb.length() > MAX_DIAGNOSTIC_LENGTH) {
+                sb.setLength(MAX_DIAGNOSTIC_LENGTH);
+                sb.append("...");
+                break;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 분석된 트리를 순회하며 금지된 메서드 호출/참조와 금지된 패키지의 참조를 찾습니다
+     * 참조된 요소의 소유 패키지로 판단하므로 var 로 받은 MethodHandle 의 메서드 호출도 걸러집니다.
+     * @return 금지된 호출 이름 (없으면 null)
+     */
+    private String findForbiddenCall(JavacTask task, Iterable<? extends CompilationUnitTree> units) {
+        Trees trees = Trees.instance(task);
+        Elements elements = task.getElements();
+        String[] found = new String[1];
+
+        for (CompilationUnitTree unit : units) {
+            new TreePathScanner<Void, Void>() {
+                @Override
+                public Void visitMemberSelect(MemberSelectTree node, Void unused) {
+                    check(trees.getElement(getCurrentPath()));
+                    return super.visitMemberSelect(node, unused);
+                }
+
+                @Override
+                public Void visitIdentifier(IdentifierTree node, Void unused) {
+                    check(trees.getElement(getCurrentPath()));
+                    return super.visitIdentifier(node, unused);
+                }
+
+                @Override
+                public Void visitMemberReference(MemberReferenceTree node, Void unused) {
+                    check(trees.getElement(getCurrentPath()));
+                    return super.visitMemberReference(node, unused);
+                }
+
+                @Override
+                public Void visitNewClass(NewClassTree node, Void unused) {
+                    check(trees.getElement(getCurrentPath()));
+                    return super.visitNewClass(node, unused);
+                }
+
+                private void check(Element element) {
+                    if (found[0] != null || element == null) {
+                        return;
+                    }
+                    PackageElement packageElement = elements.getPackageOf(element);
+                    if (packageElement != null && FORBIDDEN_PACKAGES.contains(packageElement.getQualifiedName().toString())) {
+                        found[0] = describe(element);
+                        return;
+                    }
+                    if (element instanceof TypeElement && FORBIDDEN_TYPES.contains(describe(element))) {
+                        found[0] = describe(element);
+                        return;
+                    }
+                    Element owner = element.getEnclosingElement();
+                    if (!(owner instanceof TypeElement)) {
+                        return;
+                    }
+                    String ownerName = ((TypeElement) owner).getQualifiedName().toString();
+                    if (FORBIDDEN_TYPES.contains(ownerName)) {
+                        found[0] = ownerName + "." + element.getSimpleName();
+                        return;
+                    }
+                    if (element.getKind() == ElementKind.CONSTRUCTOR) {
+                        // new PrintWriter("경로"), super("경로"), PrintWriter::new 모두 생성자 요소로 들어옴
+                        if (FILE_OUTPUT_TYPES.contains(ownerName) && opensFile((ExecutableElement) element)) {
+                            found[0] = ownerName + " 파일 생성자";
+                        }
+                        return;
+                    }
+                    if (element.getKind() != ElementKind.METHOD) {
+                        return;
+                    }
+                    Set<String> methods = FORBIDDEN_METHODS.get(ownerName);
+                    if (methods != null && methods.contains(element.getSimpleName().toString())) {
+                        found[0] = ownerName + "." + element.getSimpleName();
+                    } else if (PARALLEL_BULK_TYPE.equals(ownerName) && firstParameterIs((ExecutableElement) element, "long")) {
+                        found[0] = ownerName + "." + element.getSimpleName() + "(parallelismThreshold, ...)";
+                    }
+                }
+            }.scan(unit, null);
+
+            if (found[0] != null) {
+                return found[0];
+            }
+        }
+        return null;
+    }
+
+    /** 파일 이름 또는 File 로 파일을 여는 생성자인지 */
+    private static boolean opensFile(ExecutableElement constructor) {
+        return firstParameterIs(constructor, "java.lang.String") || firstParameterIs(constructor, "java.io.File");
+    }
+
+    private static boolean firstParameterIs(ExecutableElement method, String typeName) {
+        List<? extends VariableElement> parameters = method.getParameters();
+        return !parameters.isEmpty() && parameters.get(0).asType().toString().equals(typeName);
+    }
+
+    private static String describe(Element element) {
+        if (element instanceof QualifiedNameable) {
+            return ((QualifiedNameable) element).getQualifiedName().toString();
+        }
+        Element owner = element.getEnclosingElement();
+        if (owner instanceof TypeElement) {
+            return ((TypeElement) owner).getQualifiedName() + "." + element.getSimpleName();
+        }
+        return element.getSimpleName().toString();
+    }
+
+    /**
+     * 문자열 소스를 감싸는 JavaFileObject
+     */
+    private static final class SourceFile extends SimpleJavaFileObject {
+
+        private final String source;
+
+        SourceFile(String className, String source) {
+            super(URI.create("string:///" + className + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+
+    /**
+     * 생성된 클래스 파일을 메모리 버퍼에 담는 JavaFileObject
+     */
+    private static final class ClassFile extends SimpleJavaFileObject {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        ClassFile(String className) {
+            super(URI.create("bytes:///" + className.replace('.', '/') + Kind.CLASS.extension), Kind.CLASS);
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            return bytes;
+        }
+
+        byte[] getBytes() {
+            return bytes.toByteArray();
+        }
+    }
+
+    /**
+     * 클래스 출력을 디스크 대신 메모리로 돌리는 파일 매니저
+     */
+    private static final class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+        private final Map<String, ClassFile> classFiles = new HashMap<>();
+
+        MemoryFileManager(StandardJavaFileManager fileManager) {
+            super(fileManager);
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind,
+                                                   FileObject sibling) {
+            ClassFile classFile = new ClassFile(className);
+            classFiles.put(className, classFile);
+            return classFile;
+        }
+
+        Map<String, byte[]> getClassBytes() {
+            Map<String, byte[]> result = new HashMap<>();
+            for (Map.Entry<String, ClassFile> entry : classFiles.entrySet()) {
+                result.put(entry.getKey(), entry.getValue().getBytes());
+            }
+            return result;
+        }
+    }
+}
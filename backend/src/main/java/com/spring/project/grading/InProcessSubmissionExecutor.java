@@ -0,0 +1,177 @@
+package com.spring.project.grading;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 🎯 웹 애플리케이션 JVM 안에서 제출 코드를 실행하는 실행기
+ * 제출마다 전용 클래스 로더와 실행 스레드를 만들고, 실행 스레드를 감시하며
+ * 시간 제한(벽시계)과 출력 제한을 적용합니다. JVM 을 새로 띄우지 않습니다.
+ * 메모리 제한은 이 실행기를 돌리는 워커 JVM 의 -Xmx 와 ExitOnOutOfMemoryError 로 적용됩니다 (ForkedJvmSubmissionExecutor).
+ * 스레드 누적 할당량은 살아 있는 힙 사용량과 무관하므로 (짧게 쓰고 버리는 객체도 누적됨) 판정에 쓰지 않습니다.
+ */
+public class InProcessSubmissionExecutor implements SubmissionExecutor {
+
+    private static final long POLL_INTERVAL_MILLIS = 10;
+
+    /** 재귀 풀이를 고려한 실행 스레드 스택 크기 */
+    private static final long RUN_THREAD_STACK_SIZE = 64L * 1024 * 1024;
+
+    private static final AtomicLong RUN_SEQUENCE = new AtomicLong();
+
+    public InProcessSubmissionExecutor() {
+        SubmissionStreams.install();
+    }
+
+    @Override
+    public ExecutionResult execute(CompiledSubmission compiled, InputStream input, GradingLimits limits, BooleanSupplier cancelled) {
+        Method mainMethod;
+        try {
+            SubmissionClassLoader loader = new SubmissionClassLoader(compiled.getClassBytes());
+            Class<?> mainClass = loader.loadClass(compiled.getMainClassName());
+            mainMethod = mainClass.getMethod("main", String[].class);
+            if (!Modifier.isStatic(mainMethod.getModifiers())) {
+                return ExecutionResult.failed(Verdict.RUNTIME_ERROR, "", "main 메서드는 static 이어야 합니다.", 0);
+            }
+            mainMethod.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            return ExecutionResult.failed(Verdict.RUNTIME_ERROR, "", "public static void main(String[] args) 메서드가 없습니다.", 0);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return ExecutionResult.failed(Verdict.REJECTED, "", e.getMessage(), 0);
+        }
+
+        BoundedOutputStream output = new BoundedOutputStream(limits.getOutputLimitBytes());
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread runner = new Thread(null, () -> {
+            SubmissionStreams.bind(input, output);
+            try {
+                mainMethod.invoke(null, (Object) new String[0]);
+            } catch (InvocationTargetException e) {
+                failure.set(e.getCause());
+            } catch (Throwable t) {
+                failure.set(t);
+            } finally {
+                System.out.flush();
+                SubmissionStreams.unbind();
+            }
+        }, "grading-run-" + RUN_SEQUENCE.incrementAndGet(), RUN_THREAD_STACK_SIZE);
+        runner.setDaemon(true);
+
+        long startNanos = System.nanoTime();
+        runner.start();
+
+        try {
+            while (runner.isAlive()) {
+                runner.join(POLL_INTERVAL_MILLIS);
+                long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+                if (cancelled.getAsBoolean()) {
+                    kill(runner);
+                    return ExecutionResult.cancelled(elapsedMillis);
+                }
+                if (elapsedMillis > limits.getTimeLimitMillis()) {
+                    kill(runner);
+                    return ExecutionResult.failed(Verdict.TIME_LIMIT_EXCEEDED, output.asString(), null, elapsedMillis);
+                }
+                if (output.isOverflowed()) {
+                    kill(runner);
+                    return ExecutionResult.failed(Verdict.OUTPUT_LIMIT_EXCEEDED, output.asString(), null, elapsedMillis);
+                }
+            }
+        } catch (InterruptedException e) {
+            kill(runner);
+            Thread.currentThread().interrupt();
+            return ExecutionResult.failed(Verdict.SYSTEM_ERROR, output.asString(), "채점이 중단되었습니다.", 0);
+        }
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        Throwable thrown = failure.get();
+        if (thrown instanceof OutOfMemoryError) {
+            return ExecutionResult.failed(Verdict.MEMORY_LIMIT_EXCEEDED, output.asString(), null, elapsedMillis);
+        }
+        if (thrown instanceof NoClassDefFoundError) {
+            // 제출 클래스는 모두 로더에 있으므로, 찾지 못한 클래스는 차단된 JDK 클래스다
+            return ExecutionResult.failed(Verdict.REJECTED, output.asString(), describe(thrown), elapsedMillis);
+        }
+        if (thrown != null) {
+            return ExecutionResult.failed(Verdict.RUNTIME_ERROR, output.asString(), describe(thrown), elapsedMillis);
+        }
+        if (output.isOverflowed()) {
+            return ExecutionResult.failed(Verdict.OUTPUT_LIMIT_EXCEEDED, output.asString(), null, elapsedMillis);
+        }
+        return ExecutionResult.completed(output.asString(), elapsedMillis);
+    }
+
+    /**
+     * 제한을 넘긴 실행 스레드를 종료합니다
+     * 인터럽트에 응답하지 않는 무한 루프는 Thread.stop 으로 강제 종료합니다.
+     */
+    @SuppressWarnings("deprecation")
+    private void kill(Thread runner) {
+        runner.interrupt();
+        try {
+            runner.join(POLL_INTERVAL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (runner.isAlive()) {
+            runner.stop();
+        }
+    }
+
+    private String describe(Throwable thrown) {
+        String message = thrown.getMessage();
+        return thrown.getClass().getName() + (message != null ? ": " + message : "");
+    }
+
+    /**
+     * 출력 제한을 넘으면 더 이상 저장하지 않고 초과 표시만 하는 버퍼
+     */
+    private static final class BoundedOutputStream extends OutputStream {
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private final int limit;
+        private volatile boolean overflowed = false;
+
+        BoundedOutputStream(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            if (buffer.size() >= limit) {
+                overflowed = true;
+                return;
+            }
+            buffer.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            int writable = Math.min(len, limit - buffer.size());
+            if (writable < len) {
+                overflowed = true;
+            }
+            if (writable > 0) {
+                buffer.write(b, off, writable);
+            }
+        }
+
+        boolean isOverflowed() {
+            return overflowed;
+        }
+
+        synchronized String asString() {
+            return new String(buffer.toByteArray(), Charset.defaultCharset());
+        }
+    }
+}
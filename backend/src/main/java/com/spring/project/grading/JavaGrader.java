@@ -0,0 +1,262 @@
+package com.spring.project.grading;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.spring.project.dto.challenge.GradingResultDTO;
+
+/**
+ * 🎯 Java 제출 코드 자동 채점기
+ * 메모리 컴파일 → 제한 실행 → 기대 출력 비교를 수행합니다. 동시 채점 수는 GradingQueue 의 워커 수로 제한됩니다.
+ * 테스트 케이스가 여러 개면 fork-join 풀에 나누어 병렬로 실행하고, 한 케이스라도 실패하면 나머지를 즉시 중단합니다.
+ * 실행 방식은 grading.isolation 설정으로 고릅니다: forked(기본, 워커 JVM 풀에서 격리 실행) 또는 in-process(웹 앱 JVM 안에서 실행).
+ * in-process 는 제출 코드가 웹 앱과 같은 JVM 에서 돌고 메모리 제한(워커 JVM 힙)이 적용되지 않으므로 신뢰할 수 있는 코드(개발/테스트)에만 사용합니다.
+ */
+@Component
+public class JavaGrader implements InitializingBean, DisposableBean {
+
+    /** 응답에 포함할 출력의 최대 길이 */
+    private static final int MAX_OUTPUT_PREVIEW = 2000;
+
+    private final InMemoryJavaCompiler compiler = new InMemoryJavaCompiler();
+    private SubmissionExecutor executor;
+
+    /** 테스트 케이스 실행 풀 (모든 채점 작업이 공유, 동시 실행 케이스 수 = CPU 코어 수) */
+    private final ForkJoinPool casePool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("grader-case-" + thread.getPoolIndex());
+        return thread;
+    }, null, false);
+
+    @Value("${grading.isolation:forked}")
+    private String isolationMode;
+
+    /** 워커 JVM 수 (0 이하면 CPU 코어 수 = 채점 대기열 워커 수) */
+    @Value("${grading.worker.pool-size:0}")
+    private int workerPoolSize;
+
+    /** 워커 JVM 1개가 처리한 뒤 교체되는 작업 수 */
+    @Value("${grading.worker.max-jobs:50}")
+    private int workerMaxJobs;
+
+    @Autowired
+    private GradingCache gradingCache;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!"in-process".equalsIgnoreCase(isolationMode)) {
+            int poolSize = workerPoolSize > 0 ? workerPoolSize : Runtime.getRuntime().availableProcessors();
+            executor = new ForkedJvmSubmissionExecutor(poolSize, workerMaxJobs, GradingLimits.DEFAULT.getMemoryLimitBytes());
+            System.out.println("🎯 채점 실행 방식: 워커 JVM 풀 (" + poolSize + "개, " + workerMaxJobs + "건마다 교체)");
+        } else {
+            executor = new InProcessSubmissionExecutor();
+            System.out.println("⚠️ 채점 실행 방식: 웹 앱 JVM 내부 실행 (격리 없음, 신뢰할 수 있는 코드 전용)");
+        }
+    }
+
+    @Override
+    public void destroy() {
+        casePool.shutdownNow();
+        if (executor != null) {
+            executor.close();
+        }
+    }
+
+    /**
+     * 제출 코드를 채점합니다
+     * 같은 챌린지에 같은 코드(공백/주석 차이 무시)가 다시 제출되면 캐시된 판정이나 컴파일 결과를 재사용합니다.
+     * @param challengeId 챌린지 ID
+     * @param source 제출된 Java 소스
+     * @param testCaseSet 챌린지의 테스트 케이스 (1개 이상)
+     * @return 채점 결과
+     */
+    public GradingResultDTO grade(int challengeId, String source, TestCaseSet testCaseSet) {
+        List<TestCase> testCases = testCaseSet.getCases();
+        String testSetFingerprint = testCaseSet.getFingerprint();
+        GradingCache.Lookup cached = gradingCache.get(challengeId, source, testSetFingerprint);
+        if (cached != null && cached.getVerdict() != null) {
+            GradingResultDTO result = cached.getVerdict();
+            result.setCached(true);
+            return result;
+        }
+
+        CompiledSubmission compiled;
+        if (cached != null) {
+            compiled = cached.getCompiled();
+        } else {
+            CompilationResult compilation = compiler.compile(source);
+            if (!compilation.isSuccess()) {
+                GradingResultDTO result = toResult(compilation.getFailureVerdict(), compilation.getMessage(), null, 0);
+                result.setTotalCases(testCases.size());
+                if (compilation.getFailureVerdict().isCacheable()) {
+                    gradingCache.put(challengeId, source, testSetFingerprint, null, result);
+                }
+                return result;
+            }
+            compiled = compilation.getCompiled();
+        }
+
+        GradingResultDTO result;
+        if (testCases.size() == 1) {
+            CaseOutcome outcome = runCase(compiled, testCases.get(0), 1, () -> false);
+            result = toResult(outcome, outcome.passed ? 1 : 0, 1);
+        } else {
+            result = runInParallel(compiled, testCases);
+        }
+        boolean cacheable = Verdict.valueOf(result.getVerdict()).isCacheable();
+        gradingCache.put(challengeId, source, testSetFingerprint, compiled, cacheable ? result : null);
+        return result;
+    }
+
+    /**
+     * 테스트 케이스를 fork-join 풀에서 병렬로 실행합니다
+     * 처음 실패한 케이스가 중단 신호를 올리면 아직 시작하지 않은 케이스는 건너뛰고, 실행 중인 케이스는 즉시 종료됩니다.
+     * 따라서 전체 시간은 케이스 시간의 합이 아니라 가장 느린 케이스(또는 첫 실패)의 시간에 가깝습니다.
+     */
+    private GradingResultDTO runInParallel(CompiledSubmission compiled, List<TestCase> testCases) {
+        AtomicBoolean stop = new AtomicBoolean(false);
+        AtomicReference<CaseOutcome> firstFailure = new AtomicReference<>();
+
+        List<ForkJoinTask<CaseOutcome>> tasks = new ArrayList<>(testCases.size());
+        for (int i = 0; i < testCases.size(); i++) {
+            int caseNumber = i + 1;
+            TestCase testCase = testCases.get(i);
+            tasks.add(casePool.submit(() -> {
+                if (stop.get()) {
+                    return null; // 다른 케이스가 이미 실패함
+                }
+                CaseOutcome outcome = runCase(compiled, testCase, caseNumber, stop::get);
+                if (!outcome.passed && !outcome.execution.isCancelled() && firstFailure.compareAndSet(null, outcome)) {
+                    stop.set(true);
+                }
+                return outcome;
+            }));
+        }
+
+        int passedCases = 0;
+        long slowestMillis = 0;
+        CaseOutcome firstCase = null;
+        for (ForkJoinTask<CaseOutcome> task : tasks) {
+            CaseOutcome outcome;
+            try {
+                outcome = task.join();
+            } catch (CancellationException e) {
+                outcome = null;
+            }
+            if (outcome == null) {
+                continue;
+            }
+            if (outcome.passed) {
+                passedCases++;
+            }
+            if (firstCase == null) {
+                firstCase = outcome;
+            }
+            slowestMillis = Math.max(slowestMillis, outcome.execution.getElapsedMillis());
+        }
+
+        CaseOutcome failure = firstFailure.get();
+        if (failure == null && firstCase == null) {
+            return toResult(Verdict.SYSTEM_ERROR, "테스트 케이스 실행이 중단되었습니다.", null, 0);
+        }
+        GradingResultDTO result = toResult(failure != null ? failure : firstCase, passedCases, testCases.size());
+        result.setElapsedMillis(slowestMillis);
+        return result;
+    }
+
+    private CaseOutcome runCase(CompiledSubmission compiled, TestCase testCase, int caseNumber, BooleanSupplier cancelled) {
+        ExecutionResult execution;
+        try (InputStream input = testCase.openInput()) {
+            execution = executor.execute(compiled, input, GradingLimits.DEFAULT, cancelled);
+        } catch (IOException e) {
+            execution = ExecutionResult.failed(Verdict.SYSTEM_ERROR, "", "테스트 케이스 입력을 읽을 수 없습니다: " + e.getMessage(), 0);
+        }
+        boolean passed = execution.isCompleted()
+                && normalize(execution.getOutput()).equals(normalize(testCase.getExpectedOutput()));
+        return new CaseOutcome(caseNumber, execution, passed);
+    }
+
+    private GradingResultDTO toResult(CaseOutcome outcome, int passedCases, int totalCases) {
+        ExecutionResult execution = outcome.execution;
+        GradingResultDTO result;
+        if (!execution.isCompleted()) {
+            result = toResult(execution.getFailureVerdict(), execution.getErrorMessage(),
+                    execution.getOutput(), execution.getElapsedMillis());
+        } else {
+            result = toResult(outcome.passed ? Verdict.ACCEPTED : Verdict.WRONG_ANSWER, null,
+                    execution.getOutput(), execution.getElapsedMillis());
+        }
+        if (!outcome.passed && totalCases > 1) {
+            String caseDetail = "테스트 케이스 " + outcome.caseNumber + "/" + totalCases + " 실패";
+            result.setDetail(result.getDetail() != null ? caseDetail + ": " + result.getDetail() : caseDetail);
+        }
+        result.setPassedCases(passedCases);
+        result.setTotalCases(totalCases);
+        result.setFailedCase(outcome.passed ? 0 : outcome.caseNumber);
+        return result;
+    }
+
+    /**
+     * 출력 비교용 정규화: 줄바꿈 통일, 줄 끝 공백 제거, 마지막 빈 줄 제거
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String[] lines = text.replace("\r\n", "\n").replace('\r', '\n').split("\n", -1);
+        StringBuilder normalized = new StringBuilder();
+        for (String line : lines) {
+            normalized.append(line.stripTrailing()).append('\n');
+        }
+        int end = normalized.length();
+        while (end > 0 && normalized.charAt(end - 1) == '\n') {
+            end--;
+        }
+        return normalized.substring(0, end);
+    }
+
+    private GradingResultDTO toResult(Verdict verdict, String detail, String output, long elapsedMillis) {
+        GradingResultDTO result = new GradingResultDTO();
+        result.setVerdict(verdict.name());
+        result.setPass(verdict == Verdict.ACCEPTED);
+        result.setMessage(verdict.getMessage());
+        result.setDetail(detail);
+        if (output != null && output.length() > MAX_OUTPUT_PREVIEW) {
+            output = output.substring(0, MAX_OUTPUT_PREVIEW);
+        }
+        result.setOutput(output);
+        result.setElapsedMillis(elapsedMillis);
+        return result;
+    }
+
+    /**
+     * 테스트 케이스 1개의 실행 결과
+     */
+    private static final class CaseOutcome {
+
+        private final int caseNumber;
+        private final ExecutionResult execution;
+        private final boolean passed;
+
+        CaseOutcome(int caseNumber, ExecutionResult execution, boolean passed) {
+            this.caseNumber = caseNumber;
+            this.execution = execution;
+            this.passed = passed;
+        }
+    }
+}
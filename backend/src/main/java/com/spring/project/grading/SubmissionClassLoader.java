@@ -0,0 +1,94 @@
+package com.spring.project.grading;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 🎯 제출 코드 전용 클래스 로더
+ * 제출된 클래스만 직접 정의하고, JDK 클래스는 허용 목록에 있는 패키지만 부모(플랫폼 로더)에게 위임합니다.
+ * 파일/네트워크/프로세스/리플렉션 계열 클래스는 링크 시점에 차단됩니다.
+ */
+public class SubmissionClassLoader extends ClassLoader {
+
+    private static final Set<String> ALLOWED_PACKAGE_PREFIXES = Set.of(
+            "java.lang.", "java.util.", "java.math.", "java.text.", "java.time.", "java.io.", "java.nio.");
+
+    private static final Set<String> DENIED_PACKAGE_PREFIXES = Set.of(
+            "java.lang.reflect.", "java.lang.invoke.", "java.lang.management.", "java.lang.instrument.",
+            "java.lang.module.", "java.lang.ref.", "java.nio.file.", "java.nio.channels.",
+            "java.util.concurrent.", "java.util.jar.", "java.util.zip.", "java.util.logging.", "java.util.prefs.");
+
+    private static final Set<String> DENIED_CLASSES = Set.of(
+            "java.lang.Runtime", "java.lang.ProcessBuilder", "java.lang.Process", "java.lang.ProcessHandle",
+            "java.lang.Thread", "java.lang.ThreadGroup", "java.lang.ClassLoader", "java.lang.Module",
+            "java.lang.ModuleLayer", "java.lang.SecurityManager", "java.lang.StackWalker",
+            "java.io.File", "java.io.FileInputStream", "java.io.FileOutputStream", "java.io.FileReader",
+            "java.io.FileWriter", "java.io.RandomAccessFile", "java.io.FileDescriptor", "java.io.ObjectInputStream",
+            "java.io.ObjectOutputStream", "java.io.Console", "java.util.ServiceLoader", "java.util.Timer", "java.util.TimerTask");
+
+    /**
+     * invokedynamic(람다, 문자열 연결) 부트스트랩에 필요한 클래스와 허용하는 동시성 유틸리티
+     * MethodHandles / MethodHandle / Lookup 은 링크에 필요 없으므로 허용하지 않습니다 (record 는 java.lang.runtime.ObjectMethods).
+     * 부트스트랩 클래스를 제출 코드가 직접 참조하는 것은 InMemoryJavaCompiler 가 소스 단계에서 막습니다.
+     */
+    private static final Set<String> BOOTSTRAP_CLASSES = Set.of(
+            "java.lang.invoke.LambdaMetafactory", "java.lang.invoke.StringConcatFactory",
+            "java.util.concurrent.atomic.AtomicInteger", "java.util.concurrent.atomic.AtomicLong",
+            "java.util.concurrent.ConcurrentHashMap");
+
+    private final Map<String, byte[]> classBytes;
+
+    public SubmissionClassLoader(Map<String, byte[]> classBytes) {
+        super("submission", ClassLoader.getPlatformClassLoader());
+        this.classBytes = classBytes;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> loaded = findLoadedClass(name);
+            if (loaded == null) {
+                if (classBytes.containsKey(name)) {
+                    loaded = findClass(name);
+                } else if (isAllowed(name)) {
+                    loaded = getParent().loadClass(name);
+                } else {
+                    throw new ClassNotFoundException(name + " 클래스는 채점 환경에서 사용할 수 없습니다.");
+                }
+            }
+            if (resolve) {
+                resolveClass(loaded);
+            }
+            return loaded;
+        }
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        byte[] bytes = classBytes.get(name);
+        if (bytes == null) {
+            throw new ClassNotFoundException(name);
+        }
+        return defineClass(name, bytes, 0, bytes.length);
+    }
+
+    private boolean isAllowed(String name) {
+        if (BOOTSTRAP_CLASSES.contains(name) || name.startsWith("java.lang.runtime.")) {
+            return true;
+        }
+        if (DENIED_CLASSES.contains(name)) {
+            return false;
+        }
+        for (String prefix : DENIED_PACKAGE_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return false;
+            }
+        }
+        for (String prefix : ALLOWED_PACKAGE_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
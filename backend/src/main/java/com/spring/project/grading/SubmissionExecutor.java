@@ -0,0 +1,32 @@
+package com.spring.project.grading;
+
+import java.io.InputStream;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 컴파일된 제출 코드를 제한 조건 안에서 실행하는 실행기
+ */
+public interface SubmissionExecutor {
+
+    /**
+     * 제출 코드의 main 메서드를 실행합니다
+     * @param compiled 컴파일된 제출 코드
+     * @param input 표준 입력으로 제공할 데이터
+     * @param limits 시간/메모리/출력 제한
+     * @param cancelled true 를 반환하면 실행을 중단하고 ExecutionResult.cancelled 를 반환
+     * @return 실행 결과
+     */
+    ExecutionResult execute(CompiledSubmission compiled, InputStream input, GradingLimits limits, BooleanSupplier cancelled);
+
+    /**
+     * 중단 요청 없이 제출 코드의 main 메서드를 실행합니다
+     */
+    default ExecutionResult execute(CompiledSubmission compiled, InputStream input, GradingLimits limits) {
+        return execute(compiled, input, limits, () -> false);
+    }
+
+    /**
+     * 실행기가 가진 자원(워커 프로세스 등)을 정리합니다
+     */
+    default void close() {}
+}
@@ -0,0 +1,279 @@
+package com.spring.project.grading;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.util.Locale;
+
+/**
+ * 🎯 스레드별 표준 입출력 라우팅
+ * System.in/out/err 를 한 번만 교체해 두고, 채점 스레드에 바인딩된 입력/출력 버퍼가 있으면 그쪽으로,
+ * 없으면 원래 스트림으로 전달합니다. 여러 제출이 한 JVM 안에서 동시에 실행되어도 출력이 섞이지 않습니다.
+ * ⚠️ PrintStream 은 문자 인코딩 버퍼를 내부에 두므로, 바이트 단계가 아니라 PrintStream 단계에서 라우팅합니다.
+ * (공유 PrintStream 하나를 쓰면 println 도중 강제 종료된 제출의 버퍼가 다음 제출의 출력으로 흘러 들어감)
+ */
+final class SubmissionStreams {
+
+    private static final InheritableThreadLocal<InputStream> BOUND_INPUT = new InheritableThreadLocal<>();
+    private static final InheritableThreadLocal<PrintStream> BOUND_OUTPUT = new InheritableThreadLocal<>();
+
+    /** 바인딩된 스레드의 stderr (채점 대상이 아니므로 버림) */
+    private static final PrintStream DISCARD = new PrintStream(OutputStream.nullOutputStream());
+
+    private static boolean installed = false;
+    private static final Charset CHARSET = Charset.defaultCharset();
+
+    private SubmissionStreams() {}
+
+    /**
+     * System.in/out/err 를 라우팅 스트림으로 교체합니다 (최초 1회)
+     */
+    static synchronized void install() {
+        if (installed) {
+            return;
+        }
+        PrintStream originalOut = System.out;
+        PrintStream originalErr = System.err;
+        InputStream originalIn = System.in;
+
+        System.setOut(new RoutingPrintStream(originalOut, true));
+        System.setErr(new RoutingPrintStream(originalErr, false));
+        System.setIn(new RoutingInputStream(originalIn));
+        installed = true;
+    }
+
+    /**
+     * 현재 스레드(및 자식 스레드)의 표준 입출력을 채점용 버퍼에 연결합니다
+     * 출력은 이 실행 전용 PrintStream 으로 감싸므로 인코딩 버퍼도 다른 실행과 공유하지 않습니다.
+     */
+    static void bind(InputStream input, OutputStream output) {
+        BOUND_INPUT.set(input != null ? input : new ByteArrayInputStream(new byte[0]));
+        BOUND_OUTPUT.set(new PrintStream(output, true, CHARSET));
+    }
+
+    static void unbind() {
+        BOUND_INPUT.remove();
+        BOUND_OUTPUT.remove();
+    }
+
+    /**
+     * 바인딩된 실행 전용 PrintStream 이 있으면 그쪽으로, 없으면 원래 스트림으로 모든 호출을 넘기는 PrintStream
+     * stderr 는 채점 대상이 아니므로 바인딩된 스레드에서는 버린다.
+     */
+    private static final class RoutingPrintStream extends PrintStream {
+
+        private final PrintStream original;
+        private final boolean captureBound;
+
+        RoutingPrintStream(PrintStream original, boolean captureBound) {
+            super(original, true);
+            this.original = original;
+            this.captureBound = captureBound;
+        }
+
+        private PrintStream target() {
+            PrintStream bound = BOUND_OUTPUT.get();
+            if (bound == null) {
+                return original;
+            }
+            return captureBound ? bound : DISCARD;
+        }
+
+        @Override
+        public void write(int b) {
+            target().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            target().write(b, off, len);
+        }
+
+        @Override
+        public void flush() {
+            target().flush();
+        }
+
+        @Override
+        public void close() {
+            target().flush(); // 공용 표준 스트림은 닫지 않음
+        }
+
+        @Override
+        public boolean checkError() {
+            return target().checkError();
+        }
+
+        @Override
+        public void print(boolean b) {
+            target().print(b);
+        }
+
+        @Override
+        public void print(char c) {
+            target().print(c);
+        }
+
+        @Override
+        public void print(int i) {
+            target().print(i);
+        }
+
+        @Override
+        public void print(long l) {
+            target().print(l);
+        }
+
+        @Override
+        public void print(float f) {
+            target().print(f);
+        }
+
+        @Override
+        public void print(double d) {
+            target().print(d);
+        }
+
+        @Override
+        public void print(char[] s) {
+            target().print(s);
+        }
+
+        @Override
+        public void print(String s) {
+            target().print(s);
+        }
+
+        @Override
+        public void print(Object obj) {
+            target().print(obj);
+        }
+
+        @Override
+        public void println() {
+            target().println();
+        }
+
+        @Override
+        public void println(boolean x) {
+            target().println(x);
+        }
+
+        @Override
+        public void println(char x) {
+            target().println(x);
+        }
+
+        @Override
+        public void println(int x) {
+            target().println(x);
+        }
+
+        @Override
+        public void println(long x) {
+            target().println(x);
+        }
+
+        @Override
+        public void println(float x) {
+            target().println(x);
+        }
+
+        @Override
+        public void println(double x) {
+            target().println(x);
+        }
+
+        @Override
+        public void println(char[] x) {
+            target().println(x);
+        }
+
+        @Override
+        public void println(String x) {
+            target().println(x);
+        }
+
+        @Override
+        public void println(Object x) {
+            target().println(x);
+        }
+
+        @Override
+        public PrintStream printf(String format, Object... args) {
+            target().printf(format, args);
+            return this;
+        }
+
+        @Override
+        public PrintStream printf(Locale l, String format, Object... args) {
+            target().printf(l, format, args);
+            return this;
+        }
+
+        @Override
+        public PrintStream format(String format, Object... args) {
+            target().format(format, args);
+            return this;
+        }
+
+        @Override
+        public PrintStream format(Locale l, String format, Object... args) {
+            target().format(l, format, args);
+            return this;
+        }
+
+        @Override
+        public PrintStream append(CharSequence csq) {
+            target().append(csq);
+            return this;
+        }
+
+        @Override
+        public PrintStream append(CharSequence csq, int start, int end) {
+            target().append(csq, start, end);
+            return this;
+        }
+
+        @Override
+        public PrintStream append(char c) {
+            target().append(c);
+            return this;
+        }
+    }
+
+    /**
+     * 바인딩된 입력이 있으면 그쪽에서, 없으면 원래 스트림에서 읽는 InputStream
+     */
+    private static final class RoutingInputStream extends InputStream {
+
+        private final InputStream original;
+
+        RoutingInputStream(InputStream original) {
+            this.original = original;
+        }
+
+        private InputStream source() {
+            InputStream bound = BOUND_INPUT.get();
+            return bound != null ? bound : original;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return source().read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return source().read(b, off, len);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return source().available();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.spring.project.grading;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+/**
+ * 채점 테스트 케이스 1개 (표준 입력 + 기대 출력)
+ * 메모리에 있는 케이스와, TestCaseStore 가 매핑한 파일의 압축 블록을 가리키는 케이스가 있습니다.
+ * 후자는 입력을 힙에 복사하지 않고 매핑 영역에서 바로 풀어 읽습니다.
+ */
+public final class TestCase {
+
+    private final byte[] input;
+    private final String expectedOutput;
+    private final CompressedBlob inputBlob;
+    private final CompressedBlob outputBlob;
+
+    public TestCase(byte[] input, String expectedOutput) {
+        this.input = input != null ? input : new byte[0];
+        this.expectedOutput = expectedOutput != null ? expectedOutput : "";
+        this.inputBlob = null;
+        this.outputBlob = null;
+    }
+
+    /** 테스트 케이스 파일에 저장된 케이스 */
+    TestCase(CompressedBlob inputBlob, CompressedBlob outputBlob) {
+        this.input = null;
+        this.expectedOutput = null;
+        this.inputBlob = inputBlob;
+        this.outputBlob = outputBlob;
+    }
+
+    /** 입력 없이 기대 출력만 있는 케이스 (Challenges.correct) */
+    public static TestCase outputOnly(String expectedOutput) {
+        return new TestCase(new byte[0], expectedOutput);
+    }
+
+    /** 표준 입력 스트림을 엽니다 (호출한 쪽에서 닫아야 합니다) */
+    public InputStream openInput() {
+        return input != null ? new ByteArrayInputStream(input) : inputBlob.open();
+    }
+
+    /** 압축 해제된 입력 크기 (바이트) */
+    public long getInputSize() {
+        return input != null ? input.length : inputBlob.getRawLength();
+    }
+
+    public String getExpectedOutput() {
+        return expectedOutput != null ? expectedOutput : outputBlob.readText();
+    }
+}
@@ -0,0 +1,78 @@
+package com.spring.project.grading;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 챌린지 1개의 테스트 케이스 묶음과 그 지문(SHA-256)
+ * 지문은 케이스의 입력이나 기대 출력이 하나라도 바뀌면 달라지므로 캐시된 판정의 유효성 확인에 사용합니다.
+ * 파일에서 읽은 묶음은 저장할 때 계산해 둔 지문을 그대로 사용하여 큰 입력을 다시 읽지 않습니다.
+ */
+public final class TestCaseSet {
+
+    private final List<TestCase> cases;
+    private final String fingerprint;
+
+    TestCaseSet(List<TestCase> cases, String fingerprint) {
+        this.cases = Collections.unmodifiableList(cases);
+        this.fingerprint = fingerprint;
+    }
+
+    /** 메모리에 있는 케이스로 묶음을 만들고 지문을 계산합니다 */
+    public static TestCaseSet of(List<TestCase> cases) {
+        return new TestCaseSet(cases, fingerprint(cases));
+    }
+
+    public List<TestCase> getCases() {
+        return cases;
+    }
+
+    public int size() {
+        return cases.size();
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    static String fingerprint(List<TestCase> cases) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            for (TestCase testCase : cases) {
+                updateLength(digest, testCase.getInputSize());
+                try (InputStream input = testCase.openInput()) {
+                    int n;
+                    while ((n = input.read(buffer)) > 0) {
+                        digest.update(buffer, 0, n);
+                    }
+                }
+                byte[] expected = testCase.getExpectedOutput().getBytes(StandardCharsets.UTF_8);
+                updateLength(digest, expected.length);
+                digest.update(expected);
+            }
+            byte[] hash = digest.digest();
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void updateLength(MessageDigest digest, long length) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            digest.update((byte) (length >>> shift));
+        }
+    }
+}
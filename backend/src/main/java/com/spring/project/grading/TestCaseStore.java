@@ -0,0 +1,347 @@
+package com.spring.project.grading;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🎯 챌린지별 테스트 케이스 저장소
+ * 챌린지 1개의 입력/기대 출력 쌍을 deflate 로 압축해 로컬 디스크의 파일 1개(challenge-{id}.{version}.tcs)에 저장하고,
+ * 읽을 때는 파일 전체를 메모리 매핑하여 채점기가 입력을 힙에 복사하지 않고 매핑 영역에서 바로 풀어 읽게 합니다.
+ * 자주 쓰는 묶음은 매핑을 유지하며(LRU, 개수/총 바이트 제한), 제거된 매핑은 GC 시점에 해제됩니다.
+ *
+ * 파일 형식 (big-endian):
+ *   int MAGIC, int 케이스 수, UTF 지문(SHA-256 hex),
+ *   케이스마다 [int 입력 위치, int 입력 압축 길이, int 입력 원본 길이, int 출력 위치, int 출력 압축 길이, int 출력 원본 길이],
+ *   이후 압축 블록들
+ *
+ * 저장할 때마다 새 버전 파일을 만들고 이전 버전은 지웁니다. 매핑 중인 파일은 교체할 수 없는 OS(Windows)에서는
+ * 이전 버전 삭제가 실패할 수 있으며, 다음 저장이나 삭제 때 다시 정리합니다.
+ */
+@Component
+public class TestCaseStore implements InitializingBean {
+
+    /** 파일 식별자 ("TCS1") */
+    private static final int MAGIC = 0x54435331;
+
+    private static final String FILE_SUFFIX = ".tcs";
+
+    private static final int MAX_MAPPED_SETS = 128;
+
+    private static final long MAX_MAPPED_BYTES = 1024L * 1024 * 1024;
+
+    /** 케이스 1개의 색인 크기 (int 6개) */
+    private static final int INDEX_ENTRY_BYTES = 24;
+
+    /** 저장 디렉토리 (비어 있으면 ${user.home}/forallfor/testcases) */
+    @Value("${grading.testcase.dir:}")
+    private String directory;
+
+    private Path baseDir;
+
+    private final LinkedHashMap<Integer, MappedSet> mappedSets = new LinkedHashMap<>(64, 0.75f, true);
+    private long mappedBytes = 0;
+    private long hits = 0;
+    private long loads = 0;
+    private long evictions = 0;
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        baseDir = directory == null || directory.trim().isEmpty()
+                ? Paths.get(System.getProperty("user.home"), "forallfor", "testcases")
+                : Paths.get(directory.trim());
+        Files.createDirectories(baseDir);
+        System.out.println("🎯 테스트 케이스 저장소: " + baseDir.toAbsolutePath());
+    }
+
+    /**
+     * 챌린지의 테스트 케이스를 불러옵니다
+     * 이미 매핑된 묶음이면 그대로 반환하고, 아니면 최신 버전 파일을 매핑합니다.
+     * @return 테스트 케이스 묶음 (저장된 케이스가 없으면 null)
+     */
+    public synchronized TestCaseSet load(int challengeId) throws IOException {
+        MappedSet mapped = mappedSets.get(challengeId);
+        if (mapped != null) {
+            hits++;
+            return mapped.testCases;
+        }
+
+        Path latest = null;
+        long latestVersion = -1;
+        for (Path file : listVersions(challengeId)) {
+            long version = versionOf(file);
+            if (version > latestVersion) {
+                latest = file;
+                latestVersion = version;
+            }
+        }
+        if (latest == null) {
+            return null;
+        }
+
+        mapped = map(latest);
+        loads++;
+        putMapped(challengeId, mapped);
+        return mapped.testCases;
+    }
+
+    /**
+     * 챌린지의 테스트 케이스를 새 버전으로 저장합니다 (기존 케이스는 모두 대체)
+     * 🔥 압축과 임시 파일 쓰기는 락 밖에서 하고, 락 안에서는 파일 교체(ATOMIC_MOVE)와 매핑 무효화만 하므로
+     * 큰 케이스를 저장하는 동안에도 다른 챌린지의 load 가 막히지 않습니다.
+     * @return 저장된 묶음의 지문
+     */
+    public String save(int challengeId, List<TestCase> cases) throws IOException {
+        if (cases.isEmpty()) {
+            throw new IllegalArgumentException("테스트 케이스가 1개 이상 필요합니다.");
+        }
+        String fingerprint = TestCaseSet.fingerprint(cases);
+
+        List<byte[]> blocks = new ArrayList<>(cases.size() * 2);
+        int[][] index = new int[cases.size()][6];
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream headerOut = new DataOutputStream(header);
+        headerOut.writeInt(MAGIC);
+        headerOut.writeInt(cases.size());
+        headerOut.writeUTF(fingerprint);
+        long position = header.size() + (long) cases.size() * INDEX_ENTRY_BYTES;
+
+        for (int i = 0; i < cases.size(); i++) {
+            TestCase testCase = cases.get(i);
+            byte[] input = compress(testCase.openInput());
+            byte[] expected = testCase.getExpectedOutput().getBytes(StandardCharsets.UTF_8);
+            byte[] output = compress(new ByteArrayInputStream(expected));
+
+            index[i][0] = toFileOffset(position);
+            index[i][1] = input.length;
+            index[i][2] = Math.toIntExact(testCase.getInputSize());
+            position += input.length;
+            index[i][3] = toFileOffset(position);
+            index[i][4] = output.length;
+            index[i][5] = expected.length;
+            position += output.length;
+
+            blocks.add(input);
+            blocks.add(output);
+        }
+        toFileOffset(position);
+        for (int[] entry : index) {
+            for (int value : entry) {
+                headerOut.writeInt(value);
+            }
+        }
+        headerOut.flush();
+
+        // 동시에 같은 챌린지를 저장해도 겹치지 않는 임시 파일 (*.tmp 는 버전 목록에 잡히지 않음)
+        Path temp = Files.createTempFile(baseDir, "challenge-" + challengeId + ".", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                header.writeTo(out);
+                for (byte[] block : blocks) {
+                    out.write(block);
+                }
+            }
+            synchronized (this) {
+                Path target = baseDir.resolve("challenge-" + challengeId + "." + nextVersion(challengeId) + FILE_SUFFIX);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                removeMapped(challengeId);
+                deleteVersionsExcept(challengeId, target);
+            }
+        } finally {
+            Files.deleteIfExists(temp); // 교체에 실패했을 때만 남아 있음
+        }
+        System.out.println("🎯 테스트 케이스 저장 - challengeId: " + challengeId + ", " + cases.size() + "개, " + position + " bytes");
+        return fingerprint;
+    }
+
+    /**
+     * 챌린지의 테스트 케이스 파일을 모두 삭제합니다 (챌린지 삭제 시)
+     */
+    public synchronized void delete(int challengeId) {
+        removeMapped(challengeId);
+        deleteVersionsExcept(challengeId, null);
+    }
+
+    public synchronized Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("mappedSets", mappedSets.size());
+        statistics.put("mappedBytes", mappedBytes);
+        statistics.put("hits", hits);
+        statistics.put("loads", loads);
+        statistics.put("evictions", evictions);
+        return statistics;
+    }
+
+    private MappedSet map(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("테스트 케이스 파일이 너무 큽니다: " + file);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            ByteBuffer header = buffer.duplicate();
+            if (header.getInt() != MAGIC) {
+                throw new IOException("테스트 케이스 파일 형식이 아닙니다: " + file);
+            }
+            int count = header.getInt();
+            byte[] fingerprint = new byte[header.getShort() & 0xFFFF];
+            header.get(fingerprint);
+            if (count < 0 || (long) count * INDEX_ENTRY_BYTES > header.remaining()) {
+                throw new IOException("손상된 테스트 케이스 파일입니다: " + file);
+            }
+
+            List<TestCase> cases = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                CompressedBlob input = blob(buffer, header.getInt(), header.getInt(), header.getInt());
+                CompressedBlob output = blob(buffer, header.getInt(), header.getInt(), header.getInt());
+                cases.add(new TestCase(input, output));
+            }
+            TestCaseSet testCases = new TestCaseSet(cases, new String(fingerprint, StandardCharsets.UTF_8));
+            return new MappedSet(testCases, buffer.capacity());
+        } catch (IndexOutOfBoundsException | BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("손상된 테스트 케이스 파일입니다: " + file, e);
+        }
+    }
+
+    private static CompressedBlob blob(MappedByteBuffer buffer, int offset, int compressedLength, int rawLength) {
+        if (offset < 0 || compressedLength < 0 || rawLength < 0 || offset > buffer.capacity() - compressedLength) {
+            throw new IllegalArgumentException("블록 범위 오류");
+        }
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(offset).limit(offset + compressedLength);
+        return new CompressedBlob(slice.slice(), rawLength);
+    }
+
+    private void putMapped(int challengeId, MappedSet mapped) {
+        MappedSet previous = mappedSets.put(challengeId, mapped);
+        if (previous != null) {
+            mappedBytes -= previous.bytes;
+        }
+        mappedBytes += mapped.bytes;
+
+        Iterator<MappedSet> eldest = mappedSets.values().iterator();
+        while ((mappedSets.size() > MAX_MAPPED_SETS || mappedBytes > MAX_MAPPED_BYTES) && mappedSets.size() > 1) {
+            MappedSet evicted = eldest.next();
+            eldest.remove();
+            mappedBytes -= evicted.bytes;
+            evictions++;
+        }
+    }
+
+    private void removeMapped(int challengeId) {
+        MappedSet removed = mappedSets.remove(challengeId);
+        if (removed != null) {
+            mappedBytes -= removed.bytes;
+        }
+    }
+
+    private List<Path> listVersions(int challengeId) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(baseDir, "challenge-" + challengeId + ".*" + FILE_SUFFIX)) {
+            for (Path file : stream) {
+                if (versionOf(file) >= 0) {
+                    files.add(file);
+                }
+            }
+        }
+        return files;
+    }
+
+    private void deleteVersionsExcept(int challengeId, Path keep) {
+        try {
+            for (Path file : listVersions(challengeId)) {
+                if (!file.equals(keep)) {
+                    try {
+                        Files.deleteIfExists(file);
+                    } catch (IOException e) {
+                        System.out.println("⚠️ 이전 테스트 케이스 파일 삭제 실패 (다음 정리 때 재시도): " + file);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("테스트 케이스 파일 정리 오류: " + e.getMessage());
+        }
+    }
+
+    /** 현재 시각 기준 새 버전 (같은 밀리초에 저장이 겹쳐도 기존 최신 버전보다 항상 큼) */
+    private long nextVersion(int challengeId) throws IOException {
+        long version = System.currentTimeMillis();
+        for (Path file : listVersions(challengeId)) {
+            version = Math.max(version, versionOf(file) + 1);
+        }
+        return version;
+    }
+
+    /** challenge-{id}.{version}.tcs 의 version (형식이 다르면 -1) */
+    private static long versionOf(Path file) {
+        String name = file.getFileName().toString();
+        int start = name.indexOf('.') + 1;
+        int end = name.length() - FILE_SUFFIX.length();
+        if (start <= 0 || end <= start) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(start, end));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static byte[] compress(InputStream input) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (InputStream in = input; DeflaterOutputStream out = new DeflaterOutputStream(compressed, deflater)) {
+            in.transferTo(out);
+        } finally {
+            deflater.end();
+        }
+        return compressed.toByteArray();
+    }
+
+    private static int toFileOffset(long position) throws IOException {
+        if (position > Integer.MAX_VALUE) {
+            throw new IOException("테스트 케이스 전체 크기가 2GB를 넘습니다.");
+        }
+        return (int) position;
+    }
+
+    private static final class MappedSet {
+
+        private final TestCaseSet testCases;
+        private final long bytes;
+
+        MappedSet(TestCaseSet testCases, long bytes) {
+            this.testCases = testCases;
+            this.bytes = bytes;
+        }
+    }
+}
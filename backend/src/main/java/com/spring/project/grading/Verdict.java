@@ -0,0 +1,49 @@
+package com.spring.project.grading;
+
+/**
+ * 채점 결과 판정
+ */
+public enum Verdict {
+
+    ACCEPTED("정답입니다."),
+    WRONG_ANSWER("출력 결과가 정답과 다릅니다."),
+    COMPILE_ERROR("컴파일 에러가 발생했습니다."),
+    RUNTIME_ERROR("실행 중 에러가 발생했습니다."),
+    TIME_LIMIT_EXCEEDED("시간 제한을 초과했습니다."),
+    MEMORY_LIMIT_EXCEEDED("메모리 제한을 초과했습니다."),
+    OUTPUT_LIMIT_EXCEEDED("출력 제한을 초과했습니다."),
+    REJECTED("허용되지 않는 API를 사용했습니다."),
+    UNSUPPORTED_LANGUAGE("자동 채점을 지원하지 않는 언어입니다."),
+    SYSTEM_ERROR("채점 서버 오류가 발생했습니다.");
+
+    private final String message;
+
+    Verdict(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Challenge_sub 에 기록할 판정인지 여부 (채점 서버 사정으로 끝난 제출은 기록하지 않음)
+     */
+    public boolean isRecordable() {
+        return this != SYSTEM_ERROR && this != UNSUPPORTED_LANGUAGE;
+    }
+
+    /**
+     * 시간/메모리/출력 제한 초과 판정인지 여부 (실행 환경을 오염시켰을 수 있음)
+     */
+    public boolean isLimitBreach() {
+        return this == TIME_LIMIT_EXCEEDED || this == MEMORY_LIMIT_EXCEEDED || this == OUTPUT_LIMIT_EXCEEDED;
+    }
+
+    /**
+     * 같은 코드를 다시 채점해도 같은 결과가 나오는 판정인지 여부 (시간 초과는 서버 부하에 따라 달라짐)
+     */
+    public boolean isCacheable() {
+        return this != TIME_LIMIT_EXCEEDED && this != SYSTEM_ERROR && this != UNSUPPORTED_LANGUAGE;
+    }
+}
@@ -0,0 +1,258 @@
+package com.spring.project.grading;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 채점 워커 프로세스와 주고받는 파이프 메시지 형식
+ * 요청: 메인 클래스, 클래스 바이트코드 목록, 제한 조건, 표준 입력(조각 단위 스트리밍, 길이 0 조각으로 끝)
+ * 응답: 판정(정상 종료면 빈 문자열), 출력, 에러 메시지, 실행 시간
+ */
+final class WorkerProtocol {
+
+    /** 워커 기동 완료 신호 ("GRD1") */
+    static final int READY = 0x47524431;
+
+    /** 표준 입력을 보내는 조각 크기 */
+    private static final int INPUT_CHUNK_BYTES = 64 * 1024;
+
+    /** 워커가 제출 코드보다 먼저 읽어 둘 수 있는 입력 조각 수 (워커 힙에 올라가는 입력 상한) */
+    private static final int BUFFERED_INPUT_CHUNKS = 4;
+
+    /** 한 메시지 안의 바이트 배열 최대 크기 (손상된 스트림 방어) */
+    private static final int MAX_BLOCK_BYTES = 64 * 1024 * 1024;
+
+    private WorkerProtocol() {}
+
+    /** 워커가 읽어 들인 채점 요청 */
+    static final class Job {
+
+        final CompiledSubmission compiled;
+        final StreamedInput input;
+        final GradingLimits limits;
+
+        Job(CompiledSubmission compiled, StreamedInput input, GradingLimits limits) {
+            this.compiled = compiled;
+            this.input = input;
+            this.limits = limits;
+        }
+    }
+
+    /**
+     * 채점 요청을 보냅니다
+     * 입력은 통째로 읽지 않고 조각 단위로 파이프에 흘려 보내므로, 큰 입력도 부모 JVM 힙에 올라가지 않습니다.
+     * (워커도 StreamedInput 으로 조각 몇 개만 들고 제출 코드에 넘기므로 워커 힙에도 통째로 올라가지 않음)
+     */
+    static void writeJob(DataOutputStream out, CompiledSubmission compiled, InputStream input, GradingLimits limits) throws IOException {
+        out.writeUTF(compiled.getMainClassName());
+        out.writeInt(compiled.getClassBytes().size());
+        for (Map.Entry<String, byte[]> classFile : compiled.getClassBytes().entrySet()) {
+            out.writeUTF(classFile.getKey());
+            writeBlock(out, classFile.getValue());
+        }
+        out.writeLong(limits.getTimeLimitMillis());
+        out.writeLong(limits.getMemoryLimitBytes());
+        out.writeInt(limits.getOutputLimitBytes());
+        if (input != null) {
+            byte[] chunk = new byte[INPUT_CHUNK_BYTES];
+            int n;
+            while ((n = input.read(chunk)) > 0) {
+                out.writeInt(n);
+                out.write(chunk, 0, n);
+            }
+        }
+        out.writeInt(0);
+        out.flush();
+    }
+
+    /**
+     * 채점 요청의 헤더(클래스, 제한 조건)를 읽습니다
+     * 표준 입력은 반환된 Job 의 input 이 실행 중에 파이프에서 이어 읽으므로, 결과를 보내기 전에 반드시 finish() 해야 합니다.
+     */
+    static Job readJob(DataInputStream in) throws IOException {
+        String mainClassName = in.readUTF();
+        int classCount = in.readInt();
+        Map<String, byte[]> classBytes = new HashMap<>();
+        for (int i = 0; i < classCount; i++) {
+            String className = in.readUTF();
+            classBytes.put(className, readBlock(in));
+        }
+        GradingLimits limits = new GradingLimits(in.readLong(), in.readLong(), in.readInt());
+        return new Job(new CompiledSubmission(mainClassName, classBytes), new StreamedInput(in), limits);
+    }
+
+    static void writeResult(DataOutputStream out, ExecutionResult result) throws IOException {
+        out.writeUTF(result.isCompleted() ? "" : result.getFailureVerdict().name());
+        writeText(out, result.getOutput());
+        writeText(out, result.getErrorMessage());
+        out.writeLong(result.getElapsedMillis());
+        out.flush();
+    }
+
+    static ExecutionResult readResult(DataInputStream in) throws IOException {
+        String verdict = in.readUTF();
+        String output = readText(in);
+        String errorMessage = readText(in);
+        long elapsedMillis = in.readLong();
+        if (verdict.isEmpty()) {
+            return ExecutionResult.completed(output, elapsedMillis);
+        }
+        return ExecutionResult.failed(Verdict.valueOf(verdict), output, errorMessage, elapsedMillis);
+    }
+
+    private static void writeText(DataOutputStream out, String text) throws IOException {
+        if (text == null) {
+            out.writeInt(-1);
+            return;
+        }
+        writeBlock(out, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readText(DataInputStream in) throws IOException {
+        byte[] bytes = readBlock(in);
+        return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : null;
+    }
+
+    private static void writeBlock(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBlock(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > MAX_BLOCK_BYTES) {
+            throw new IOException("채점 워커 메시지가 너무 큽니다: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * 🔥 파이프로 들어오는 입력 조각을 제출 코드에 그대로 흘려 주는 InputStream
+     * 파이프는 전용 스레드만 읽고 제출 코드는 크기가 제한된 큐에서 꺼내 읽으므로,
+     * 시간 초과로 실행 스레드가 강제 종료되어도 메시지 경계가 깨지지 않고 입력 전체가 힙에 올라가지 않습니다.
+     */
+    static final class StreamedInput extends InputStream {
+
+        /** 입력 끝 표시 */
+        private static final byte[] END = new byte[0];
+
+        private final BlockingQueue<byte[]> chunks = new ArrayBlockingQueue<>(BUFFERED_INPUT_CHUNKS);
+        private final Thread reader;
+        private volatile boolean discarding = false;
+        private volatile IOException failure;
+
+        private byte[] current;
+        private int position;
+
+        StreamedInput(DataInputStream in) {
+            reader = new Thread(() -> pump(in), "grading-input");
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        private void pump(DataInputStream in) {
+            try {
+                int length;
+                while ((length = in.readInt()) != 0) {
+                    if (length < 0 || length > INPUT_CHUNK_BYTES) {
+                        throw new IOException("잘못된 입력 조각 크기: " + length);
+                    }
+                    byte[] chunk = new byte[length];
+                    in.readFully(chunk);
+                    if (!discarding) {
+                        chunks.put(chunk);
+                    }
+                }
+            } catch (IOException e) {
+                failure = e;
+            } catch (InterruptedException e) {
+                failure = new InterruptedIOException("입력 전달이 중단되었습니다.");
+            }
+            try {
+                // 큐가 차 있으면 제출 코드가 읽어 갈 때까지 기다림 (읽기를 멈췄으면 finish() 가 큐를 비워 깨움)
+                chunks.put(END);
+            } catch (InterruptedException ignored) {
+                // 종료 중
+            }
+        }
+
+        @Override
+        public synchronized int read() throws IOException {
+            byte[] chunk = nextChunk();
+            return chunk == null ? -1 : chunk[position++] & 0xff;
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            byte[] chunk = nextChunk();
+            if (chunk == null) {
+                return -1;
+            }
+            int n = Math.min(len, chunk.length - position);
+            System.arraycopy(chunk, position, b, off, n);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public synchronized int available() {
+            return current != null && current != END ? current.length - position : 0;
+        }
+
+        /** 다 읽은 조각을 버리고 다음 조각을 기다림 (입력 끝이면 null) */
+        private byte[] nextChunk() throws IOException {
+            while (current == null || (current != END && position == current.length)) {
+                try {
+                    current = chunks.take();
+                    position = 0;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("입력 읽기가 중단되었습니다.");
+                }
+            }
+            if (current == END) {
+                if (failure != null) {
+                    throw failure;
+                }
+                return null;
+            }
+            return current;
+        }
+
+        /**
+         * 제출 코드가 읽지 않은 나머지 입력을 파이프에서 읽어 버립니다 (다음 요청의 시작 위치를 맞춤)
+         * @throws IOException 파이프가 끊겼거나 메시지가 손상된 경우 (워커를 더 쓸 수 없음)
+         */
+        void finish() throws IOException {
+            discarding = true;
+            try {
+                while (reader.isAlive()) {
+                    chunks.clear(); // put 에서 막힌 전달 스레드를 깨움
+                    reader.join(10);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("입력 정리가 중단되었습니다.");
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
@@ -1,18 +1,39 @@
 package com.spring.project.repository;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.spring.project.cache.ChallengeCatalog;
+import com.spring.project.cache.ChallengeCompletionIndex;
+import com.spring.project.cache.ChallengeFacetIndex;
+import com.spring.project.cache.ChallengeRatingEngine;
+import com.spring.project.cache.ChallengeSearchIndex;
+import com.spring.project.cache.ChallengeStatisticsEngine;
+import com.spring.project.cache.ExperienceLeaderboard;
+import com.spring.project.cache.RollingLeaderboard;
+import com.spring.project.cache.UserSolvedSetCache;
 import com.spring.project.dto.challenge.ChallengeDTO;
+import com.spring.project.dto.challenge.ChallengeDetailDTO;
+import com.spring.project.dto.challenge.ChallengeSubDTO;
 import com.spring.project.dto.challenge.ChallengeLevelDTO;
 import com.spring.project.dto.challenge.ChallengeCategoryDTO;
+import com.spring.project.grading.GradingCache;
+import com.spring.project.grading.TestCaseStore;
 
 @Repository
 public class ChallengeRepository {
@@ -20,33 +41,122 @@ public class ChallengeRepository {
     @Autowired
     SqlSessionTemplate mybatis;
 
+    /** 제출 기록 + 경험치 지급을 한 트랜잭션으로 묶음 (txManager) */
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    /** 대량 등록 전용 (청크마다 txManager 트랜잭션에 참여하는 BATCH 실행기 템플릿을 만듦) */
+    @Autowired
+    SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    ChallengeCompletionIndex completionIndex;
+
+    @Autowired
+    ChallengeCatalog challengeCatalog;
+
+    @Autowired
+    ChallengeStatisticsEngine statisticsEngine;
+
+    @Autowired
+    ChallengeSearchIndex searchIndex;
+
+    @Autowired
+    ChallengeFacetIndex facetIndex;
+
+    @Autowired
+    UserSolvedSetCache userSolvedSets;
+
+    @Autowired
+    ChallengeRatingEngine ratingEngine;
+
+    @Autowired
+    GradingCache gradingCache;
+
+    @Autowired
+    ExperienceLeaderboard experienceLeaderboard;
+
+    @Autowired
+    RollingLeaderboard rollingLeaderboard;
+
+    @Autowired
+    TestCaseStore testCaseStore;
+
+    /** 챌린지 목록 한 페이지의 기본 크기 (cursor 만 보내고 size 를 생략한 경우) */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /** 챌린지 목록 한 페이지의 최대 크기 */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /** 프론트엔드 난이도 키 → Challenge_Levels.level_name */
+    private static final Map<String, String> DIFFICULTY_KEY_MAP = Map.of(
+            "beginner", "초급",
+            "intermediate", "중급",
+            "advanced", "고급");
+
+    /** 프론트엔드 카테고리 키 → Challenge_Categorys.category_name */
+    private static final Map<String, String> CATEGORY_KEY_MAP = Map.of(
+            "algorithm", "알고리즘",
+            "data-structure", "자료구조",
+            "web", "웹개발",
+            "frontend", "프론트엔드",
+            "backend", "백엔드",
+            "system", "시스템");
+
     /**
-     * 🎯 챌린지 페이지용 데이터를 조회합니다 (필터링 지원)
-     * @param difficulty 난이도 필터 ("all", "beginner", "intermediate", "advanced")
-     * @param category 카테고리 필터 ("all", "algorithm", "web", 등)
+     * 🎯 챌린지 페이지용 데이터를 조회합니다 (필터링 + 키셋 페이지네이션 지원)
+     * 난이도/카테고리/언어 필터를 패싯 비트맵 인덱스에서 AND 로 적용하고, challenge_id 커서 기준으로 한 페이지만 조회합니다.
+     * 패싯 값별 챌린지 수(facets)도 같은 인덱스에서 함께 계산합니다.
+     * @param difficulty 난이도 필터 ("all", "beginner", "intermediate", "advanced", level_name 또는 level_id)
+     * @param category 카테고리 필터 ("all", "algorithm", "web", 등, category_name 또는 category_id)
      * @param language 언어 필터 ("all", "Java", "Python", 등)
+     * @param cursor 이전 페이지의 마지막 challenge_id (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 MAX_PAGE_SIZE, cursor 와 size 가 모두 없으면 페이지 없이 전체 목록)
+     * @param userId 로그인 사용자 ID (null이면 해결/시도 상태 없음)
+     * @param unsolvedOnly true면 사용자가 해결한 챌린지를 비트맵 단계에서 제외
      * @return 필터링된 챌린지 관련 데이터
      */
-    public Map<String, Object> findAllChallengesForPage(String difficulty, String category, String language) {
+    public Map<String, Object> findAllChallengesForPage(String difficulty, String category, String language, Integer cursor, Integer size,
+                                                        Integer userId, boolean unsolvedOnly) {
         Map<String, Object> challengeInfoMap = new HashMap<>();
         
-        System.out.println("🎯 Repository - 필터 조건: difficulty=" + difficulty + ", category=" + category + ", language=" + language);
+        System.out.println("🎯 Repository - 필터 조건: difficulty=" + difficulty + ", category=" + category + ", language=" + language
+                + ", cursor=" + cursor + ", size=" + size + ", userId=" + userId + ", unsolvedOnly=" + unsolvedOnly);
         
-        // 🎯 1. 언어 필터에 따른 챌린지 목록 조회
-        List<ChallengeDTO> challengeList;
-        if ("all".equals(language)) {
-            // 모든 언어의 챌린지 조회
-            challengeList = mybatis.selectList("challengeRepository.findAllChallenges");
-            System.out.println("📋 모든 언어의 챌린지 조회");
-        } else {
-            // 특정 언어의 챌린지만 조회
-            challengeList = mybatis.selectList("challengeRepository.findChallengesByLanguage", language);
-            System.out.println("📋 " + language + " 언어의 챌린지만 조회");
-            System.out.println("🔍 조회된 챌린지 수: " + challengeList.size());
-            
-            // 🔥 각 챌린지의 언어 정보 출력
+        // 1~2. 모든 난이도/카테고리 목록은 카탈로그 스냅샷에서 조회 (DB I/O 없음)
+        ChallengeCatalog.Snapshot catalog = challengeCatalog.snapshot();
+        List<ChallengeLevelDTO> levelsList = catalog.getLevels();
+        List<ChallengeCategoryDTO> categoriesList = catalog.getCategories();
+        
+        // 🎯 3. 필터 값을 ID로 변환 후 패싯 비트맵 인덱스에서 한 페이지 + 패싯별 개수 조회 (DB I/O 없음)
+        // 페이지 파라미터 없이 호출하는 기존 클라이언트(챌린지 페이지)는 전체 목록을 받아 클라이언트에서 필터링
+        boolean unpaged = size == null && cursor == null;
+        int pageSize = unpaged ? Integer.MAX_VALUE
+                : (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        Integer levelId = resolveLevelId(difficulty, levelsList);
+        Integer categoryId = resolveCategoryId(category, categoriesList);
+        if (levelId != null && levelId < 0 || categoryId != null && categoryId < 0) {
+            System.out.println("⚠️ 알 수 없는 필터 값 - 빈 목록 반환"); // 음수 ID 는 비트맵이 없으므로 결과 없음
+        }
+        
+        // 사용자별 해결/시도 비트맵 (처음 조회되는 사용자만 GROUP BY 1회)
+        UserSolvedSetCache.Snapshot solvedSet = userId != null ? userSolvedSets.getSnapshot(userId) : null;
+        BitSet excludedIds = solvedSet != null && unsolvedOnly ? solvedSet.solvedIds() : null;
+        
+        ChallengeFacetIndex.Result facetResult = facetIndex.query(levelId, categoryId, isAll(language) ? null : language, excludedIds, cursor, pageSize);
+        List<ChallengeDTO> challengeList = facetResult.getChallenges();
+        boolean hasMore = facetResult.isHasMore();
+        Integer nextCursor = facetResult.getNextCursor();
+        System.out.println("🔍 조회된 챌린지 수: " + challengeList.size() + " / 전체 일치 " + facetResult.getTotalCount() + " (다음 페이지: " + hasMore + ")");
+        
+        // 🔥 페이지 항목별 해결/시도 상태 (항목당 비트 조회 O(1))
+        Map<Integer, String> statusMap = new HashMap<>();
+        if (solvedSet != null) {
             for (ChallengeDTO challenge : challengeList) {
-                System.out.println("   - " + challenge.getChallenge_title() + " (" + challenge.getLanguage() + ")");
+                String status = solvedSet.statusOf(challenge.getChallenge_id());
+                if (status != null) {
+                    statusMap.put(challenge.getChallenge_id(), status);
+                }
             }
         }
         
@@ -59,29 +169,11 @@ public class ChallengeRepository {
         }
         System.out.println("📊 언어별 챌린지 수: " + languageCount);
         
-        // 2. 모든 난이도 목록 조회
-        List<ChallengeLevelDTO> levelsList = mybatis.selectList("challengeRepository.findAllLevels");
-        
-        // 3. 모든 카테고리 목록 조회
-        List<ChallengeCategoryDTO> categoriesList = mybatis.selectList("challengeRepository.findAllCategories");
-        
-        // 🔥 4. 각 챌린지별 실제 완료자 수를 별도 Map으로 저장 (디버깅 강화)
-        Map<Integer, Integer> completedCountMap = new HashMap<>();
+        // 🔥 4. 각 챌린지별 실제 완료자 수를 완료자 수 인덱스에서 조회 (챌린지당 O(1), 추가 쿼리 없음)
+        Map<Integer, Integer> completedCountMap = completionIndex.getCompletedCountMap(challengeList);
         int totalCompletedUsers = 0; // 전체 완료자 수 계산
-        
-        for (ChallengeDTO challenge : challengeList) {
-            try {
-                Integer completedCount = mybatis.selectOne("challengeRepository.getCompletedCount", challenge.getChallenge_id());
-                // null 체크 및 기본값 처리
-                int actualCount = (completedCount != null) ? completedCount : 0;
-                completedCountMap.put(challenge.getChallenge_id(), actualCount);
-                totalCompletedUsers += actualCount;
-                
-                System.out.println("🔍 챌린지 ID " + challenge.getChallenge_id() + " (" + challenge.getChallenge_title() + ") 완료자 수: " + actualCount + "명");
-            } catch (Exception e) {
-                System.err.println("⚠️ 챌린지 ID " + challenge.getChallenge_id() + " 완료자 수 조회 실패: " + e.getMessage());
-                completedCountMap.put(challenge.getChallenge_id(), 0); // 에러시 0으로 처리
-            }
+        for (Integer actualCount : completedCountMap.values()) {
+            totalCompletedUsers += actualCount;
         }
         
         System.out.println("📊 전체 완료자 수 집계: " + totalCompletedUsers + "명");
@@ -102,10 +194,55 @@ public class ChallengeRepository {
         challengeInfoMap.put("completedCountMap", completedCountMap);
         challengeInfoMap.put("totalCompletedUsers", totalCompletedUsers); // 🔥 전체 완료자 수 추가
         challengeInfoMap.put("supportedLanguages", uniqueLanguages.size()); // 🔥 지원 언어 수 추가
+        challengeInfoMap.put("pageSize", unpaged ? challengeList.size() : pageSize);
+        challengeInfoMap.put("hasMore", hasMore);
+        challengeInfoMap.put("nextCursor", nextCursor);
+        challengeInfoMap.put("totalCount", facetResult.getTotalCount());
+        challengeInfoMap.put("facets", facetResult.getFacetCounts());
+        challengeInfoMap.put("statusMap", statusMap);
+        challengeInfoMap.put("solvedCount", solvedSet != null ? solvedSet.getSolvedCount() : 0);
         
         return challengeInfoMap;
     }
 
+    /**
+     * 난이도 필터 값을 level_id로 변환합니다
+     * @return null = 필터 없음, -1 = 일치하는 난이도 없음
+     */
+    private Integer resolveLevelId(String difficulty, List<ChallengeLevelDTO> levelsList) {
+        if (isAll(difficulty)) {
+            return null;
+        }
+        String levelName = DIFFICULTY_KEY_MAP.getOrDefault(difficulty.toLowerCase(), difficulty);
+        for (ChallengeLevelDTO level : levelsList) {
+            if (levelName.equals(level.getLevel_name()) || difficulty.equals(String.valueOf(level.getLevel_id()))) {
+                return level.getLevel_id();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 카테고리 필터 값을 category_id로 변환합니다
+     * @return null = 필터 없음, -1 = 일치하는 카테고리 없음
+     */
+    private Integer resolveCategoryId(String category, List<ChallengeCategoryDTO> categoriesList) {
+        if (isAll(category)) {
+            return null;
+        }
+        String categoryName = CATEGORY_KEY_MAP.getOrDefault(category.toLowerCase(), category);
+        for (ChallengeCategoryDTO categoryDTO : categoriesList) {
+            if (categoryName.equals(categoryDTO.getCategory_name()) || category.equals(String.valueOf(categoryDTO.getCategory_id()))) {
+                return categoryDTO.getCategory_id();
+            }
+        }
+        return -1;
+    }
+
+    private boolean isAll(String filter) {
+        return filter == null || filter.trim().isEmpty() || "all".equalsIgnoreCase(filter);
+    }
+
     /**
      * 전체 챌린지 목록을 조회합니다 (필터링 없음)
      */
@@ -120,6 +257,15 @@ public class ChallengeRepository {
         return mybatis.selectOne("challengeRepository.findChallengeById", challengeId);
     }
 
+    /**
+     * 🎯 챌린지 상세 정보를 난이도/카테고리와 함께 한 번의 JOIN 쿼리로 조회합니다
+     * @param challengeId 챌린지 ID
+     * @return 챌린지 상세 (없으면 null)
+     */
+    public ChallengeDetailDTO findChallengeDetailById(Integer challengeId) {
+        return mybatis.selectOne("challengeRepository.findChallengeDetailById", challengeId);
+    }
+
     /**
      * 모든 난이도 목록을 조회합니다
      */
@@ -138,7 +284,7 @@ public class ChallengeRepository {
      * 특정 챌린지의 완료자 수를 조회합니다
      */
     public int getCompletedCount(Integer challengeId) {
-        return mybatis.selectOne("challengeRepository.getCompletedCount", challengeId);
+        return completionIndex.getCompletedCount(challengeId);
     }
 
     /**
@@ -150,6 +296,7 @@ public class ChallengeRepository {
 
     /**
      * 🎯 특정 챌린지의 통계 정보를 조회합니다 (제출수, 정답수, 정답률)
+     * 통계 엔진의 누적 카운터에서 상수 시간으로 계산합니다.
      * @param challengeId 챌린지 ID
      * @return 통계 정보 맵
      */
@@ -158,7 +305,7 @@ public class ChallengeRepository {
             System.out.println("🎯 챌린지 통계 조회 - ID: " + challengeId);
             
             // 제출수, 정답수, 정답률 조회
-            Map<String, Object> statistics = mybatis.selectOne("challengeRepository.getChallengeStatistics", challengeId);
+            Map<String, Object> statistics = statisticsEngine.getStatistics(challengeId);
             
             if (statistics == null) {
                 // 데이터가 없는 경우 기본값 설정
@@ -233,6 +380,11 @@ public class ChallengeRepository {
                              ", language=" + challengeDTO.getLanguage());
             
             int result = mybatis.insert("challengeRepository.insertChallenge", challengeDTO);
+            if (result > 0) {
+                challengeCatalog.rebuild(); // 새 언어가 추가되었을 수 있으므로 카탈로그 교체
+                searchIndex.addChallenge(challengeDTO); // useGeneratedKeys 로 challenge_id 가 채워져 있음
+                facetIndex.addChallenge(challengeDTO);
+            }
             
             System.out.println("✅ 챌린지 등록 완료 - 결과: " + result);
             return result;
@@ -244,6 +396,176 @@ public class ChallengeRepository {
         }
     }
 
+    /**
+     * 🔥 챌린지 여러 개를 한 트랜잭션으로 일괄 등록합니다 (대량 등록의 청크 1개)
+     * txManager 트랜잭션 안에서 BATCH 실행기 템플릿으로 INSERT 를 모아 한 번에 전송하고(rewriteBatchedStatements 로 다중 VALUES 변환) 커밋합니다.
+     * 청크 안에서 난 예외로 TransactionTemplate 이 롤백을 마친 경우에만 행마다 따로 트랜잭션을 열어 실패한 행만 골라냅니다.
+     * 커밋/롤백 자체가 실패해 반영 여부를 알 수 없으면 중복 INSERT 를 막기 위해 재시도하지 않고 색인을 DB 기준으로 다시 구성합니다.
+     * @param challenges 등록할 챌린지 (성공한 행은 challenge_id 가 채워짐)
+     * @return 행별 오류 메시지 (성공한 행은 null)
+     */
+    public List<String> insertChallengesBatch(List<ChallengeDTO> challenges) {
+        String[] errors = new String[challenges.size()];
+        SqlSessionTemplate batch = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        AtomicReference<RuntimeException> chunkFailure = new AtomicReference<>();
+
+        try {
+            transactionTemplate.execute(status -> {
+                try {
+                    for (ChallengeDTO challenge : challenges) {
+                        batch.insert("challengeRepository.insertChallenge", challenge);
+                    }
+                    batch.flushStatements();
+                    return null;
+                } catch (RuntimeException e) {
+                    chunkFailure.set(e);
+                    throw e; // TransactionTemplate 이 롤백한 뒤 그대로 다시 던짐
+                }
+            });
+            applyInsertedChallenges(challenges);
+            return Arrays.asList(errors);
+        } catch (RuntimeException e) {
+            if (e != chunkFailure.get()) {
+                return unknownOutcome(challenges, errors, 0, e);
+            }
+            System.err.println("⚠️ 챌린지 일괄 등록 청크 실패(롤백 완료), 행 단위로 재시도: " + rootMessage(e));
+        }
+
+        for (int i = 0; i < challenges.size(); i++) {
+            ChallengeDTO challenge = challenges.get(i);
+            challenge.setChallenge_id(0);
+            AtomicReference<RuntimeException> rowFailure = new AtomicReference<>();
+            try {
+                transactionTemplate.execute(status -> {
+                    try {
+                        return mybatis.insert("challengeRepository.insertChallenge", challenge);
+                    } catch (RuntimeException e) {
+                        rowFailure.set(e);
+                        throw e;
+                    }
+                });
+            } catch (RuntimeException e) {
+                if (e != rowFailure.get()) {
+                    return unknownOutcome(challenges, errors, i, e);
+                }
+                errors[i] = rootMessage(e);
+            }
+        }
+
+        List<ChallengeDTO> inserted = new ArrayList<>();
+        for (int i = 0; i < challenges.size(); i++) {
+            if (errors[i] == null) {
+                inserted.add(challenges.get(i));
+            }
+        }
+        applyInsertedChallenges(inserted);
+        return Arrays.asList(errors);
+    }
+
+    /**
+     * 커밋/롤백이 실패해 from 번째 행부터 반영 여부를 알 수 없을 때: 남은 행을 실패로 돌려주고 색인을 DB 기준으로 다시 구성
+     */
+    private List<String> unknownOutcome(List<ChallengeDTO> challenges, String[] errors, int from, RuntimeException e) {
+        System.err.println("⚠️ 챌린지 일괄 등록 트랜잭션 종료 실패, 재시도 중단: " + rootMessage(e));
+        for (int i = from; i < challenges.size(); i++) {
+            errors[i] = "등록 반영 여부를 확인할 수 없습니다. 목록을 확인한 뒤 다시 시도해주세요. (" + rootMessage(e) + ")";
+        }
+        challengeCatalog.rebuild();
+        searchIndex.reload();
+        facetIndex.reload();
+        return Arrays.asList(errors);
+    }
+
+    /** 일괄 등록된 챌린지를 인메모리 색인에 반영 (생성 키를 받지 못했으면 DB 기준 재구성) */
+    private void applyInsertedChallenges(List<ChallengeDTO> inserted) {
+        if (inserted.isEmpty()) {
+            return;
+        }
+        challengeCatalog.rebuild(); // 새 언어가 추가되었을 수 있으므로 카탈로그 교체
+        boolean keysAssigned = true;
+        for (ChallengeDTO challenge : inserted) {
+            if (challenge.getChallenge_id() <= 0) {
+                keysAssigned = false;
+                break;
+            }
+        }
+        if (!keysAssigned) {
+            searchIndex.reload();
+            facetIndex.reload();
+            return;
+        }
+        for (ChallengeDTO challenge : inserted) {
+            searchIndex.addChallenge(challenge);
+            facetIndex.addChallenge(challenge);
+        }
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage() != null ? root.getMessage() : root.getClass().getSimpleName();
+    }
+
+    /**
+     * 🎯 채점 결과를 Challenge_sub 에 기록하고, 첫 통과라면 경험치를 지급합니다 (한 트랜잭션)
+     * Challenge_First_Pass 의 (user_id, challenge_id) 기본 키가 첫 통과를 한 번만 인정하므로,
+     * 같은 사용자의 통과 제출이 동시에 채점되어도 경험치는 한 번만 지급됩니다 (나중 INSERT 는 먼저 커밋된 행에 막힘).
+     * 같은 방식으로 Challenge_First_Attempt 에 처음 들어간 결과만 Elo 레이팅에 반영합니다 (재제출은 레이팅을 움직이지 않음).
+     * 완료자 수/통계/리더보드 등 메모리 인덱스는 커밋된 뒤에 반영합니다.
+     * @param challengeSubDTO 제출 기록 (저장 후 challenge_sub_id, exp_count 가 채워짐)
+     * @param firstPassExp 첫 통과일 때 지급할 경험치
+     * @return 지급된 경험치 (첫 통과가 아니거나 실패면 0)
+     */
+    public int recordGradedSubmission(ChallengeSubDTO challengeSubDTO, int firstPassExp) {
+        int userId = challengeSubDTO.getUser_id();
+        int challengeId = challengeSubDTO.getChallenge_id();
+        AtomicBoolean firstAttempt = new AtomicBoolean(false);
+        long statsToken = statisticsEngine.beginSubmission(); // 커밋 전까지 통계 기준 제출 ID 를 붙잡아 둠
+        Integer awarded;
+        try {
+            awarded = transactionTemplate.execute(status -> {
+                Map<String, Object> pairParams = new HashMap<>();
+                pairParams.put("challengeId", challengeId);
+                pairParams.put("userId", userId);
+                firstAttempt.set(mybatis.insert("challengeRepository.insertFirstAttempt", pairParams) > 0);
+                boolean firstPass = false;
+                if (challengeSubDTO.isPass()) {
+                    firstPass = mybatis.insert("challengeRepository.insertFirstPass", pairParams) > 0;
+                }
+                int exp = firstPass ? firstPassExp : 0;
+                challengeSubDTO.setExp_count(exp);
+                mybatis.insert("challengeRepository.insertChallengeSub", challengeSubDTO);
+                if (exp > 0) {
+                    Map<String, Object> params = new HashMap<>();
+                    params.put("userId", userId);
+                    params.put("exp", exp);
+                    mybatis.update("challengeRepository.addUserExperience", params);
+                }
+                return exp;
+            });
+        } catch (RuntimeException | Error e) {
+            statisticsEngine.abortSubmission(statsToken);
+            throw e;
+        }
+        int exp = awarded != null ? awarded : 0;
+
+        statisticsEngine.recordSubmission(challengeId, challengeSubDTO.getChallenge_sub_id(), challengeSubDTO.isPass(), statsToken);
+        completionIndex.recordSubmission(challengeId);
+        userSolvedSets.recordSubmission(userId, challengeId, challengeSubDTO.isPass());
+        if (firstAttempt.get()) {
+            ratingEngine.recordResult(userId, challengeId, challengeSubDTO.isPass());
+        }
+        if (challengeSubDTO.isPass()) {
+            rollingLeaderboard.recordPass(userId, exp);
+        }
+        if (exp > 0) {
+            experienceLeaderboard.addExperience(userId, exp);
+        }
+        return exp;
+    }
+
     /**
      * 🎯 데이터베이스에 등록된 모든 언어 목록을 조회합니다
      * @return 언어 목록
@@ -263,22 +585,31 @@ public class ChallengeRepository {
 
     /**
      * 🎯 챌린지를 데이터베이스에서 삭제합니다
+     * 존재 여부는 별도 SELECT 없이 DELETE 의 영향 행 수로 판단합니다.
      * @param challengeId 삭제할 챌린지 ID
-     * @return 삭제된 행의 수
+     * @return 삭제된 행의 수 (0이면 해당 챌린지 없음)
      */
     public int deleteChallenge(Integer challengeId) {
         try {
             System.out.println("🎯 챌린지 삭제 시작 - ID: " + challengeId);
             
-            // 먼저 챌린지가 존재하는지 확인
-            ChallengeDTO existingChallenge = mybatis.selectOne("challengeRepository.findChallengeById", challengeId);
-            if (existingChallenge == null) {
+            // 챌린지 삭제
+            int result = mybatis.delete("challengeRepository.deleteChallenge", challengeId);
+            if (result == 0) {
                 System.out.println("⚠️ 삭제할 챌린지를 찾을 수 없습니다. ID: " + challengeId);
                 return 0;
             }
-            
-            // 챌린지 삭제
-            int result = mybatis.delete("challengeRepository.deleteChallenge", challengeId);
+            if (result > 0) {
+                completionIndex.removeChallenge(challengeId);
+                statisticsEngine.removeChallenge(challengeId);
+                gradingCache.invalidateChallenge(challengeId);
+                testCaseStore.delete(challengeId);
+                searchIndex.removeChallenge(challengeId);
+                facetIndex.removeChallenge(challengeId);
+                userSolvedSets.removeChallenge(challengeId);
+                ratingEngine.removeChallenge(challengeId);
+                challengeCatalog.rebuild(); // 마지막 언어 챌린지가 삭제되었을 수 있으므로 카탈로그 교체
+            }
             
             System.out.println("✅ 챌린지 삭제 완료 - 결과: " + result);
             return result;
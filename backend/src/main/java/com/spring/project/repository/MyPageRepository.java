@@ -2,6 +2,7 @@ package com.spring.project.repository;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -9,6 +10,12 @@ import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import com.spring.project.cache.ChallengeCatalog;
+import com.spring.project.cache.ExperienceLeaderboard;
+import com.spring.project.cache.PostCountCache;
+import com.spring.project.cache.PostSearchIndex;
+import com.spring.project.cache.PostViewCounter;
+import com.spring.project.cache.UserSummaryCache;
 import com.spring.project.dto.user.UserDTO;
 import com.spring.project.dto.user.UserGradeDTO;
 import com.spring.project.dto.challenge.ChallengeDTO;
@@ -33,6 +40,24 @@ public class MyPageRepository {
 
    @Autowired
    SqlSessionTemplate mybatis;
+
+   @Autowired
+   ChallengeCatalog challengeCatalog;
+
+   @Autowired
+   ExperienceLeaderboard experienceLeaderboard;
+
+   @Autowired
+   UserSummaryCache userSummaryCache;
+
+   @Autowired
+   PostCountCache postCountCache;
+
+   @Autowired
+   PostSearchIndex postSearchIndex;
+
+   @Autowired
+   PostViewCounter postViewCounter;
    
    /**
     * 관리자용 회원 목록을 조회합니다.
@@ -54,14 +79,17 @@ public class MyPageRepository {
    /**
     * 관리자용 문제 목록을 조회합니다.
     * Challenges, ChallengeLevels, ChallengeCategories 테이블을 JOIN하여 상세 정보를 가져옵니다.
+    * 난이도/카테고리 목록은 챌린지 카탈로그 스냅샷에서 가져옵니다.
     */
    public Map<String, Object> findAllProblemsForAdmin() {
        
        Map<String, Object> problemInfoMap = new HashMap<>();
+       ChallengeCatalog.Snapshot catalog = challengeCatalog.snapshot();
 
        List<ChallengeDTO> problemList = mybatis.selectList("myPageRepository.findAllProblemsForAdmin");
-       List<ChallengeLevelDTO> problemLevelsList = mybatis.selectList("myPageRepository.findAllProblemLevels");
-       List<ChallengeCategoryDTO> problemCategoriesList = mybatis.selectList("myPageRepository.findAllProblemCategories");
+       List<ChallengeLevelDTO> problemLevelsList = new ArrayList<>(catalog.getLevels());
+       problemLevelsList.sort(Comparator.comparingInt(ChallengeLevelDTO::getLevel_id)); // 관리자 화면은 level_id 순
+       List<ChallengeCategoryDTO> problemCategoriesList = catalog.getCategories();
 
        problemInfoMap.put("problemList", problemList);
        problemInfoMap.put("problemLevelsList", problemLevelsList);
@@ -86,7 +114,7 @@ public class MyPageRepository {
        
        // 각 통계 데이터 조회
        int totalUsers = mybatis.selectOne("myPageRepository.getTotalUserCount");
-       int totalPosts = mybatis.selectOne("myPageRepository.getTotalPostCount");
+       int totalPosts = postCountCache.count(null);
        int totalTests = mybatis.selectOne("myPageRepository.getTotalTestCount");
        int totalProblems = mybatis.selectOne("myPageRepository.getTotalProblemCount");
        int totalProducts = mybatis.selectOne("myPageRepository.getTotalProductCount");
@@ -201,7 +229,12 @@ public class MyPageRepository {
    
    public int updateNickname(UserDTO vo) {
 
-	   return mybatis.update("myPageRepository.updateNickname", vo);
+	   int result = mybatis.update("myPageRepository.updateNickname", vo);
+	   if (result > 0) {
+		   experienceLeaderboard.updateNickname(vo.getUser_id(), vo.getNickname());
+		   userSummaryCache.invalidate(vo.getUser_id());
+	   }
+	   return result;
    }
    
    public String getUserPass(int user_id) {
@@ -242,7 +275,19 @@ public class MyPageRepository {
     * Posts 테이블에서 지정된 게시글을 삭제합니다.
     */
    public boolean deletePost(int postId) {
-       int result = mybatis.delete("myPageRepository.deletePost", postId);
+       int result = postCountCache.guardWrite(() -> {
+           Integer category = mybatis.selectOne("postRepository.findPostCategoryId", postId);
+           int deleted = mybatis.delete("myPageRepository.deletePost", postId);
+           if (deleted > 0) {
+               // 게시판 쪽 삭제와 같이 검색 색인/조회수/게시글 수 카운터에 반영
+               postSearchIndex.removePost(postId);
+               postViewCounter.removePost(postId);
+               if (category != null) {
+                   postCountCache.postDeleted(category);
+               }
+           }
+           return deleted;
+       });
        return result > 0;
    }
 
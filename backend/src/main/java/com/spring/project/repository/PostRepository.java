@@ -1,11 +1,18 @@
 package com.spring.project.repository;
 
+import com.spring.project.cache.PostCountCache;
+import com.spring.project.cache.PostSearchIndex;
+import com.spring.project.cache.PostViewCounter;
+import com.spring.project.cache.UserSummaryCache;
 import com.spring.project.dto.post.PostCategoryDTO;
 import com.spring.project.dto.post.PostsDTO;
+import com.spring.project.dto.user.UserSummaryDTO;
 import org.apache.ibatis.annotations.Param;
 import org.mybatis.spring.SqlSessionTemplate;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -20,12 +27,34 @@ public class PostRepository {
     @Autowired
     private SqlSessionTemplate mybatis;
 
+    @Autowired
+    private UserSummaryCache userSummaryCache;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    @Autowired
+    private PostCountCache postCountCache;
+
     public List<PostsDTO> findAllPosts() {
-        return mybatis.selectList("postRepository.findAllPosts");
+        return withPendingViews(mybatis.selectList("postRepository.findAllPosts"));
     }
 
     public String findNicknameByUserId(int user_id) {
-        return mybatis.selectOne("postRepository.findNicknameByUserId", user_id);
+        UserSummaryDTO summary = userSummaryCache.get(user_id);
+        return summary != null ? summary.getNickname() : null;
+    }
+
+    /** 작성자 닉네임 일괄 조회 (캐시 미스분만 IN 쿼리 1회) */
+    public Map<Integer, String> findNicknamesByUserIds(Collection<Integer> userIds) {
+        Map<Integer, String> nicknames = new HashMap<>();
+        for (UserSummaryDTO summary : userSummaryCache.getAll(userIds).values()) {
+            nicknames.put(summary.getUser_id(), summary.getNickname());
+        }
+        return nicknames;
     }
 
     public List<PostCategoryDTO> findAllCategories(){
@@ -33,22 +62,26 @@ public class PostRepository {
     }
 
     public PostsDTO findPostById(int post_id) {
-        return mybatis.selectOne("postRepository.findPostById", post_id);
+        PostsDTO post = mybatis.selectOne("postRepository.findPostById", post_id);
+        postViewCounter.applyPendingViews(post);
+        return post;
     }
 
-    public void increaseView(int post_id) {
-        mybatis.update("postRepository.increaseView", post_id);
+    /** 조회수 +1 (write-behind, 같은 조회자의 재조회는 무시) */
+    public boolean increaseView(int post_id, String viewerKey) {
+        return postViewCounter.recordView(post_id, viewerKey);
     }
 
     public List<PostsDTO> findPostsByPaging(int offset, int size) {
         Map<String, Integer> params = new HashMap<>();
         params.put("offset", offset);
         params.put("size", size);
-        return mybatis.selectList("postRepository.findPostsByPaging", params);
+        return withPendingViews(mybatis.selectList("postRepository.findPostsByPaging", params));
     }
 
+    /** 전체 게시글 수 (COUNT(*) 대신 유지 중인 카운터) */
     public int getTotalPostCount() {
-        return mybatis.selectOne("postRepository.getTotalPostCount");
+        return postCountCache.count(null);
     }
 
     public List<PostsDTO> findPostsByPagingAndFilter(int offset, int size, Integer category, String keyword) {
@@ -57,30 +90,102 @@ public class PostRepository {
         params.put("size", size);
         params.put("category", category);
         params.put("keyword", keyword);
-        return mybatis.selectList("postRepository.findPostsByPagingAndFilter", params);
+        return withPendingViews(mybatis.selectList("postRepository.findPostsByPagingAndFilter", params));
+    }
+
+    /** 커서 다음 행부터 limit 개 (cursorCreatedAt 이 null 이면 첫 페이지) */
+    public List<PostsDTO> findPostsByCursor(Timestamp cursorCreatedAt, int cursorPostId, int limit, Integer category, String keyword) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("cursorCreatedAt", cursorCreatedAt);
+        params.put("cursorPostId", cursorPostId);
+        params.put("limit", limit);
+        params.put("category", category);
+        params.put("keyword", keyword);
+        return withPendingViews(mybatis.selectList("postRepository.findPostsByCursor", params));
     }
 
     public int getFilteredPostCount(Integer category, String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return postCountCache.count(category); // 필터 없음 / 카테고리만: 카운터에서 바로
+        }
         Map<String, Object> params = new HashMap<>();
         params.put("category", category);
         params.put("keyword", keyword);
         return mybatis.selectOne("postRepository.getFilteredPostCount", params);
     }
     
+    /** 검색어 + 카테고리로 검색한 구간의 게시글 (점수 순) 과 전체 일치 개수 */
+    public PostSearchIndex.SearchResult searchPosts(String keyword, Integer category, int offset, int size) {
+        return postSearchIndex.search(keyword, category, offset, size);
+    }
+
+    /** post_id 목록의 게시글을 같은 순서로 조회 (삭제된 게시글은 제외) */
+    public List<PostsDTO> findPostsByIds(List<Integer> postIds) {
+        if (postIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Integer, PostsDTO> byId = new HashMap<>();
+        for (PostsDTO post : mybatis.<PostsDTO>selectList("postRepository.findPostsByIds", postIds)) {
+            byId.put(post.getPost_id(), post);
+        }
+        List<PostsDTO> posts = new ArrayList<>(postIds.size());
+        for (Integer postId : postIds) {
+            PostsDTO post = byId.get(postId);
+            if (post != null) {
+                posts.add(post);
+            }
+        }
+        return withPendingViews(posts);
+    }
+
     public int insertPost(PostsDTO vo) {
-    	return mybatis.insert("postRepository.insertPost", vo);
+    	return postCountCache.guardWrite(() -> {
+    		int result = mybatis.insert("postRepository.insertPost", vo);
+    		if (result > 0) {
+    			postSearchIndex.addPost(vo); // useGeneratedKeys 로 post_id 가 채워져 있음
+    			postCountCache.postInserted(vo.getCategory_id());
+    		}
+    		return result;
+    	});
     }
     
     public int updatePost(PostsDTO vo) {
-    	return mybatis.update("postRepository.updatePost", vo);
+    	return postCountCache.guardWrite(() -> {
+    		Integer previousCategory = mybatis.selectOne("postRepository.findPostCategoryId", vo.getPost_id());
+    		int result = mybatis.update("postRepository.updatePost", vo);
+    		if (result > 0) {
+    			postSearchIndex.addPost(vo);
+    			if (previousCategory != null) {
+    				postCountCache.postMoved(previousCategory, vo.getCategory_id());
+    			}
+    		}
+    		return result;
+    	});
     }
     
     public int deletePost(int post_id) {
-    	return mybatis.delete("postRepository.deletePost", post_id);
+    	return postCountCache.guardWrite(() -> {
+    		Integer category = mybatis.selectOne("postRepository.findPostCategoryId", post_id);
+    		int result = mybatis.delete("postRepository.deletePost", post_id);
+    		if (result > 0) {
+    			postSearchIndex.removePost(post_id);
+    			postViewCounter.removePost(post_id);
+    			if (category != null) {
+    				postCountCache.postDeleted(category);
+    			}
+    		}
+    		return result;
+    	});
     }
 
     public List<PostsDTO> findByDate(@Param("date") String date){
-        return mybatis.selectList("postRepository.findByDate", date);
+        return withPendingViews(mybatis.selectList("postRepository.findByDate", date));
+    }
+
+    /* 아직 DB에 반영되지 않은 조회수 증가분을 더해 반환 */
+    private List<PostsDTO> withPendingViews(List<PostsDTO> posts) {
+        postViewCounter.applyPendingViews(posts);
+        return posts;
     }
 
 }
@@ -1,5 +1,6 @@
 package com.spring.project.service;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -13,13 +14,18 @@ import com.spring.project.dto.challenge.ChallengeCategoryDTO;
 public interface ChallengeService {
 
     /**
-     * 🎯 챌린지 페이지용 데이터 조회 (필터링 지원)
+     * 🎯 챌린지 페이지용 데이터 조회 (필터링 + 키셋 페이지네이션 지원)
      * @param difficulty 난이도 필터 ("all", "beginner", "intermediate", "advanced")
      * @param category 카테고리 필터 ("all", "algorithm", "web", 등)
      * @param language 언어 필터 ("all", "Java", "Python", 등)
+     * @param cursor 이전 페이지의 마지막 challenge_id (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @param userId 로그인 사용자 ID (비로그인은 null, 해결/시도 상태 표시용)
+     * @param unsolvedOnly true면 사용자가 해결한 챌린지 제외
      * @return 필터링된 챌린지 관련 데이터
      */
-    Map<String, Object> getAllChallengesForPage(String difficulty, String category, String language);
+    Map<String, Object> getAllChallengesForPage(String difficulty, String category, String language, Integer cursor, Integer size,
+                                                Integer userId, boolean unsolvedOnly);
 
     /**
      * 전체 챌린지 목록을 조회합니다 (필터링 없음)
@@ -103,4 +109,42 @@ public interface ChallengeService {
      * @return 삭제 성공 여부
      */
     boolean deleteChallenge(Integer challengeId);
-}
\ No newline at end of file
+
+    /**
+     * 🎯 챌린지 제목/본문 전문 검색
+     * @param query 검색어
+     * @param limit 최대 결과 수 (null이면 기본값)
+     * @return 검색 결과 (query, results, count, tookMillis)
+     */
+    Map<String, Object> searchChallenges(String query, Integer limit);
+
+    /**
+     * 🎯 사용자에게 다음으로 풀 챌린지를 추천합니다 (미해결 챌린지만)
+     * @param userId 사용자 ID
+     * @param limit 최대 개수 (null이면 기본값)
+     * @return 추천 결과 (recommendations, targetLevel, count, tookMillis)
+     */
+    Map<String, Object> getRecommendedChallenges(int userId, Integer limit);
+
+    /**
+     * 🎯 Elo 레이팅 기반 추천 난이도 중 현재 난이도와 다른 챌린지를 조회합니다 (관리자 검토용)
+     * @param refresh true면 지금 다시 계산
+     * @return suggestions, count, generatedAt
+     */
+    Map<String, Object> getLevelSuggestions(boolean refresh);
+
+    /**
+     * 🎯 JSON 배열 또는 NDJSON 으로 받은 챌린지를 일괄 등록합니다 (관리자용)
+     * 본문을 한 행씩 읽어 청크 단위 트랜잭션으로 등록하며, 잘못된 행은 건너뛰고 오류로 보고합니다.
+     * @param body 요청 본문 스트림
+     * @return total, inserted, failed, errors, chunks, tookMillis
+     */
+    Map<String, Object> importChallenges(InputStream body);
+
+    /**
+     * 🎯 클라이언트가 캐시한 챌린지 카탈로그를 since 이후 변경분으로 동기화합니다
+     * @param since 클라이언트가 마지막으로 받은 version (없으면 0)
+     * @return version, fullResync, hasMore, challenges, deletedChallengeIds (+ 바뀐 경우 levels, categories, languages)
+     */
+    Map<String, Object> getChallengeChanges(long since);
+}
@@ -0,0 +1,60 @@
+package com.spring.project.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import com.spring.project.dto.challenge.ChallengeSubmitDTO;
+import com.spring.project.dto.challenge.ChallengeTestCaseDTO;
+import com.spring.project.grading.GradingJob;
+
+/**
+ * 챌린지 제출 코드 채점을 처리하는 서비스 인터페이스
+ */
+public interface GradingService {
+
+    /**
+     * 🎯 제출 코드를 채점 대기열에 넣습니다
+     * 채점이 끝나면 결과를 Challenge_sub 에 기록합니다.
+     * @param challengeId 챌린지 ID
+     * @param userId 제출한 사용자 ID
+     * @param submitDTO 제출 코드와 언어
+     * @return 대기열에 들어간 채점 작업 (챌린지가 없으면 null)
+     * @throws com.spring.project.grading.GradingQueueFullException 대기열이 가득 찬 경우
+     */
+    GradingJob submitChallenge(Integer challengeId, int userId, ChallengeSubmitDTO submitDTO);
+
+    /**
+     * 🎯 사용자 본인의 채점 작업을 조회합니다
+     * @param jobId 작업 ID
+     * @param userId 조회하는 사용자 ID
+     * @return 채점 작업 (없거나 다른 사용자의 작업이면 null)
+     */
+    GradingJob getJob(String jobId, int userId);
+
+    /**
+     * 대기 중인 작업의 대기열 내 순번을 조회합니다
+     * @return 순번 (0부터, 대기 중이 아니면 -1)
+     */
+    int getQueuePosition(GradingJob job);
+
+    /**
+     * 채점 대기열 지표(대기열 깊이, 대기 시간, 실행 시간)를 조회합니다
+     */
+    Map<String, Object> getQueueMetrics();
+
+    /**
+     * 🎯 챌린지의 테스트 케이스를 저장합니다 (기존 케이스는 모두 대체)
+     * 저장된 케이스가 없는 챌린지는 Challenges.correct 를 기대 출력으로 하는 케이스 1개로 채점합니다.
+     * @param challengeId 챌린지 ID
+     * @param testCases 입력/기대 출력 목록 (1개 이상)
+     * @return 저장된 케이스 수 (챌린지가 없으면 -1)
+     */
+    int saveTestCases(Integer challengeId, List<ChallengeTestCaseDTO> testCases) throws IOException;
+
+    /**
+     * 챌린지의 테스트 케이스 요약(개수, 지문, 저장 여부)을 조회합니다
+     * @return 요약 (챌린지가 없으면 null)
+     */
+    Map<String, Object> getTestCaseSummary(Integer challengeId) throws IOException;
+}
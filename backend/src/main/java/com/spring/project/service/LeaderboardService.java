@@ -0,0 +1,34 @@
+package com.spring.project.service;
+
+import java.util.Map;
+
+import com.spring.project.dto.user.LeaderboardEntryDTO;
+
+/**
+ * 경험치 리더보드 조회 서비스 인터페이스
+ */
+public interface LeaderboardService {
+
+    /**
+     * 🎯 경험치 순위 구간을 조회합니다
+     * @param offset 시작 위치 (0부터, null 이면 0)
+     * @param limit 최대 개수 (null 이면 기본값, 최대값으로 제한)
+     * @return entries, total, offset, limit
+     */
+    Map<String, Object> getLeaderboard(Integer offset, Integer limit);
+
+    /**
+     * 🎯 사용자의 경험치 순위를 조회합니다
+     * @param userId 사용자 ID
+     * @return 순위 항목
+     */
+    LeaderboardEntryDTO getMyRank(int userId);
+
+    /**
+     * 🎯 기간별(일간/주간/월간) 경험치 상위 순위를 조회합니다
+     * @param window "daily", "weekly", "monthly"
+     * @param limit 최대 개수 (null 이면 기본값, 최대값으로 제한)
+     * @return window, days, entries, limit (알 수 없는 기간이면 null)
+     */
+    Map<String, Object> getRollingLeaderboard(String window, Integer limit);
+}
@@ -5,6 +5,7 @@ import com.spring.project.dto.post.PostsDTO;
 import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
+import java.util.Map;
 
 public interface PostService {
 
@@ -14,9 +15,11 @@ public interface PostService {
 
     public String findNicknameByUserId(int user_id);
 
+    public Map<Integer, String> findNicknamesByUserIds(List<Integer> userIds);
+
     public PostsDTO findPostById(int post_id);
 
-    public void increaseView(int post_id);
+    public boolean increaseView(int post_id, String viewerKey);
 
 /*    public List<PostsDTO> findPostsByPaging(int page, int size);*/
 
@@ -29,6 +32,12 @@ public interface PostService {
     List<PostsDTO> findPostsByPaging(int page, int size, Integer category, String keyword);
 
     int getTotalPostCount(Integer category, String keyword);
+
+    /* 커서 페이징: posts, nextCursor(다음 페이지 토큰, 마지막이면 null), hasMore */
+    Map<String, Object> findPostsByCursor(String cursor, int size, Integer category, String keyword);
+
+    /* 검색 색인(BM25) 검색: posts(점수 순 page 구간), totalCount(전체 일치 개수) */
+    Map<String, Object> searchPosts(String keyword, Integer category, int page, int size);
     
     public int insertPost(PostsDTO vo);
     
@@ -1,15 +1,31 @@
 package com.spring.project.service.impl;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.HashSet;
 import java.util.Set;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.spring.project.cache.ChallengeCatalog;
+import com.spring.project.cache.ChallengeChangeFeed;
+import com.spring.project.cache.ChallengeRatingEngine;
+import com.spring.project.cache.ChallengeRecommender;
+import com.spring.project.cache.ChallengeSearchIndex;
 import com.spring.project.dto.challenge.ChallengeDTO;
+import com.spring.project.dto.challenge.ChallengeDetailDTO;
+import com.spring.project.dto.challenge.ChallengeLevelSuggestionDTO;
+import com.spring.project.dto.challenge.ChallengeSearchResultDTO;
 import com.spring.project.dto.challenge.ChallengeLevelDTO;
 import com.spring.project.dto.challenge.ChallengeCategoryDTO;
 import com.spring.project.repository.ChallengeRepository;
@@ -22,23 +38,61 @@ import com.spring.project.service.ChallengeService;
 @Service("challengeService")
 public class ChallengeServiceImpl implements ChallengeService {
 
+    /** 검색 결과 기본/최대 개수 */
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+    private static final int MAX_SEARCH_LIMIT = 50;
+
+    /** 추천 결과 기본/최대 개수 */
+    private static final int DEFAULT_RECOMMEND_LIMIT = 5;
+    private static final int MAX_RECOMMEND_LIMIT = 20;
+
+    /** 대량 등록 시 한 트랜잭션(배치)으로 묶는 행 수 */
+    private static final int IMPORT_CHUNK_SIZE = 500;
+
+    /** 대량 등록 응답에 담는 최대 오류 수 (나머지는 failed 개수로만 보고) */
+    private static final int MAX_IMPORT_ERRORS = 200;
+
+    /** 대량 등록 본문 파서 (알 수 없는 필드는 무시) */
+    private static final ObjectMapper IMPORT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
     @Autowired
     private ChallengeRepository challengeRepository;
 
+    @Autowired
+    private ChallengeCatalog challengeCatalog;
+
+    @Autowired
+    private ChallengeChangeFeed challengeChangeFeed;
+
+    @Autowired
+    private ChallengeSearchIndex challengeSearchIndex;
+
+    @Autowired
+    private ChallengeRecommender challengeRecommender;
+
+    @Autowired
+    private ChallengeRatingEngine challengeRatingEngine;
+
     /**
      * 🎯 챌린지 페이지용 데이터 조회 (필터링 지원)
      * @param difficulty 난이도 필터
      * @param category 카테고리 필터  
      * @param language 언어 필터
+     * @param cursor 이전 페이지의 마지막 challenge_id
+     * @param size 페이지 크기
+     * @param userId 로그인 사용자 ID (비로그인은 null)
+     * @param unsolvedOnly true면 사용자가 해결한 챌린지 제외
      * @return 필터링된 챌린지 관련 데이터
      */
     @Override
-    public Map<String, Object> getAllChallengesForPage(String difficulty, String category, String language) {
+    public Map<String, Object> getAllChallengesForPage(String difficulty, String category, String language, Integer cursor, Integer size,
+                                                       Integer userId, boolean unsolvedOnly) {
         try {
             System.out.println("🎯 챌린지 페이지 데이터 조회 시작 - difficulty: " + difficulty + ", category: " + category + ", language: " + language);
 
-            // 🎯 필터 파라미터와 함께 데이터 조회
-            Map<String, Object> challengeInfoMap = challengeRepository.findAllChallengesForPage(difficulty, category, language);
+            // 🎯 필터 + 페이지 파라미터와 함께 데이터 조회
+            Map<String, Object> challengeInfoMap = challengeRepository.findAllChallengesForPage(difficulty, category, language, cursor, size, userId, unsolvedOnly);
 
             List<ChallengeDTO> challengeList = (List<ChallengeDTO>) challengeInfoMap.get("challengeList");
             List<ChallengeLevelDTO> levelsList = (List<ChallengeLevelDTO>) challengeInfoMap.get("levelsList");
@@ -136,7 +190,7 @@ public class ChallengeServiceImpl implements ChallengeService {
     @Override
     public List<ChallengeLevelDTO> getAllLevels() {
         try {
-            List<ChallengeLevelDTO> levels = challengeRepository.findAllLevels();
+            List<ChallengeLevelDTO> levels = challengeCatalog.snapshot().getLevels();
             System.out.println("난이도 목록 조회 성공: " + levels.size() + "개");
             return levels;
         } catch (Exception e) {
@@ -153,7 +207,7 @@ public class ChallengeServiceImpl implements ChallengeService {
     @Override
     public List<ChallengeCategoryDTO> getAllCategories() {
         try {
-            List<ChallengeCategoryDTO> categories = challengeRepository.findAllCategories();
+            List<ChallengeCategoryDTO> categories = challengeCatalog.snapshot().getCategories();
             System.out.println("카테고리 목록 조회 성공: " + categories.size() + "개");
             return categories;
         } catch (Exception e) {
@@ -235,20 +289,17 @@ public class ChallengeServiceImpl implements ChallengeService {
         try {
             System.out.println("🎯 챌린지 상세 조회 시작 - ID: " + challengeId);
 
-            // 1. 챌린지 기본 정보 조회
-            ChallengeDTO challenge = challengeRepository.findChallengeById(challengeId);
-            if (challenge == null) {
+            // 1~3. 챌린지 + 난이도 + 카테고리를 JOIN 한 번으로 조회
+            ChallengeDetailDTO detail = challengeRepository.findChallengeDetailById(challengeId);
+            if (detail == null || detail.getChallenge() == null) {
                 System.out.println("해당 ID의 챌린지를 찾을 수 없습니다: " + challengeId);
                 return null;
             }
+            ChallengeDTO challenge = detail.getChallenge();
+            ChallengeLevelDTO level = detail.getLevel();
+            ChallengeCategoryDTO category = detail.getCategory();
 
-            // 2. 난이도 정보 조회
-            ChallengeLevelDTO level = challengeRepository.findLevelById(challenge.getLevel_id());
-
-            // 3. 카테고리 정보 조회
-            ChallengeCategoryDTO category = challengeRepository.findCategoryById(challenge.getCategory_id());
-
-            // 4. 통계 정보 조회 (제출수, 정답수, 정답률)
+            // 4. 통계 정보 조회 (통계 엔진, DB I/O 없음)
             Map<String, Object> statistics = challengeRepository.getChallengeStatistics(challengeId);
 
             // 5. 결과 맵 구성
@@ -304,7 +355,7 @@ public class ChallengeServiceImpl implements ChallengeService {
     @Override
     public List<ChallengeLevelDTO> getAllChallengeLevels() {
         try {
-            List<ChallengeLevelDTO> levels = challengeRepository.findAllLevels();
+            List<ChallengeLevelDTO> levels = challengeCatalog.snapshot().getLevels();
             System.out.println("레벨 목록 조회 성공 (등록용): " + levels.size() + "개");
             return levels;
         } catch (Exception e) {
@@ -321,7 +372,7 @@ public class ChallengeServiceImpl implements ChallengeService {
     @Override
     public List<ChallengeCategoryDTO> getAllChallengeCategories() {
         try {
-            List<ChallengeCategoryDTO> categories = challengeRepository.findAllCategories();
+            List<ChallengeCategoryDTO> categories = challengeCatalog.snapshot().getCategories();
             System.out.println("카테고리 목록 조회 성공 (등록용): " + categories.size() + "개");
             return categories;
         } catch (Exception e) {
@@ -338,7 +389,7 @@ public class ChallengeServiceImpl implements ChallengeService {
     @Override
     public List<String> getAllChallengeLanguages() {
         try {
-            List<String> languages = challengeRepository.findAllLanguages();
+            List<String> languages = challengeCatalog.snapshot().getLanguages();
             System.out.println("언어 목록 조회 성공 (등록용): " + languages.size() + "개");
             return languages;
         } catch (Exception e) {
@@ -374,4 +425,230 @@ public class ChallengeServiceImpl implements ChallengeService {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 🎯 챌린지 제목/본문 전문 검색 (인메모리 n-gram 색인 사용, DB 조회 없음)
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 검색 결과 (query, results, count, tookMillis)
+     */
+    @Override
+    public Map<String, Object> searchChallenges(String query, Integer limit) {
+        int resolvedLimit = limit == null || limit <= 0 ? DEFAULT_SEARCH_LIMIT : Math.min(limit, MAX_SEARCH_LIMIT);
+        String trimmedQuery = query == null ? "" : query.trim();
+
+        long start = System.nanoTime();
+        List<ChallengeSearchResultDTO> results = challengeSearchIndex.search(trimmedQuery, resolvedLimit);
+        long tookMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println("🔍 챌린지 검색 - 검색어: " + trimmedQuery + ", 결과: " + results.size() + "개 (" + tookMillis + "ms)");
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("query", trimmedQuery);
+        result.put("results", results);
+        result.put("count", results.size());
+        result.put("tookMillis", tookMillis);
+        return result;
+    }
+
+    /**
+     * 🎯 사용자에게 다음으로 풀 챌린지를 추천합니다
+     * 등급 기반 목표 난이도, 카테고리/언어 약점, 전체 정답률로 점수를 매깁니다 (인메모리 인덱스만 사용)
+     * @param userId 사용자 ID
+     * @param limit 최대 개수
+     * @return 추천 결과 (recommendations, targetLevel, count, tookMillis)
+     */
+    @Override
+    public Map<String, Object> getRecommendedChallenges(int userId, Integer limit) {
+        int resolvedLimit = limit == null || limit <= 0 ? DEFAULT_RECOMMEND_LIMIT : Math.min(limit, MAX_RECOMMEND_LIMIT);
+
+        long start = System.nanoTime();
+        ChallengeRecommender.Recommendation recommendation = challengeRecommender.recommend(userId, resolvedLimit);
+        double tookMillis = (System.nanoTime() - start) / 10_000 / 100.0;
+
+        System.out.println("🎯 챌린지 추천 - userId: " + userId + ", 결과: " + recommendation.getChallenges().size() + "개 (" + tookMillis + "ms)");
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("recommendations", recommendation.getChallenges());
+        result.put("targetLevel", recommendation.getTargetLevel());
+        result.put("count", recommendation.getChallenges().size());
+        result.put("tookMillis", tookMillis);
+        return result;
+    }
+
+    /**
+     * 🎯 Elo 레이팅 기반 추천 난이도를 조회합니다 (관리자 검토용)
+     * @param refresh true면 지금 다시 계산 (기본은 매일 새벽 계산된 결과)
+     * @return suggestions, count, generatedAt
+     */
+    @Override
+    public Map<String, Object> getLevelSuggestions(boolean refresh) {
+        List<ChallengeLevelSuggestionDTO> suggestions = refresh
+                ? challengeRatingEngine.recomputeSuggestions()
+                : challengeRatingEngine.getSuggestions();
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("suggestions", suggestions);
+        result.put("count", suggestions.size());
+        result.put("generatedAt", String.valueOf(challengeRatingEngine.getSuggestionsGeneratedAt()));
+        return result;
+    }
+
+    /**
+     * 🎯 since 이후 챌린지 카탈로그 변경분을 조회합니다
+     * 난이도/카테고리/언어 목록은 바뀐 경우에만 담아 보통은 수백 바이트 이내로 응답합니다.
+     */
+    @Override
+    public Map<String, Object> getChallengeChanges(long since) {
+        ChallengeChangeFeed.ChangeSet changes = challengeChangeFeed.changesSince(since);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("version", changes.getVersion());
+        result.put("fullResync", changes.isFullResync());
+        result.put("hasMore", changes.isHasMore());
+        result.put("challenges", changes.getChallenges());
+        result.put("deletedChallengeIds", changes.getDeletedChallengeIds());
+        if (changes.getLevels() != null) {
+            result.put("levels", changes.getLevels());
+        }
+        if (changes.getCategories() != null) {
+            result.put("categories", changes.getCategories());
+        }
+        if (changes.getLanguages() != null) {
+            result.put("languages", changes.getLanguages());
+        }
+        return result;
+    }
+
+    /**
+     * 🎯 JSON 배열 또는 NDJSON 본문의 챌린지를 일괄 등록합니다
+     * 본문 전체를 메모리에 올리지 않고 한 행씩 읽어 IMPORT_CHUNK_SIZE 개마다 배치 INSERT 트랜잭션으로 등록합니다.
+     * 검증/매핑/INSERT 에 실패한 행은 행 번호와 함께 오류로 남기고 나머지 행은 계속 등록합니다.
+     * JSON 문법 오류를 만나면 그 뒤는 읽을 수 없으므로 거기까지 등록하고 중단합니다.
+     */
+    @Override
+    public Map<String, Object> importChallenges(InputStream body) {
+        long start = System.currentTimeMillis();
+        ChallengeCatalog.Snapshot catalog = challengeCatalog.snapshot();
+
+        List<Map<String, Object>> errors = new ArrayList<>();
+        List<ChallengeDTO> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        List<Integer> chunkRows = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        int[] counts = new int[3]; // [등록, 실패, 청크]
+        int row = 0;
+        boolean aborted = false;
+
+        try (MappingIterator<JsonNode> rows = IMPORT_MAPPER.readerFor(JsonNode.class).readValues(body)) {
+            while (true) {
+                JsonNode node;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    node = rows.nextValue();
+                } catch (IOException e) {
+                    addImportError(errors, counts, row + 1, null, "JSON 파싱 오류로 이후 행을 읽지 못했습니다: " + e.getMessage());
+                    aborted = true;
+                    break;
+                }
+                row++;
+
+                ChallengeDTO challenge;
+                try {
+                    challenge = IMPORT_MAPPER.treeToValue(node, ChallengeDTO.class);
+                } catch (IOException | IllegalArgumentException e) {
+                    addImportError(errors, counts, row, null, "챌린지 형식이 아닙니다: " + e.getMessage());
+                    continue;
+                }
+                String invalid = validateImportRow(challenge, catalog);
+                if (invalid != null) {
+                    addImportError(errors, counts, row, challenge.getChallenge_title(), invalid);
+                    continue;
+                }
+
+                challenge.setChallenge_id(0);
+                chunk.add(challenge);
+                chunkRows.add(row);
+                if (chunk.size() >= IMPORT_CHUNK_SIZE) {
+                    insertImportChunk(chunk, chunkRows, errors, counts);
+                }
+            }
+        } catch (IOException e) {
+            addImportError(errors, counts, row + 1, null, "요청 본문을 읽지 못했습니다: " + e.getMessage());
+            aborted = true;
+        }
+        insertImportChunk(chunk, chunkRows, errors, counts);
+
+        long tookMillis = System.currentTimeMillis() - start;
+        System.out.println("📦 챌린지 일괄 등록 완료: " + row + "행 중 등록 " + counts[0] + "개, 실패 " + counts[1]
+                + "개, 청크 " + counts[2] + "개 (" + tookMillis + "ms)");
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("total", row);
+        result.put("inserted", counts[0]);
+        result.put("failed", counts[1]);
+        result.put("errors", errors);
+        result.put("chunks", counts[2]);
+        result.put("aborted", aborted);
+        result.put("tookMillis", tookMillis);
+        return result;
+    }
+
+    /** 모인 청크를 배치로 등록하고 행별 결과를 집계한 뒤 비웁니다 */
+    private void insertImportChunk(List<ChallengeDTO> chunk, List<Integer> chunkRows,
+                                   List<Map<String, Object>> errors, int[] counts) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<String> rowErrors = challengeRepository.insertChallengesBatch(chunk);
+        for (int i = 0; i < chunk.size(); i++) {
+            if (rowErrors.get(i) == null) {
+                counts[0]++;
+            } else {
+                addImportError(errors, counts, chunkRows.get(i), chunk.get(i).getChallenge_title(), rowErrors.get(i));
+            }
+        }
+        counts[2]++;
+        chunk.clear();
+        chunkRows.clear();
+    }
+
+    /** 필수 항목과 난이도/카테고리 존재 여부 검사 (문제가 없으면 null) */
+    private static String validateImportRow(ChallengeDTO challenge, ChallengeCatalog.Snapshot catalog) {
+        if (challenge == null) {
+            return "빈 행입니다.";
+        }
+        if (isBlank(challenge.getChallenge_title())) {
+            return "challenge_title 이 비어 있습니다.";
+        }
+        if (isBlank(challenge.getContent())) {
+            return "content 가 비어 있습니다.";
+        }
+        if (isBlank(challenge.getLanguage())) {
+            return "language 가 비어 있습니다.";
+        }
+        if (catalog.getLevel(challenge.getLevel_id()) == null) {
+            return "존재하지 않는 level_id 입니다: " + challenge.getLevel_id();
+        }
+        if (catalog.getCategory(challenge.getCategory_id()) == null) {
+            return "존재하지 않는 category_id 입니다: " + challenge.getCategory_id();
+        }
+        return null;
+    }
+
+    private static void addImportError(List<Map<String, Object>> errors, int[] counts, int row, String title, String message) {
+        counts[1]++;
+        if (errors.size() >= MAX_IMPORT_ERRORS) {
+            return;
+        }
+        Map<String, Object> error = new HashMap<>();
+        error.put("row", row);
+        error.put("title", title);
+        error.put("error", message);
+        errors.add(error);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
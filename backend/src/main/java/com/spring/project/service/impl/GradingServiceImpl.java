@@ -0,0 +1,201 @@
+package com.spring.project.service.impl;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.spring.project.cache.ChallengeCatalog;
+import com.spring.project.dto.challenge.ChallengeDTO;
+import com.spring.project.dto.challenge.ChallengeLevelDTO;
+import com.spring.project.dto.challenge.ChallengeSubDTO;
+import com.spring.project.dto.challenge.ChallengeSubmitDTO;
+import com.spring.project.dto.challenge.ChallengeTestCaseDTO;
+import com.spring.project.dto.challenge.GradingResultDTO;
+import com.spring.project.grading.GradingCache;
+import com.spring.project.grading.GradingJob;
+import com.spring.project.grading.GradingQueue;
+import com.spring.project.grading.JavaGrader;
+import com.spring.project.grading.TestCase;
+import com.spring.project.grading.TestCaseSet;
+import com.spring.project.grading.TestCaseStore;
+import com.spring.project.grading.Verdict;
+import com.spring.project.repository.ChallengeRepository;
+import com.spring.project.service.GradingService;
+
+/**
+ * 채점 서비스 구현체
+ * 제출 코드를 채점 대기열에 넣고, 워커 스레드에서 채점한 뒤 판정을 Challenge_sub 에 기록하고 첫 통과 시 경험치를 지급합니다.
+ */
+@Service("gradingService")
+public class GradingServiceImpl implements GradingService {
+
+    @Autowired
+    private ChallengeRepository challengeRepository;
+
+    @Autowired
+    private ChallengeCatalog challengeCatalog;
+
+    @Autowired
+    private JavaGrader javaGrader;
+
+    @Autowired
+    private GradingQueue gradingQueue;
+
+    @Autowired
+    private GradingCache gradingCache;
+
+    @Autowired
+    private TestCaseStore testCaseStore;
+
+    @Override
+    public GradingJob submitChallenge(Integer challengeId, int userId, ChallengeSubmitDTO submitDTO) {
+        ChallengeDTO challenge = challengeRepository.findChallengeById(challengeId);
+        if (challenge == null) {
+            return null;
+        }
+
+        GradingJob job = gradingQueue.enqueue(challengeId, userId, () -> gradeAndRecord(challenge, userId, submitDTO));
+        System.out.println("🎯 채점 대기열 등록 - jobId: " + job.getJobId() + ", challengeId: " + challengeId + ", userId: " + userId);
+        return job;
+    }
+
+    @Override
+    public GradingJob getJob(String jobId, int userId) {
+        GradingJob job = gradingQueue.getJob(jobId);
+        if (job == null || job.getUserId() != userId) {
+            return null;
+        }
+        return job;
+    }
+
+    @Override
+    public int getQueuePosition(GradingJob job) {
+        return gradingQueue.getPosition(job);
+    }
+
+    @Override
+    public Map<String, Object> getQueueMetrics() {
+        Map<String, Object> metrics = gradingQueue.getMetrics();
+        metrics.put("cache", gradingCache.getStatistics());
+        metrics.put("testCases", testCaseStore.getStatistics());
+        return metrics;
+    }
+
+    @Override
+    public int saveTestCases(Integer challengeId, List<ChallengeTestCaseDTO> testCases) throws IOException {
+        if (challengeRepository.findChallengeById(challengeId) == null) {
+            return -1;
+        }
+        List<TestCase> cases = new ArrayList<>(testCases.size());
+        for (ChallengeTestCaseDTO testCase : testCases) {
+            byte[] input = testCase.getInput() != null ? testCase.getInput().getBytes(StandardCharsets.UTF_8) : new byte[0];
+            cases.add(new TestCase(input, testCase.getOutput()));
+        }
+        testCaseStore.save(challengeId, cases);
+        return cases.size();
+    }
+
+    @Override
+    public Map<String, Object> getTestCaseSummary(Integer challengeId) throws IOException {
+        ChallengeDTO challenge = challengeRepository.findChallengeById(challengeId);
+        if (challenge == null) {
+            return null;
+        }
+        TestCaseSet stored = testCaseStore.load(challengeId);
+        TestCaseSet testCases = stored != null ? stored : fallbackTestCases(challenge);
+
+        long totalInputBytes = 0;
+        for (TestCase testCase : testCases.getCases()) {
+            totalInputBytes += testCase.getInputSize();
+        }
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("challengeId", challengeId);
+        summary.put("stored", stored != null);
+        summary.put("count", testCases.size());
+        summary.put("totalInputBytes", totalInputBytes);
+        summary.put("fingerprint", testCases.getFingerprint());
+        return summary;
+    }
+
+    /**
+     * 채점 워커에서 실행: 채점 후 판정을 기록합니다
+     */
+    private GradingResultDTO gradeAndRecord(ChallengeDTO challenge, int userId, ChallengeSubmitDTO submitDTO) {
+        String language = submitDTO.getLanguage() != null ? submitDTO.getLanguage() : challenge.getLanguage();
+        GradingResultDTO result;
+        if (!"java".equalsIgnoreCase(language) || !"java".equalsIgnoreCase(challenge.getLanguage())) {
+            result = failure(Verdict.UNSUPPORTED_LANGUAGE, language);
+        } else if (submitDTO.getCode() == null || submitDTO.getCode().trim().isEmpty()) {
+            result = failure(Verdict.COMPILE_ERROR, "제출된 코드가 없습니다.");
+        } else {
+            result = gradeJava(challenge, submitDTO.getCode());
+        }
+        result.setChallenge_id(challenge.getChallenge_id());
+
+        if (Verdict.valueOf(result.getVerdict()).isRecordable()) {
+            record(challenge, userId, submitDTO.getCode(), result);
+        }
+
+        System.out.println("🎯 채점 완료 - challengeId: " + challenge.getChallenge_id() + ", userId: " + userId + ", 결과: " + result);
+        return result;
+    }
+
+    /**
+     * 판정을 Challenge_sub 에 기록하고, 첫 통과라면 난이도 보상 경험치를 지급합니다
+     * 첫 통과 여부 확인과 지급은 저장소에서 한 트랜잭션으로 처리합니다 (동시 통과 제출의 중복 지급 방지).
+     */
+    private void record(ChallengeDTO challenge, int userId, String code, GradingResultDTO result) {
+        int firstPassExp = 0;
+        if (result.isPass()) {
+            ChallengeLevelDTO level = challengeCatalog.snapshot().getLevel(challenge.getLevel_id());
+            firstPassExp = level != null ? level.getExp() : 0;
+        }
+
+        ChallengeSubDTO sub = new ChallengeSubDTO();
+        sub.setChallenge_id(challenge.getChallenge_id());
+        sub.setUser_id(userId);
+        sub.setCorrect_answer(result.getOutput() != null ? result.getOutput() : "");
+        sub.setCorrect_code(code);
+        sub.setPass(result.isPass());
+        int expCount = challengeRepository.recordGradedSubmission(sub, firstPassExp);
+
+        result.setChallenge_sub_id(sub.getChallenge_sub_id());
+        result.setExp_count(expCount);
+    }
+
+    /**
+     * 저장된 테스트 케이스로 채점합니다 (없으면 Challenges.correct 로 만든 케이스 1개)
+     */
+    private GradingResultDTO gradeJava(ChallengeDTO challenge, String code) {
+        TestCaseSet testCases;
+        try {
+            testCases = testCaseStore.load(challenge.getChallenge_id());
+        } catch (IOException e) {
+            System.err.println("테스트 케이스 로드 오류 - challengeId: " + challenge.getChallenge_id() + ", " + e.getMessage());
+            return failure(Verdict.SYSTEM_ERROR, "테스트 케이스를 불러올 수 없습니다.");
+        }
+        if (testCases == null) {
+            testCases = fallbackTestCases(challenge);
+        }
+        return javaGrader.grade(challenge.getChallenge_id(), code, testCases);
+    }
+
+    private TestCaseSet fallbackTestCases(ChallengeDTO challenge) {
+        return TestCaseSet.of(List.of(TestCase.outputOnly(challenge.getCorrect())));
+    }
+
+    private GradingResultDTO failure(Verdict verdict, String detail) {
+        GradingResultDTO result = new GradingResultDTO();
+        result.setVerdict(verdict.name());
+        result.setPass(false);
+        result.setMessage(verdict.getMessage());
+        result.setDetail(detail);
+        return result;
+    }
+}
@@ -0,0 +1,66 @@
+package com.spring.project.service.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.spring.project.cache.ExperienceLeaderboard;
+import com.spring.project.cache.RollingLeaderboard;
+import com.spring.project.dto.user.LeaderboardEntryDTO;
+import com.spring.project.service.LeaderboardService;
+
+/**
+ * 경험치 리더보드 서비스 구현체
+ * 모든 조회는 인메모리 리더보드 인덱스(전체 기간, 기간별)에서 처리합니다.
+ */
+@Service("leaderboardService")
+public class LeaderboardServiceImpl implements LeaderboardService {
+
+    /** 리더보드 한 페이지의 기본 크기 */
+    public static final int DEFAULT_LIMIT = 20;
+
+    /** 리더보드 한 페이지의 최대 크기 */
+    public static final int MAX_LIMIT = 100;
+
+    @Autowired
+    private ExperienceLeaderboard experienceLeaderboard;
+
+    @Autowired
+    private RollingLeaderboard rollingLeaderboard;
+
+    @Override
+    public Map<String, Object> getLeaderboard(Integer offset, Integer limit) {
+        int start = offset != null && offset > 0 ? offset : 0;
+        int size = limit != null && limit > 0 ? Math.min(limit, MAX_LIMIT) : DEFAULT_LIMIT;
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("entries", experienceLeaderboard.getPage(start, size));
+        result.put("total", experienceLeaderboard.getSize());
+        result.put("offset", start);
+        result.put("limit", size);
+        return result;
+    }
+
+    @Override
+    public LeaderboardEntryDTO getMyRank(int userId) {
+        return experienceLeaderboard.getRank(userId);
+    }
+
+    @Override
+    public Map<String, Object> getRollingLeaderboard(String window, Integer limit) {
+        RollingLeaderboard.Window rollingWindow = RollingLeaderboard.Window.from(window);
+        if (rollingWindow == null) {
+            return null;
+        }
+        int size = limit != null && limit > 0 ? Math.min(limit, RollingLeaderboard.MAX_TOP) : DEFAULT_LIMIT;
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("window", rollingWindow.name().toLowerCase());
+        result.put("days", rollingWindow.getDays());
+        result.put("entries", rollingLeaderboard.getTop(rollingWindow, size));
+        result.put("limit", size);
+        return result;
+    }
+}
@@ -1,5 +1,6 @@
 package com.spring.project.service.impl;
 
+import com.spring.project.cache.PostSearchIndex;
 import com.spring.project.dto.post.PostCategoryDTO;
 import com.spring.project.dto.post.PostsDTO;
 import com.spring.project.repository.PostRepository;
@@ -9,8 +10,14 @@ import org.apache.ibatis.annotations.Param;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service("PostService")
 public class PostServiceImpl implements PostService {
@@ -33,14 +40,19 @@ public class PostServiceImpl implements PostService {
         return postRepository.findNicknameByUserId(user_id);
     }
 
+    @Override
+    public Map<Integer, String> findNicknamesByUserIds(List<Integer> userIds) {
+        return postRepository.findNicknamesByUserIds(userIds);
+    }
+
     @Override
     public PostsDTO findPostById(int post_id) {
         return postRepository.findPostById(post_id);
     }
 
     @Override
-    public void increaseView(int post_id) {
-        postRepository.increaseView(post_id);
+    public boolean increaseView(int post_id, String viewerKey) {
+        return postRepository.increaseView(post_id, viewerKey);
     }
 /*
 
@@ -78,6 +90,67 @@ public class PostServiceImpl implements PostService {
         return postRepository.getFilteredPostCount(category, keyword);
     }
 
+    /**
+     * 커서(keyset) 페이징
+     * 마지막 게시글의 (created_at, post_id) 를 불투명 토큰으로 돌려주고, 다음 요청은 그 다음 행부터 읽습니다.
+     * size + 1 개를 읽어 다음 페이지 존재 여부를 COUNT 없이 판단합니다.
+     */
+    @Override
+    public Map<String, Object> findPostsByCursor(String cursor, int size, Integer category, String keyword) {
+        Timestamp cursorCreatedAt = null;
+        int cursorPostId = 0;
+        if (cursor != null && !cursor.isEmpty()) {
+            long[] decoded = decodeCursor(cursor);
+            cursorCreatedAt = new Timestamp(decoded[0]);
+            cursorPostId = (int) decoded[1];
+        }
+
+        List<PostsDTO> posts = postRepository.findPostsByCursor(cursorCreatedAt, cursorPostId, size + 1, category, keyword);
+        boolean hasMore = posts.size() > size;
+        if (hasMore) {
+            posts = new ArrayList<>(posts.subList(0, size));
+        }
+        PostsDTO last = posts.isEmpty() ? null : posts.get(posts.size() - 1);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("posts", posts);
+        result.put("hasMore", hasMore);
+        result.put("nextCursor", hasMore && last.getCreated_at() != null ? encodeCursor(last) : null);
+        return result;
+    }
+
+    /**
+     * 검색어 게시글 검색
+     * 메모리 역색인에서 page 구간의 post_id 와 전체 일치 개수를 구한 뒤 해당 게시글만 PK 로 조회합니다.
+     */
+    @Override
+    public Map<String, Object> searchPosts(String keyword, Integer category, int page, int size) {
+        // 아주 큰 page 로 int 가 넘쳐 음수 offset 이 되지 않도록 long 으로 계산해 자름 (결과 수보다 크면 빈 페이지)
+        int offset = (int) Math.min((long) (Math.max(page, 1) - 1) * Math.max(size, 0), Integer.MAX_VALUE);
+        PostSearchIndex.SearchResult searchResult = postRepository.searchPosts(keyword, category, offset, size);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("posts", postRepository.findPostsByIds(searchResult.getPostIds()));
+        result.put("totalCount", searchResult.getTotalCount());
+        return result;
+    }
+
+    /* "작성시각(ms):post_id" 를 URL-safe Base64 로 감싼 토큰 */
+    private static String encodeCursor(PostsDTO post) {
+        String raw = post.getCreated_at().getTime() + ":" + post.getPost_id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new long[] { Long.parseLong(raw.substring(0, separator)), Integer.parseInt(raw.substring(separator + 1)) };
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다.");
+        }
+    }
+
 	@Override
 	public int insertPost(PostsDTO vo) {
 		return postRepository.insertPost(vo);
@@ -0,0 +1,87 @@
+package com.spring.project.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * ChallengeChangeFeed: 열린 트랜잭션이 가진 빈 version 에서 멈추고, 정착된 빈 번호(롤백)는 넘어감
+ */
+public class ChallengeChangeFeedTest {
+
+    private static final String RECENT_VERSIONS = "challengeRepository.getRecentChallengeChangeVersions";
+
+    private ChallengeChangeFeed feed;
+    private StubSqlSessionTemplate mybatis;
+
+    @Before
+    public void setUp() {
+        mybatis = new StubSqlSessionTemplate();
+        feed = new ChallengeChangeFeed();
+        feed.mybatis = mybatis;
+        ChallengeCatalog catalog = new ChallengeCatalog();
+        catalog.mybatis = mybatis;
+        feed.challengeCatalog = catalog;
+        feed.maxTransactionSeconds = 300;
+    }
+
+    @Test
+    public void stopsBeforeVersionHeldByOpenTransaction() {
+        mybatis.returning(RECENT_VERSIONS, versions(10, true, 11, false, 13, false, 14, false));
+
+        assertEquals(11L, feed.stableVersion());
+        assertEquals(300, mybatis.selectParameters.get(RECENT_VERSIONS));
+    }
+
+    @Test
+    public void passesGapOlderThanMaxTransaction() {
+        mybatis.returning(RECENT_VERSIONS, versions(10, true, 12, true, 13, false));
+
+        assertEquals(13L, feed.stableVersion());
+    }
+
+    @Test
+    public void returnsZeroWithoutChanges() {
+        assertEquals(0L, feed.stableVersion());
+    }
+
+    @Test
+    public void readsChangesOnlyUpToStableVersion() {
+        Map<String, Object> bounds = new HashMap<>();
+        bounds.put("min_version", 1L);
+        Map<String, Object> change = new HashMap<>();
+        change.put("version", 10L);
+        change.put("entity_type", "challenge");
+        change.put("entity_id", 7);
+        change.put("op", "delete");
+        mybatis.returning("challengeRepository.getChallengeChangeBounds", Collections.singletonList(bounds))
+                .returning(RECENT_VERSIONS, versions(10, true, 12, false))
+                .returning("challengeRepository.getChallengeChanges", Collections.singletonList(change));
+
+        ChallengeChangeFeed.ChangeSet changes = feed.changesSince(5);
+        assertEquals(10L, changes.getVersion());
+        assertEquals(Collections.singletonList(7), changes.getDeletedChallengeIds());
+        assertEquals(10L, ((Map<?, ?>) mybatis.selectParameters.get("challengeRepository.getChallengeChanges")).get("upToVersion"));
+
+        assertTrue(feed.changesSince(11).isFullResync());
+    }
+
+    private static List<Map<String, Object>> versions(Object... versionAndSettled) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < versionAndSettled.length; i += 2) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("version", ((Integer) versionAndSettled[i]).longValue());
+            row.put("settled", (Boolean) versionAndSettled[i + 1] ? 1L : 0L);
+            rows.add(row);
+        }
+        return rows;
+    }
+}
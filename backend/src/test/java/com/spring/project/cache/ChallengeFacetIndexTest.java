@@ -0,0 +1,132 @@
+package com.spring.project.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.spring.project.dto.challenge.ChallengeDTO;
+
+/**
+ * ChallengeFacetIndex: 비트맵 교집합 필터, 패싯 개수, 커서 페이징, 제외 집합
+ */
+public class ChallengeFacetIndexTest {
+
+    private ChallengeFacetIndex index;
+
+    @Before
+    public void setUp() {
+        List<ChallengeDTO> rows = new ArrayList<>();
+        // challenge_id, level_id, category_id, language
+        rows.add(challenge(1, 1, 10, "Java"));
+        rows.add(challenge(2, 1, 20, "Python"));
+        rows.add(challenge(3, 2, 10, "Java"));
+        rows.add(challenge(4, 2, 20, "java"));
+        rows.add(challenge(5, 3, 10, "Python"));
+        rows.add(challenge(6, 1, 10, "Java"));
+
+        index = new ChallengeFacetIndex();
+        index.mybatis = new StubSqlSessionTemplate().returning("challengeRepository.findChallengeSummaries", rows);
+    }
+
+    @Test
+    public void intersectsFiltersAndReturnsNewestFirst() {
+        ChallengeFacetIndex.Result result = index.query(1, 10, "JAVA", null, 10);
+
+        assertEquals(List.of(6, 1), ids(result.getChallenges()));
+        assertEquals(2, result.getTotalCount());
+        assertFalse(result.isHasMore());
+    }
+
+    @Test
+    public void countsEachFacetWithoutItsOwnFilter() {
+        ChallengeFacetIndex.Result result = index.query(1, null, "java", null, 10);
+
+        Map<?, ?> levels = (Map<?, ?>) result.getFacetCounts().get("levels");
+        Map<?, ?> categories = (Map<?, ?>) result.getFacetCounts().get("categories");
+        // 난이도 개수는 언어 필터만 적용 (Java 4개: 난이도1 2개, 난이도2 2개)
+        assertEquals(2, ((Number) levels.get(1)).intValue());
+        assertEquals(2, ((Number) levels.get(2)).intValue());
+        // 카테고리 개수는 난이도 + 언어 필터 적용 (1, 6 → 카테고리 10)
+        assertEquals(2, ((Number) categories.get(10)).intValue());
+    }
+
+    @Test
+    public void pagesWithCursor() {
+        ChallengeFacetIndex.Result first = index.query(null, null, null, null, 4);
+        assertEquals(List.of(6, 5, 4, 3), ids(first.getChallenges()));
+        assertTrue(first.isHasMore());
+        assertEquals(Integer.valueOf(3), first.getNextCursor());
+
+        ChallengeFacetIndex.Result second = index.query(null, null, null, first.getNextCursor(), 4);
+        assertEquals(List.of(2, 1), ids(second.getChallenges()));
+        assertFalse(second.isHasMore());
+        assertNull(second.getNextCursor());
+        assertEquals(6, second.getTotalCount());
+    }
+
+    @Test
+    public void excludesGivenChallengesFromPageAndCounts() {
+        BitSet solved = new BitSet();
+        solved.set(6);
+        solved.set(3);
+
+        ChallengeFacetIndex.Result result = index.query(null, 10, null, solved, null, 10);
+
+        assertEquals(List.of(5, 1), ids(result.getChallenges()));
+        assertEquals(2, result.getTotalCount());
+    }
+
+    @Test
+    public void unknownFacetValueMatchesNothing() {
+        assertEquals(0, index.query(99, null, null, null, 10).getTotalCount());
+        assertEquals(0, index.query(null, null, "Kotlin", null, 10).getTotalCount());
+    }
+
+    @Test
+    public void appliesAddAndRemoveWithoutReload() {
+        index.query(null, null, null, null, 1); // 적재
+
+        index.removeChallenge(6);
+        index.addChallenge(challenge(7, 1, 10, "Java"));
+
+        ChallengeFacetIndex.Result result = index.query(1, 10, "Java", null, 10);
+        assertEquals(List.of(7, 1), ids(result.getChallenges()));
+        assertNull(index.getChallenge(6));
+    }
+
+    @Test
+    public void collectsLevelCategoryCombination() {
+        BitSet solved = new BitSet();
+        solved.set(6);
+
+        assertEquals(List.of(1), ids(index.collect(1, 10, solved, 5)));
+        assertTrue(index.collect(3, 20, null, 5).isEmpty());
+    }
+
+    private static ChallengeDTO challenge(int challengeId, int levelId, int categoryId, String language) {
+        ChallengeDTO challenge = new ChallengeDTO();
+        challenge.setChallenge_id(challengeId);
+        challenge.setChallenge_title("challenge " + challengeId);
+        challenge.setLevel_id(levelId);
+        challenge.setCategory_id(categoryId);
+        challenge.setLanguage(language);
+        return challenge;
+    }
+
+    private static List<Integer> ids(List<ChallengeDTO> challenges) {
+        List<Integer> ids = new ArrayList<>();
+        for (ChallengeDTO challenge : challenges) {
+            ids.add(challenge.getChallenge_id());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,125 @@
+package com.spring.project.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.spring.project.dto.challenge.ChallengeDTO;
+import com.spring.project.dto.challenge.ChallengeLevelDTO;
+
+/**
+ * ChallengeRatingEngine: Elo 기대 승률, K 계수(배치 초기 2배), 수기 난이도 기준 시작 레이팅, 변경분 flush
+ */
+public class ChallengeRatingEngineTest {
+
+    private static final double DELTA = 1e-9;
+
+    private ChallengeRatingEngine engine;
+    private StubSqlSessionTemplate mybatis;
+
+    @Before
+    public void setUp() {
+        List<ChallengeLevelDTO> levels = new ArrayList<>();
+        levels.add(level(1));
+        levels.add(level(2));
+        levels.add(level(3));
+
+        List<ChallengeDTO> challenges = new ArrayList<>();
+        challenges.add(challenge(100, 1));
+        challenges.add(challenge(200, 2));
+        challenges.add(challenge(300, 3));
+
+        mybatis = new StubSqlSessionTemplate()
+                .returning("challengeRepository.findAllLevels", levels)
+                .returning("challengeRepository.findChallengeSummaries", challenges);
+
+        ChallengeCatalog catalog = new ChallengeCatalog();
+        catalog.mybatis = mybatis;
+        ChallengeFacetIndex facetIndex = new ChallengeFacetIndex();
+        facetIndex.mybatis = mybatis;
+
+        engine = new ChallengeRatingEngine();
+        engine.mybatis = mybatis;
+        engine.challengeCatalog = catalog;
+        engine.facetIndex = facetIndex;
+    }
+
+    @Test
+    public void startsChallengesFromManualLevel() {
+        assertEquals(1300.0, engine.getChallengeRating(100), DELTA);
+        assertEquals(1500.0, engine.getChallengeRating(200), DELTA);
+        assertEquals(1700.0, engine.getChallengeRating(300), DELTA);
+        assertEquals(1500.0, engine.getUserRating(1), DELTA);
+    }
+
+    @Test
+    public void evenGameMovesByHalfOfProvisionalK() {
+        engine.recordResult(1, 200, true);
+
+        // 기대 승률 0.5, 배치 중 K = 64(사용자) / 32(챌린지)
+        assertEquals(1532.0, engine.getUserRating(1), DELTA);
+        assertEquals(1484.0, engine.getChallengeRating(200), DELTA);
+    }
+
+    @Test
+    public void failureAgainstEasyChallengeCostsMoreThanAgainstHardOne() {
+        engine.recordResult(1, 100, false);
+        engine.recordResult(2, 300, false);
+
+        double expectedEasy = 1.0 / (1.0 + Math.pow(10.0, (1300.0 - 1500.0) / 400.0));
+        assertEquals(1500.0 - 64 * expectedEasy, engine.getUserRating(1), DELTA);
+        assertTrue(1500.0 - engine.getUserRating(1) > 1500.0 - engine.getUserRating(2));
+        assertTrue(engine.getChallengeRating(100) > 1300.0);
+    }
+
+    @Test
+    public void halvesKAfterProvisionalGames() {
+        for (int userId = 1; userId <= 20; userId++) {
+            engine.recordResult(userId, 200, userId % 2 == 0);
+        }
+        double before = engine.getChallengeRating(200);
+        double newcomerExpected = 1.0 / (1.0 + Math.pow(10.0, (before - 1500.0) / 400.0));
+
+        engine.recordResult(99, 200, true);
+
+        // 챌린지는 20경기를 채워 K = 16, 새 사용자는 아직 배치 중이라 K = 64
+        assertEquals(before - 16 * (1 - newcomerExpected), engine.getChallengeRating(200), DELTA);
+        assertEquals(1500.0 + 64 * (1 - newcomerExpected), engine.getUserRating(99), DELTA);
+    }
+
+    @Test
+    public void flushesOnlyChangedRatings() {
+        engine.recordResult(1, 200, true);
+        engine.flush();
+        engine.flush(); // 변경분 없음
+
+        assertEquals(List.of("challengeRepository.upsertChallengeRatings", "challengeRepository.upsertUserRatings"),
+                mybatis.writtenStatements);
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) mybatis.writtenParameters.get(0);
+        assertEquals(200, rows.get(0).get("id"));
+        assertEquals(1, rows.get(0).get("games"));
+    }
+
+    private static ChallengeLevelDTO level(int levelId) {
+        ChallengeLevelDTO level = new ChallengeLevelDTO();
+        level.setLevel_id(levelId);
+        level.setLevel_name("level " + levelId);
+        return level;
+    }
+
+    private static ChallengeDTO challenge(int challengeId, int levelId) {
+        ChallengeDTO challenge = new ChallengeDTO();
+        challenge.setChallenge_id(challengeId);
+        challenge.setLevel_id(levelId);
+        challenge.setCategory_id(1);
+        challenge.setLanguage("Java");
+        return challenge;
+    }
+}
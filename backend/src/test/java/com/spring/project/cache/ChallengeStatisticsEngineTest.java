@@ -0,0 +1,148 @@
+package com.spring.project.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * ChallengeStatisticsEngine: 요약 + 기준 제출 ID 이후 시드, 진행 중인 제출을 넘지 않는 기준 ID flush
+ */
+public class ChallengeStatisticsEngineTest {
+
+    private static final String WATERMARK = "challengeRepository.getChallengeStatsWatermark";
+    private static final String SUMMARY = "challengeRepository.getChallengeStatsSummary";
+    private static final String CATCH_UP = "challengeRepository.getChallengeStatisticsGroupByChallenge";
+    private static final String UPSERT_STATS = "challengeRepository.upsertChallengeStats";
+    private static final String UPSERT_WATERMARK = "challengeRepository.upsertChallengeStatsWatermark";
+
+    private ChallengeStatisticsEngine engine;
+    private StubSqlSessionTemplate mybatis;
+
+    @Before
+    public void setUp() {
+        mybatis = new StubSqlSessionTemplate();
+        engine = new ChallengeStatisticsEngine();
+        engine.mybatis = mybatis;
+        engine.transactionTemplate = new TransactionTemplate() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                return action.doInTransaction(null);
+            }
+        };
+    }
+
+    @Test
+    public void seedsFromSummaryAndCatchesUpAfterWatermark() {
+        mybatis.returning(WATERMARK, Collections.singletonList(10L))
+                .returning(SUMMARY, Collections.singletonList(row(1, 5, 2, null)))
+                .returning(CATCH_UP, Collections.singletonList(row(1, 2, 1, 12)));
+
+        Map<String, Object> statistics = engine.getStatistics(1);
+        assertEquals(7L, statistics.get("totalSubmissions"));
+        assertEquals(3L, statistics.get("correctSubmissions"));
+        assertEquals(10L, ((Map<?, ?>) mybatis.selectParameters.get(CATCH_UP)).get("afterSubId"));
+
+        engine.flush();
+        assertEquals(7L, lastRow(1).get("totalSubmissions"));
+        assertEquals(12L, lastWrite(UPSERT_WATERMARK));
+    }
+
+    @Test
+    public void ignoresSummaryWithoutWatermark() {
+        mybatis.returning(SUMMARY, Collections.singletonList(row(1, 5, 2, null)))
+                .returning(CATCH_UP, Collections.singletonList(row(1, 3, 1, 3)));
+
+        assertEquals(3L, engine.getStatistics(1).get("totalSubmissions"));
+        assertEquals(0L, ((Map<?, ?>) mybatis.selectParameters.get(CATCH_UP)).get("afterSubId"));
+    }
+
+    @Test
+    public void holdsWatermarkBelowSubmissionStillInFlight() {
+        mybatis.returning(WATERMARK, Collections.singletonList(10L));
+
+        long first = engine.beginSubmission();  // id 11 을 받았지만 아직 커밋 전
+        long second = engine.beginSubmission();
+        engine.recordSubmission(1, 12, true, second);
+
+        engine.flush();
+        assertEquals(10L, lastWrite(UPSERT_WATERMARK));
+        assertEquals(0L, lastRow(1).get("totalSubmissions")); // id 12 는 기준 이후라 요약에서 제외
+        assertEquals(1L, engine.getStatistics(1).get("totalSubmissions")); // 조회는 즉시 반영
+
+        engine.recordSubmission(2, 11, false, first);
+        engine.flush();
+        assertEquals(12L, lastWrite(UPSERT_WATERMARK));
+        assertEquals(1L, lastRow(1).get("totalSubmissions"));
+        assertEquals(1L, lastRow(1).get("correctSubmissions"));
+        assertEquals(1L, lastRow(2).get("totalSubmissions"));
+    }
+
+    @Test
+    public void abortedSubmissionReleasesWatermark() {
+        mybatis.returning(WATERMARK, Collections.singletonList(10L));
+
+        long rolledBack = engine.beginSubmission();
+        long committed = engine.beginSubmission();
+        engine.recordSubmission(1, 12, false, committed);
+        engine.flush();
+        assertEquals(10L, lastWrite(UPSERT_WATERMARK));
+
+        engine.abortSubmission(rolledBack);
+        engine.flush();
+        assertEquals(12L, lastWrite(UPSERT_WATERMARK));
+        assertEquals(1L, lastRow(1).get("totalSubmissions"));
+    }
+
+    @Test
+    public void skipsFlushWhenNothingChanged() {
+        mybatis.returning(WATERMARK, Collections.singletonList(10L));
+        engine.getStatistics(1);
+
+        engine.flush();
+        assertNull(lastWrite(UPSERT_WATERMARK));
+    }
+
+    private static Map<String, Object> row(int challengeId, long total, long correct, Integer maxSubId) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("challenge_id", challengeId);
+        row.put("total_submissions", total);
+        row.put("correct_submissions", correct);
+        row.put("max_sub_id", maxSubId);
+        return row;
+    }
+
+    private Object lastWrite(String statement) {
+        for (int i = mybatis.writtenStatements.size() - 1; i >= 0; i--) {
+            if (mybatis.writtenStatements.get(i).equals(statement)) {
+                return mybatis.writtenParameters.get(i);
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> lastRow(int challengeId) {
+        List<Map<String, Object>> written = new ArrayList<>();
+        for (int i = 0; i < mybatis.writtenStatements.size(); i++) {
+            if (mybatis.writtenStatements.get(i).equals(UPSERT_STATS)) {
+                written.addAll((List<Map<String, Object>>) mybatis.writtenParameters.get(i));
+            }
+        }
+        for (int i = written.size() - 1; i >= 0; i--) {
+            if (written.get(i).get("challengeId").equals(challengeId)) {
+                return written.get(i);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.spring.project.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * KoreanNgramTokenizer: 한글 bigram, 영문/숫자/기호 trigram
+ */
+public class KoreanNgramTokenizerTest {
+
+    @Test
+    public void splitsHangulIntoBigrams() {
+        assertEquals(List.of("배열", "열을"), KoreanNgramTokenizer.queryTerms("배열을"));
+        assertEquals(List.of("배"), KoreanNgramTokenizer.queryTerms("배"));
+    }
+
+    @Test
+    public void indexesHangulUnigramsForSingleCharacterQueries() {
+        List<String> terms = KoreanNgramTokenizer.indexTerms("배열");
+        assertTrue(terms.containsAll(List.of("배", "열", "배열")));
+    }
+
+    @Test
+    public void splitsLatinIntoLowercaseTrigrams() {
+        assertEquals(List.of("use", "see", "eef", "eff"), KoreanNgramTokenizer.queryTerms("useEff"));
+        assertEquals(List.of("js"), KoreanNgramTokenizer.queryTerms("JS"));
+    }
+
+    @Test
+    public void keepsSymbolsInTerms() {
+        assertEquals(List.of("c++"), KoreanNgramTokenizer.queryTerms("C++"));
+        assertEquals(List.of("++"), KoreanNgramTokenizer.queryTerms("++"));
+        assertTrue(KoreanNgramTokenizer.indexTerms("I like C++!").contains("c++"));
+    }
+
+    @Test
+    public void indexesEveryQueryGramOfContainedText() {
+        List<String> indexed = KoreanNgramTokenizer.indexTerms("SpringBoot 와 useEffect 정리");
+        for (String query : new String[] { "spring", "boot", "useEff", "eff", "b", "정리" }) {
+            assertTrue(query, indexed.containsAll(KoreanNgramTokenizer.queryTerms(query)));
+        }
+        assertFalse(indexed.containsAll(KoreanNgramTokenizer.queryTerms("jav")));
+    }
+
+    @Test
+    public void ignoresWhitespaceOnlyText() {
+        assertTrue(KoreanNgramTokenizer.queryTerms("   ").isEmpty());
+        assertTrue(KoreanNgramTokenizer.indexTerms(null).isEmpty());
+    }
+}
@@ -0,0 +1,99 @@
+package com.spring.project.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * PostCountCache: 카테고리별 증감, 진행 중인 게시글 쓰기와 겹치지 않는 다시 세기
+ */
+public class PostCountCacheTest {
+
+    private static final String COUNT_BY_CATEGORY = "postRepository.countPostsByCategory";
+
+    private PostCountCache cache;
+    private StubSqlSessionTemplate mybatis;
+
+    @Before
+    public void setUp() {
+        mybatis = new StubSqlSessionTemplate().returning(COUNT_BY_CATEGORY, counts(1, 3, 2, 1));
+        cache = new PostCountCache();
+        cache.mybatis = mybatis;
+    }
+
+    @Test
+    public void appliesWritesToLoadedCounts() {
+        assertEquals(4, cache.count(null));
+
+        cache.guardWrite(() -> {
+            cache.postInserted(2);
+            cache.postMoved(1, 2);
+            return 1;
+        });
+        assertEquals(5, cache.count(null));
+        assertEquals(2, cache.count(1));
+        assertEquals(3, cache.count(2));
+
+        cache.guardWrite(() -> {
+            cache.postDeleted(2);
+            return 1;
+        });
+        assertEquals(4, cache.count(null));
+        assertEquals(0, cache.count(99));
+    }
+
+    @Test
+    public void reloadWaitsForWriteInProgress() throws Exception {
+        cache.reload();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        Thread writer = new Thread(() -> cache.guardWrite(() -> {
+            writing.countDown();
+            await(commit);
+            mybatis.returning(COUNT_BY_CATEGORY, counts(1, 4, 2, 1)); // DB 반영
+            cache.postInserted(1);
+            return 1;
+        }));
+        writer.start();
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        Thread reloader = new Thread(cache::reload);
+        reloader.start();
+        reloader.join(200);
+        assertTrue("다시 세기가 진행 중인 쓰기를 기다려야 함", reloader.isAlive());
+
+        commit.countDown();
+        writer.join(5000);
+        reloader.join(5000);
+        assertEquals(5, cache.count(null)); // 증감 1번 + 다시 센 결과 = DB 와 같음 (유실/중복 없음)
+        assertEquals(4, cache.count(1));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<Map<String, Object>> counts(int... categoryAndCount) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < categoryAndCount.length; i += 2) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("category_id", categoryAndCount[i]);
+            row.put("post_count", (long) categoryAndCount[i + 1]);
+            rows.add(row);
+        }
+        return rows;
+    }
+}
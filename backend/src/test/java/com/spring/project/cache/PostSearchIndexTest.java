@@ -0,0 +1,128 @@
+package com.spring.project.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.spring.project.dto.post.PostsDTO;
+
+/**
+ * PostSearchIndex: n-gram 일치, BM25 순위(제목 가중치), 카테고리 필터, 구간 조회, 색인 갱신
+ */
+public class PostSearchIndexTest {
+
+    private PostSearchIndex index;
+    private List<PostsDTO> posts;
+
+    @Before
+    public void setUp() {
+        posts = new ArrayList<>();
+        posts.add(post(1, 1, "SpringBoot 시작하기", "자바 Java 로 REST API 만들기"));
+        posts.add(post(2, 2, "C++ 포인터 질문", "포인터가 너무 어려워요!!"));
+        posts.add(post(3, 1, "React hooks", "useEffect cleanup 은 언제 실행되나요"));
+        posts.add(post(4, 1, "배열 정렬", "자바 배열을 정렬하는 방법, spring 과는 무관"));
+        posts.add(post(5, 2, "node.js 비동기", "콜백과 Promise"));
+
+        index = new PostSearchIndex();
+        index.mybatis = new StubSqlSessionTemplate().returning("postRepository.findPostsForIndex", posts);
+    }
+
+    @Test
+    public void matchesPartialLatinWordsLikeLikeSearch() {
+        assertEquals(List.of(1, 4), search("spring"));
+        assertEquals(List.of(1), search("jav"));
+        assertEquals(List.of(3), search("useEff"));
+        assertEquals(List.of(5), search("node.js"));
+    }
+
+    @Test
+    public void matchesSymbolKeywords() {
+        assertEquals(List.of(2), search("c++"));
+        assertEquals(List.of(2), search("!!"));
+    }
+
+    @Test
+    public void matchesKoreanWithParticles() {
+        assertEquals(List.of(4), search("배열"));
+        assertEquals(List.of(2), search("포인터"));
+    }
+
+    @Test
+    public void ranksTitleMatchesFirst() {
+        // 1번은 제목에, 4번은 본문에만 spring 이 있음
+        assertEquals(Integer.valueOf(1), search("spring").get(0));
+    }
+
+    @Test
+    public void requiresEveryQueryTerm() {
+        assertEquals(List.of(4), search("자바 배열"));
+        assertTrue(search("없는말").isEmpty());
+    }
+
+    @Test
+    public void filtersByCategoryAndCountsAllMatches() {
+        PostSearchIndex.SearchResult result = index.search("spring", 1, 0, 1);
+        assertEquals(1, result.getPostIds().size());
+        assertEquals(2, result.getTotalCount());
+
+        assertTrue(index.search("spring", 2, 0, 10).getPostIds().isEmpty());
+    }
+
+    @Test
+    public void pagesAndClampsOutOfRangeOffsets() {
+        assertEquals(List.of(4), index.search("spring", null, 1, 10).getPostIds());
+        assertTrue(index.search("spring", null, Integer.MAX_VALUE, 10).getPostIds().isEmpty());
+        assertEquals(List.of(1, 4), index.search("spring", null, -5, 10).getPostIds());
+        assertEquals(List.of(4), index.search("spring", null, 1, Integer.MAX_VALUE).getPostIds());
+        assertEquals(2, index.search("spring", null, Integer.MAX_VALUE, 10).getTotalCount());
+    }
+
+    @Test
+    public void appliesUpdatesAndRemovals() {
+        search("spring"); // 적재
+
+        index.addPost(post(4, 1, "배열 정렬", "자바 배열을 정렬하는 방법"));
+        index.removePost(1);
+        index.addPost(post(6, 2, "Spring Security", "필터 체인"));
+
+        assertEquals(List.of(6), search("spring"));
+    }
+
+    @Test
+    public void replaysChangesMadeWhileLoading() {
+        // 전체 조회 결과를 만든 뒤 게시글 6 작성, 1 삭제가 커밋되고 색인 교체 전에 반영 호출이 들어옴
+        index.mybatis = new StubSqlSessionTemplate() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <E> List<E> selectList(String statement) {
+                List<E> snapshot = new ArrayList<>();
+                for (PostsDTO post : posts) {
+                    snapshot.add((E) post);
+                }
+                index.addPost(post(6, 2, "Spring Security", "필터 체인"));
+                index.removePost(1);
+                return snapshot;
+            }
+        };
+
+        assertEquals(List.of(6, 4), search("spring"));
+    }
+
+    private List<Integer> search(String query) {
+        return index.search(query, null, 0, 10).getPostIds();
+    }
+
+    private static PostsDTO post(int postId, int categoryId, String title, String content) {
+        PostsDTO post = new PostsDTO();
+        post.setPost_id(postId);
+        post.setCategory_id(categoryId);
+        post.setTitle(title);
+        post.setContent(content);
+        return post;
+    }
+}
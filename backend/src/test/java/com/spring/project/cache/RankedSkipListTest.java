@@ -0,0 +1,81 @@
+package com.spring.project.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+/**
+ * RankedSkipList: 삽입/삭제/순위/구간 조회를 TreeSet 기준 결과와 비교
+ */
+public class RankedSkipListTest {
+
+    @Test
+    public void rejectsDuplicatesAndMissingKeys() {
+        RankedSkipList<Integer> list = new RankedSkipList<>(Comparator.naturalOrder());
+
+        assertTrue(list.insert(5));
+        assertFalse(list.insert(5));
+        assertTrue(list.remove(5));
+        assertFalse(list.remove(5));
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    public void countsKeysBeforeInsertionPoint() {
+        RankedSkipList<Integer> list = new RankedSkipList<>(Comparator.naturalOrder());
+        for (int key : new int[] { 40, 10, 30, 20 }) {
+            list.insert(key);
+        }
+
+        assertEquals(0, list.countBefore(10));
+        assertEquals(2, list.countBefore(30));
+        assertEquals(2, list.countBefore(25)); // 없는 키는 들어갈 위치 기준
+        assertEquals(4, list.countBefore(99));
+    }
+
+    @Test
+    public void returnsRangesInOrder() {
+        RankedSkipList<Integer> list = new RankedSkipList<>(Comparator.reverseOrder());
+        for (int key = 1; key <= 10; key++) {
+            list.insert(key);
+        }
+
+        assertEquals(List.of(10, 9, 8), list.range(0, 3));
+        assertEquals(List.of(3, 2, 1), list.range(7, 5));
+        assertTrue(list.range(10, 5).isEmpty());
+        assertTrue(list.range(-1, 5).isEmpty());
+        assertTrue(list.range(0, 0).isEmpty());
+    }
+
+    @Test
+    public void matchesSortedSetUnderRandomOperations() {
+        Random random = new Random(42);
+        RankedSkipList<Integer> list = new RankedSkipList<>(Comparator.naturalOrder());
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            int key = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), list.remove(key));
+            } else {
+                assertEquals(expected.add(key), list.insert(key));
+            }
+
+            if (step % 500 == 0) {
+                List<Integer> sorted = new ArrayList<>(expected);
+                assertEquals(sorted.size(), list.size());
+                assertEquals(expected.headSet(key).size(), list.countBefore(key));
+                int offset = sorted.isEmpty() ? 0 : random.nextInt(sorted.size());
+                assertEquals(sorted.subList(offset, Math.min(offset + 25, sorted.size())), list.range(offset, 25));
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.spring.project.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.defaults.DefaultSqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+
+/**
+ * 테스트용 SqlSessionTemplate (DB 연결 없음)
+ * 구문 ID 별로 정해 둔 행을 돌려주고, insert/update 는 구문 ID 와 파라미터만 기록합니다.
+ */
+class StubSqlSessionTemplate extends SqlSessionTemplate {
+
+    private final Map<String, List<?>> results = new HashMap<>();
+
+    /** 조회 구문 ID 별 마지막 파라미터 */
+    final Map<String, Object> selectParameters = new HashMap<>();
+
+    /** 실행된 쓰기 구문 ID 와 파라미터 (순서대로) */
+    final List<String> writtenStatements = new ArrayList<>();
+    final List<Object> writtenParameters = new ArrayList<>();
+
+    StubSqlSessionTemplate() {
+        super(new DefaultSqlSessionFactory(new Configuration()), ExecutorType.SIMPLE, null);
+    }
+
+    StubSqlSessionTemplate returning(String statement, List<?> rows) {
+        results.put(statement, rows);
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E> List<E> selectList(String statement) {
+        List<?> rows = results.get(statement);
+        return rows != null ? new ArrayList<>((List<E>) rows) : new ArrayList<>();
+    }
+
+    @Override
+    public <E> List<E> selectList(String statement, Object parameter) {
+        selectParameters.put(statement, parameter);
+        return selectList(statement);
+    }
+
+    @Override
+    public <T> T selectOne(String statement) {
+        List<T> rows = selectList(statement);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    @Override
+    public <T> T selectOne(String statement, Object parameter) {
+        selectParameters.put(statement, parameter);
+        return selectOne(statement);
+    }
+
+    @Override
+    public int insert(String statement, Object parameter) {
+        writtenStatements.add(statement);
+        writtenParameters.add(parameter);
+        return 1;
+    }
+
+    @Override
+    public int update(String statement, Object parameter) {
+        return insert(statement, parameter);
+    }
+}
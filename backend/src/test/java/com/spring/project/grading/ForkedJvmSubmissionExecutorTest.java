@@ -0,0 +1,62 @@
+package com.spring.project.grading;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * ForkedJvmSubmissionExecutor: 워커 JVM 의 메모리/시간 제한과 제한 초과 후 워커 교체
+ */
+public class ForkedJvmSubmissionExecutorTest {
+
+    private static final long MEMORY_LIMIT_BYTES = 64L * 1024 * 1024;
+    private static final GradingLimits LIMITS = new GradingLimits(2000, MEMORY_LIMIT_BYTES, 1024);
+
+    private final InMemoryJavaCompiler compiler = new InMemoryJavaCompiler();
+    private ForkedJvmSubmissionExecutor executor;
+
+    @Before
+    public void setUp() {
+        executor = new ForkedJvmSubmissionExecutor(1, 50, MEMORY_LIMIT_BYTES);
+    }
+
+    @After
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    public void reportsMemoryLimitAndReplacesWorker() {
+        ExecutionResult exceeded = run("import java.util.*;\n"
+                + "public class Main { public static void main(String[] args) {"
+                + " List<byte[]> kept = new ArrayList<>();"
+                + " for (int i = 0; i < 256; i++) kept.add(new byte[1024 * 1024]);"
+                + " System.out.println(kept.size()); } }", "");
+        assertEquals(Verdict.MEMORY_LIMIT_EXCEEDED, exceeded.getFailureVerdict());
+
+        ExecutionResult next = run("public class Main { public static void main(String[] args) {"
+                + " System.out.println(new java.util.Scanner(System.in).nextInt() * 2); } }", "21\n");
+        assertTrue(next.getErrorMessage(), next.isCompleted());
+        assertEquals("42", next.getOutput().trim());
+    }
+
+    @Test
+    public void reportsTimeLimitInWorker() {
+        ExecutionResult result = run("public class Main { public static void main(String[] args) { while (true) {} } }", "");
+
+        assertEquals(Verdict.TIME_LIMIT_EXCEEDED, result.getFailureVerdict());
+    }
+
+    private ExecutionResult run(String source, String input) {
+        CompilationResult compiled = compiler.compile(source);
+        assertTrue(compiled.getMessage(), compiled.isSuccess());
+        return executor.execute(compiled.getCompiled(), new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                LIMITS, () -> false);
+    }
+}
@@ -0,0 +1,151 @@
+package com.spring.project.grading;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * InMemoryJavaCompiler: 금지 API 차단(REJECTED), 컴파일 에러, 정상 코드의 컴파일/실행
+ */
+public class InMemoryJavaCompilerTest {
+
+    private final InMemoryJavaCompiler compiler = new InMemoryJavaCompiler();
+
+    @Test
+    public void rejectsSystemExit() {
+        assertRejected("public class Main { public static void main(String[] args) { System.exit(0); } }");
+    }
+
+    @Test
+    public void rejectsMethodHandlesLookup() {
+        assertRejected("import java.lang.invoke.MethodHandles;\n"
+                + "public class Main { public static void main(String[] args) { MethodHandles.publicLookup(); } }");
+        assertRejected("public class Main { public static void main(String[] args) {"
+                + " Object lookup = java.lang.invoke.MethodHandles.publicLookup(); } }");
+    }
+
+    @Test
+    public void rejectsReflection() {
+        assertRejected("public class Main { public static void main(String[] args) throws Exception {"
+                + " java.lang.reflect.Method m = Main.class.getMethod(\"main\", String[].class); } }");
+        assertRejected("public class Main { public static void main(String[] args) throws Exception {"
+                + " Class.forName(\"java.lang.Runtime\"); } }");
+        assertRejected("public class Main { public static void main(String[] args) {"
+                + " System.out.println(Main.class.getDeclaredMethods().length); } }");
+    }
+
+    @Test
+    public void rejectsFileOpeningOutputConstructors() {
+        assertRejected("public class Main { public static void main(String[] args) throws Exception {"
+                + " new java.io.PrintWriter(\"/tmp/escape\").close(); } }");
+        assertRejected("import java.io.*;\n"
+                + "public class Main { public static void main(String[] args) throws Exception {"
+                + " new PrintStream(\"/tmp/escape\", \"UTF-8\").close(); } }");
+        assertRejected("import java.util.*;\n"
+                + "public class Main { public static void main(String[] args) throws Exception {"
+                + " new Formatter(\"/tmp/escape\").close(); } }");
+        assertRejected("import java.io.*;\n"
+                + "public class Main { static class Out extends PrintWriter { Out() throws IOException { super(\"/tmp/escape\"); } }"
+                + " public static void main(String[] args) throws Exception { new Out().close(); } }");
+        assertRejected("import java.io.*;\nimport java.util.function.*;\n"
+                + "public class Main { interface Opener { PrintWriter open(String name) throws IOException; }"
+                + " public static void main(String[] args) throws Exception { Opener o = PrintWriter::new; } }");
+    }
+
+    @Test
+    public void allowsStandardOutputWrappers() {
+        CompilationResult result = compiler.compile("import java.io.*;\nimport java.util.*;\n"
+                + "public class Main { public static void main(String[] args) {"
+                + " PrintWriter pw = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out)));"
+                + " PrintStream ps = new PrintStream(System.out, true);"
+                + " pw.println(new Formatter(new StringBuilder()).format(\"%d\", 1)); pw.flush(); ps.flush(); } }");
+
+        assertTrue(result.getMessage(), result.isSuccess());
+    }
+
+    @Test
+    public void rejectsCodeRunningOnOtherThreads() {
+        assertRejected("import java.util.*;\n"
+                + "public class Main { public static void main(String[] args) {"
+                + " System.out.println(List.of(1, 2).parallelStream().count()); } }");
+        assertRejected("import java.util.*;\n"
+                + "public class Main { public static void main(String[] args) {"
+                + " System.out.println(List.of(1, 2).stream().parallel().count()); } }");
+        assertRejected("import java.util.stream.*;\n"
+                + "public class Main { public static void main(String[] args) {"
+                + " System.out.println(IntStream.range(0, 10).parallel().sum()); } }");
+        assertRejected("public class Main { public static void main(String[] args) {"
+                + " int[] a = {3, 1, 2}; java.util.Arrays.parallelSort(a); } }");
+        assertRejected("import java.util.concurrent.*;\n"
+                + "public class Main { public static void main(String[] args) {"
+                + " ConcurrentHashMap<Integer, Integer> m = new ConcurrentHashMap<>();"
+                + " m.forEach(1L, (k, v) -> System.out.println(k)); } }");
+        assertRejected("import java.util.*;\n"
+                + "public class Main { public static void main(String[] args) {"
+                + " new Timer().schedule(new TimerTask() { public void run() { System.out.println(1); } }, 10); } }");
+    }
+
+    @Test
+    public void allowsSequentialStreams() {
+        CompilationResult result = compiler.compile("import java.util.*;\nimport java.util.concurrent.*;\n"
+                + "public class Main { public static void main(String[] args) {"
+                + " ConcurrentHashMap<Integer, Integer> m = new ConcurrentHashMap<>(); m.put(1, 2);"
+                + " m.forEach((k, v) -> System.out.println(k + v));"
+                + " System.out.println(List.of(1, 2).stream().mapToInt(i -> i).sum()); } }");
+
+        assertTrue(result.getMessage(), result.isSuccess());
+    }
+
+    @Test
+    public void reportsSyntaxErrorsAsCompileError() {
+        CompilationResult result = compiler.compile("public class Main { public static void main(String[] args) { int x = } }");
+
+        assertFalse(result.isSuccess());
+        assertEquals(Verdict.COMPILE_ERROR, result.getFailureVerdict());
+    }
+
+    @Test
+    public void rejectsPackageDeclaration() {
+        CompilationResult result = compiler.compile("package a.b;\npublic class Main { public static void main(String[] args) {} }");
+
+        assertEquals(Verdict.COMPILE_ERROR, result.getFailureVerdict());
+    }
+
+    @Test
+    public void compilesAndRunsLambdasAndStringConcatenation() {
+        String source = "import java.util.*;\n"
+                + "import java.util.stream.*;\n"
+                + "public class Main {\n"
+                + "  public static void main(String[] args) {\n"
+                + "    Scanner sc = new Scanner(System.in);\n"
+                + "    int n = sc.nextInt();\n"
+                + "    List<Integer> values = new ArrayList<>();\n"
+                + "    for (int i = 0; i < n; i++) values.add(sc.nextInt());\n"
+                + "    values.sort(Comparator.reverseOrder());\n"
+                + "    String joined = values.stream().map(String::valueOf).collect(Collectors.joining(\",\"));\n"
+                + "    Runnable r = () -> System.out.println(\"sum=\" + values.stream().mapToInt(v -> v).sum() + \" \" + joined);\n"
+                + "    r.run();\n"
+                + "  }\n"
+                + "}\n";
+
+        CompilationResult compiled = compiler.compile(source);
+        assertTrue(compiled.getMessage(), compiled.isSuccess());
+
+        ExecutionResult result = new InProcessSubmissionExecutor().execute(compiled.getCompiled(),
+                new ByteArrayInputStream("3\n1 3 2\n".getBytes(StandardCharsets.UTF_8)), GradingLimits.DEFAULT, () -> false);
+        assertTrue(result.getErrorMessage(), result.isCompleted());
+        assertEquals("sum=6 3,2,1", result.getOutput().trim());
+    }
+
+    private void assertRejected(String source) {
+        CompilationResult result = compiler.compile(source);
+
+        assertFalse(source, result.isSuccess());
+        assertEquals(source, Verdict.REJECTED, result.getFailureVerdict());
+    }
+}
@@ -0,0 +1,84 @@
+package com.spring.project.grading;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * InProcessSubmissionExecutor: 시간/출력 제한, 런타임 에러, 표준 입출력 연결
+ */
+public class InProcessSubmissionExecutorTest {
+
+    private static final GradingLimits LIMITS = new GradingLimits(300, 64L * 1024 * 1024, 1024);
+
+    private final InMemoryJavaCompiler compiler = new InMemoryJavaCompiler();
+    private final InProcessSubmissionExecutor executor = new InProcessSubmissionExecutor();
+
+    @Test
+    public void stopsInfiniteLoopAtTimeLimit() {
+        ExecutionResult result = run("public class Main { public static void main(String[] args) { while (true) {} } }", "");
+
+        assertEquals(Verdict.TIME_LIMIT_EXCEEDED, result.getFailureVerdict());
+        assertTrue(result.getElapsedMillis() >= 300);
+    }
+
+    @Test
+    public void stopsAtOutputLimit() {
+        ExecutionResult result = run("public class Main { public static void main(String[] args) {"
+                + " while (true) System.out.println(\"0123456789\"); } }", "");
+
+        assertEquals(Verdict.OUTPUT_LIMIT_EXCEEDED, result.getFailureVerdict());
+        assertTrue(result.getOutput().length() <= 1024);
+    }
+
+    @Test
+    public void reportsUncaughtExceptionAsRuntimeError() {
+        ExecutionResult result = run("public class Main { public static void main(String[] args) {"
+                + " int[] a = new int[1]; a[2] = 1; } }", "");
+
+        assertEquals(Verdict.RUNTIME_ERROR, result.getFailureVerdict());
+        assertTrue(result.getErrorMessage().contains("ArrayIndexOutOfBoundsException"));
+    }
+
+    @Test
+    public void connectsStandardInputAndOutput() {
+        ExecutionResult result = run("import java.io.*;\n"
+                + "public class Main { public static void main(String[] args) throws IOException {"
+                + " BufferedReader br = new BufferedReader(new InputStreamReader(System.in));"
+                + " String line; while ((line = br.readLine()) != null) System.out.println(line.toUpperCase()); } }",
+                "hello\nworld\n");
+
+        assertTrue(result.getErrorMessage(), result.isCompleted());
+        assertEquals("HELLO\nWORLD\n", result.getOutput().replace("\r\n", "\n"));
+    }
+
+    @Test
+    public void reportsMissingMainMethod() {
+        ExecutionResult result = run("public class Main { static int answer() { return 42; } }", "");
+
+        assertEquals(Verdict.RUNTIME_ERROR, result.getFailureVerdict());
+    }
+
+    @Test
+    public void keepsOutputOfStoppedRunOutOfLaterRuns() {
+        for (int i = 0; i < 5; i++) {
+            run("public class Main { public static void main(String[] args) {"
+                    + " while (true) System.out.println(\"0123456789\"); } }", "");
+
+            ExecutionResult result = run("public class Main { public static void main(String[] args) {"
+                    + " System.out.println(\"ok\"); } }", "");
+            assertEquals("ok\n", result.getOutput().replace("\r\n", "\n"));
+        }
+    }
+
+    private ExecutionResult run(String source, String input) {
+        CompilationResult compiled = compiler.compile(source);
+        assertTrue(compiled.getMessage(), compiled.isSuccess());
+        return executor.execute(compiled.getCompiled(), new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                LIMITS, () -> false);
+    }
+}
@@ -0,0 +1,149 @@
+package com.spring.project.grading;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * WorkerProtocol: 요청 직렬화, 표준 입력 조각 스트리밍, 읽지 않은 입력 정리 후 다음 요청 읽기
+ */
+public class WorkerProtocolTest {
+
+    private static final CompiledSubmission COMPILED = new CompiledSubmission("Main", Map.of("Main", new byte[] { 1, 2, 3 }));
+    private static final GradingLimits LIMITS = new GradingLimits(1500, 32L * 1024 * 1024, 4096);
+
+    @Test
+    public void streamsInputLargerThanChunkBuffer() throws IOException {
+        byte[] input = new byte[3 * 1024 * 1024 + 17];
+        new Random(7).nextBytes(input);
+
+        WorkerProtocol.Job job = WorkerProtocol.readJob(new DataInputStream(new ByteArrayInputStream(serialize(input))));
+
+        assertEquals("Main", job.compiled.getMainClassName());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, job.compiled.getClassBytes().get("Main"));
+        assertEquals(1500, job.limits.getTimeLimitMillis());
+        assertArrayEquals(input, job.input.readAllBytes());
+        assertEquals(-1, job.input.read());
+        job.input.finish();
+    }
+
+    @Test
+    public void skipsUnreadInputBeforeNextJob() throws IOException {
+        ByteArrayOutputStream twoJobs = new ByteArrayOutputStream();
+        twoJobs.write(serialize(new byte[1024 * 1024]));
+        twoJobs.write(serialize("second".getBytes()));
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(twoJobs.toByteArray()));
+
+        WorkerProtocol.Job first = WorkerProtocol.readJob(in);
+        assertEquals(0, first.input.read()); // 1 바이트만 읽고 끝낸 제출
+        first.input.finish();
+
+        WorkerProtocol.Job second = WorkerProtocol.readJob(in);
+        assertEquals("second", new String(second.input.readAllBytes()));
+        second.input.finish();
+    }
+
+    @Test
+    public void readsWhileWriterIsStillSending() throws Exception {
+        PipedOutputStream pipeOut = new PipedOutputStream();
+        DataInputStream in = new DataInputStream(new PipedInputStream(pipeOut, 8 * 1024));
+        byte[] input = new byte[2 * 1024 * 1024];
+        new Random(11).nextBytes(input);
+
+        Thread writer = new Thread(() -> {
+            try {
+                WorkerProtocol.writeJob(new DataOutputStream(pipeOut), COMPILED, new ByteArrayInputStream(input), LIMITS);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        writer.start();
+
+        WorkerProtocol.Job job = WorkerProtocol.readJob(in);
+        assertArrayEquals(input, job.input.readAllBytes());
+        job.input.finish();
+        writer.join(5000);
+    }
+
+    @Test(timeout = 5000)
+    public void reachesEndOfInputWhenChunkQueueIsFull() throws Exception {
+        byte[] input = new byte[4 * 64 * 1024]; // 전달 스레드가 큐를 가득 채운 뒤 입력 끝 표시를 넣어야 하는 크기
+
+        WorkerProtocol.Job job = WorkerProtocol.readJob(new DataInputStream(new ByteArrayInputStream(serialize(input))));
+        Thread.sleep(200);
+
+        assertEquals(input.length, job.input.readAllBytes().length);
+        job.input.finish();
+    }
+
+    @Test
+    public void forkedWorkerStreamsInputLargerThanMemoryLimit() throws IOException {
+        long memoryLimitBytes = 64L * 1024 * 1024;
+        CompilationResult compiled = new InMemoryJavaCompiler().compile("import java.io.*;\n"
+                + "public class Main { public static void main(String[] args) throws IOException {"
+                + " InputStream in = System.in; byte[] buf = new byte[8192]; long total = 0; int n;"
+                + " while ((n = in.read(buf)) > 0) total += n; System.out.println(total); } }");
+        assertTrue(compiled.getMessage(), compiled.isSuccess());
+
+        // 워커 힙(메모리 제한 + 여유분)보다 큰 입력을 부모도 힙에 올리지 않고 생성
+        long inputBytes = 320L * 1024 * 1024;
+        InputStream input = new InputStream() {
+            private long remaining = inputBytes;
+
+            @Override
+            public int read() {
+                return remaining-- > 0 ? 'x' : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (remaining <= 0) {
+                    return -1;
+                }
+                int n = (int) Math.min(len, remaining);
+                Arrays.fill(b, off, off + n, (byte) 'x');
+                remaining -= n;
+                return n;
+            }
+        };
+
+        ForkedJvmSubmissionExecutor executor = new ForkedJvmSubmissionExecutor(1, 10, memoryLimitBytes);
+        try {
+            ExecutionResult result = executor.execute(compiled.getCompiled(), input,
+                    new GradingLimits(10_000, memoryLimitBytes, 1024), () -> false);
+            assertTrue(String.valueOf(result.getFailureVerdict()), result.isCompleted());
+            assertEquals(String.valueOf(inputBytes), result.getOutput().trim());
+        } finally {
+            executor.close();
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void reportsTruncatedInput() throws IOException {
+        byte[] bytes = serialize(new byte[100_000]);
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1000);
+
+        WorkerProtocol.Job job = WorkerProtocol.readJob(new DataInputStream(new ByteArrayInputStream(truncated)));
+        job.input.finish();
+    }
+
+    private static byte[] serialize(byte[] input) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        WorkerProtocol.writeJob(new DataOutputStream(bytes), COMPILED, new ByteArrayInputStream(input), LIMITS);
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,112 @@
+package com.spring.project.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.spring.project.dto.post.PostsDTO;
+import com.spring.project.repository.PostRepository;
+
+/**
+ * PostServiceImpl: 커서 페이징 토큰 생성/해석
+ */
+public class PostServiceImplTest {
+
+    private PostServiceImpl service;
+
+    /** 마지막 findPostsByCursor 호출 인자 */
+    private Timestamp requestedCreatedAt;
+    private int requestedPostId;
+    private int requestedLimit;
+
+    private List<PostsDTO> rows;
+
+    @Before
+    public void setUp() {
+        rows = new ArrayList<>();
+        service = new PostServiceImpl();
+        service.postRepository = new PostRepository() {
+            @Override
+            public List<PostsDTO> findPostsByCursor(Timestamp cursorCreatedAt, int cursorPostId, int limit,
+                                                    Integer category, String keyword) {
+                requestedCreatedAt = cursorCreatedAt;
+                requestedPostId = cursorPostId;
+                requestedLimit = limit;
+                return new ArrayList<>(rows.subList(0, Math.min(limit, rows.size())));
+            }
+        };
+    }
+
+    @Test
+    public void firstPageReadsOneExtraRowToDetectMore() {
+        addPosts(3);
+
+        Map<String, Object> page = service.findPostsByCursor(null, 2, null, null);
+
+        assertNull(requestedCreatedAt);
+        assertEquals(3, requestedLimit);
+        assertEquals(2, ((List<?>) page.get("posts")).size());
+        assertEquals(Boolean.TRUE, page.get("hasMore"));
+        assertNotNull(page.get("nextCursor"));
+    }
+
+    @Test
+    public void nextCursorPointsAtLastReturnedPost() {
+        addPosts(3);
+
+        String cursor = (String) service.findPostsByCursor(null, 2, null, null).get("nextCursor");
+        service.findPostsByCursor(cursor, 2, null, null);
+
+        PostsDTO last = rows.get(1);
+        assertEquals(last.getCreated_at().getTime(), requestedCreatedAt.getTime());
+        assertEquals(last.getPost_id(), requestedPostId);
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+")); // URL 에 그대로 넣을 수 있는 토큰
+    }
+
+    @Test
+    public void lastPageHasNoCursor() {
+        addPosts(2);
+
+        Map<String, Object> page = service.findPostsByCursor(null, 2, null, null);
+
+        assertEquals(Boolean.FALSE, page.get("hasMore"));
+        assertNull(page.get("nextCursor"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsMalformedCursor() {
+        service.findPostsByCursor("not-a-cursor", 10, null, null);
+    }
+
+    @Test
+    public void rejectsCursorWithoutSeparator() {
+        String noSeparator = Base64.getUrlEncoder().encodeToString("12345".getBytes());
+        try {
+            service.findPostsByCursor(noSeparator, 10, null, null);
+            fail("커서 해석에 실패해야 합니다");
+        } catch (IllegalArgumentException expected) {
+            assertEquals("잘못된 페이지 커서입니다.", expected.getMessage());
+        }
+    }
+
+    private void addPosts(int count) {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < count; i++) {
+            PostsDTO post = new PostsDTO();
+            post.setPost_id(100 - i);
+            post.setCreated_at(new Timestamp(now - i * 1000L));
+            rows.add(post);
+        }
+    }
+}
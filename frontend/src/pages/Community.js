@@ -13,7 +13,7 @@
  * - 검색 및 정렬 기능
  */
 
-import { useEffect, useState } from 'react';
+import { useEffect, useRef, useState } from 'react';
 import axios from 'axios';
 import { motion } from 'framer-motion';
 import { FaUsers, FaComments, FaThumbsUp, FaEye, FaCalendar, FaTag, FaEdit, FaSearch } from 'react-icons/fa';
@@ -36,6 +36,8 @@ function Community() {
   const [size, setSize] = useState(10);
   const [totalCount, setTotalCount] = useState(0);
   const totalPages = Math.ceil(totalCount / size);
+  // 다음 페이지 커서 토큰 ("필터:페이지" → 토큰): 알고 있는 페이지는 OFFSET 대신 커서로 이어 읽음
+  const pageCursors = useRef({});
   const [commentCounts, setCommentCounts] = useState({});
   const [selectedDate, setSelectedDate] = useState(null); // 캘린더에서 고른 날짜
   const [postsOnDate, setPostsOnDate] = useState([]);     // 해당 날짜의 게시글 목록
@@ -189,12 +191,14 @@ function Community() {
 
 
   useEffect(() => {
+    const filterKey = `${selectedCategory}|${searchTerm}|${size}`;
     axios.get(`http://localhost:8080/FAF/api/posts`, {
       params: {
         page,
         size,
         category: selectedCategory === 'all' ? null : selectedCategory,
-        keyword: searchTerm || null
+        keyword: searchTerm || null,
+        cursor: page > 1 ? pageCursors.current[`${filterKey}:${page}`] || null : null
       },
       withCredentials: true
     })
@@ -203,7 +207,12 @@ function Community() {
 
           if (response.data && Array.isArray(response.data.data)) {
             setPosts(response.data.data);
-            setTotalCount(response.data.totalCount);
+            if (response.data.nextCursor) {
+              pageCursors.current[`${filterKey}:${page + 1}`] = response.data.nextCursor;
+            }
+            if (response.data.totalCount !== undefined) {
+              setTotalCount(response.data.totalCount);
+            }
           } else {
             console.warn('응답 형식 이상함. data 필드 없음:', response.data);
             setPosts([]); // fallback 처리